@@ -0,0 +1,94 @@
+package pianissimo.jflowty.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import pianissimo.jflowty.unions.*;
+
+import java.util.concurrent.*;
+
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@State (Scope.Thread)
+public class AttemptBenchmark {
+
+	@Param ({"true", "false"})
+	public boolean succeed;
+
+	private String value;
+	private Attempt<String, BenchmarkException> attempt;
+
+	@Setup
+	public void setup () {
+		value = "jflowty";
+		attempt = Attempt.of(this::load);
+	}
+
+	private String load () throws BenchmarkException {
+		if (!succeed) throw BenchmarkException.INSTANCE;
+		return value;
+	}
+
+	private int measure (String input) throws BenchmarkException {
+		if (!succeed) throw BenchmarkException.INSTANCE;
+		return input.length();
+	}
+
+	@Benchmark
+	public Attempt<String, BenchmarkException> attemptOf () {
+		return Attempt.of(this::load);
+	}
+
+	@Benchmark
+	public Object baselineOf () {
+		try {
+			return load();
+		} catch (BenchmarkException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Attempt<Integer, BenchmarkException> attemptTryMap () {
+		return attempt.tryMap(this::measure, BenchmarkException.INSTANCE);
+	}
+
+	@Benchmark
+	public Object baselineTryMap () {
+		try {
+			return measure(load());
+		} catch (BenchmarkException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Attempt<Integer, BenchmarkException> attemptMap () {
+		return attempt.map(String::length);
+	}
+
+	@Benchmark
+	public boolean attemptIsSuccess () {
+		return attempt.isSuccess();
+	}
+
+	@Benchmark
+	public String attemptGetOr () {
+		return attempt.getOr("fallback");
+	}
+
+	@Benchmark
+	public String attemptGetOrRecover () {
+		return attempt.getOrRecover(failure -> "fallback");
+	}
+
+	@Benchmark
+	public String baselineGetOr () {
+		try {
+			return load();
+		} catch (BenchmarkException e) {
+			return "fallback";
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package pianissimo.jflowty.benchmarks;
+
+/**
+ * Pre-allocated, stackless failure so the failure paths measure the union types and not exception creation.
+ */
+final class BenchmarkException extends Exception {
+	static final BenchmarkException INSTANCE = new BenchmarkException();
+
+	private BenchmarkException () {
+		super("benchmark failure", null, false, false);
+	}
+}
@@ -0,0 +1,23 @@
+package pianissimo.jflowty.benchmarks;
+
+import org.openjdk.jmh.profile.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Runs every benchmark in this module with the gc and stack profilers attached, so each result also reports
+ * the bytes allocated per operation and where the time went. Any regular JMH command line option is accepted.
+ */
+public final class BenchmarkRunner {
+
+	private BenchmarkRunner () {}
+
+	public static void main (String[] args) throws RunnerException, CommandLineOptionException {
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.addProfiler(StackProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+}
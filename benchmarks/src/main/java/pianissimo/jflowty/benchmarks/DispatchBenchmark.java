@@ -0,0 +1,86 @@
+package pianissimo.jflowty.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import pianissimo.jflowty.unions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Variant checks over a mixed array of both variants, so the call sites see both subclasses. The baseline reads a
+ * boolean field off an equally mixed array of plain objects.
+ */
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@State (Scope.Thread)
+public class DispatchBenchmark {
+	private static final int SIZE = 1024;
+
+	@SuppressWarnings ("unchecked") private final Option<String>[] options = new Option[SIZE];
+	@SuppressWarnings ("unchecked") private final Attempt<String, Exception>[] attempts = new Attempt[SIZE];
+	@SuppressWarnings ("unchecked") private final Either<String, String>[] eithers = new Either[SIZE];
+	private final Tagged[] tagged = new Tagged[SIZE];
+
+	@Setup
+	public void setup () {
+		Random random = new Random(42);
+		for (int i = 0; i < SIZE; i++) {
+			boolean flag = random.nextBoolean();
+			options[i] = flag ? Option.of("value") : Option.empty();
+			attempts[i] = flag ? Attempt.success("value") : Attempt.failure(BenchmarkException.INSTANCE);
+			eithers[i] = flag ? Either.right("value") : Either.left("value");
+			tagged[i] = new Tagged(flag);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation (SIZE)
+	public int optionIsPresent () {
+		int count = 0;
+		for (Option<String> option : options) if (option.isPresent()) count++;
+		return count;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation (SIZE)
+	public int attemptIsSuccess () {
+		int count = 0;
+		for (Attempt<String, Exception> attempt : attempts) if (attempt.isSuccess()) count++;
+		return count;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation (SIZE)
+	public int eitherIsRight () {
+		int count = 0;
+		for (Either<String, String> either : eithers) if (either.isRight()) count++;
+		return count;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation (SIZE)
+	public int optionGetOr () {
+		int count = 0;
+		for (Option<String> option : options) count += option.getOr("").length();
+		return count;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation (SIZE)
+	public int baselineFieldRead () {
+		int count = 0;
+		for (Tagged value : tagged) if (value.flag) count++;
+		return count;
+	}
+
+	private static final class Tagged {
+		private final boolean flag;
+
+		private Tagged (boolean flag) {
+			this.flag = flag;
+		}
+	}
+}
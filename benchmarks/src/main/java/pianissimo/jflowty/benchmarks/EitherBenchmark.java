@@ -0,0 +1,64 @@
+package pianissimo.jflowty.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import pianissimo.jflowty.unions.*;
+
+import java.util.concurrent.*;
+
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@State (Scope.Thread)
+public class EitherBenchmark {
+
+	@Param ({"true", "false"})
+	public boolean right;
+
+	private String rightValue;
+	private Integer leftValue;
+	private Either<Integer, String> either;
+
+	@Setup
+	public void setup () {
+		rightValue = right ? "jflowty" : null;
+		leftValue = right ? null : 42;
+		either = right ? Either.right(rightValue) : Either.left(leftValue);
+	}
+
+	@Benchmark
+	public Either<Integer, Integer> eitherMapRight () {
+		return either.mapRight(String::length);
+	}
+
+	@Benchmark
+	public Object baselineMapRight () {
+		return rightValue != null ? (Object) rightValue.length() : leftValue;
+	}
+
+	@Benchmark
+	public Either<Integer, Integer> eitherFlatMapRight () {
+		return either.flatMapRight(value -> Either.right(value.length()));
+	}
+
+	@Benchmark
+	public boolean eitherIsRight () {
+		return either.isRight();
+	}
+
+	@Benchmark
+	public String eitherGetRightOr () {
+		return either.getRightOr("fallback");
+	}
+
+	@Benchmark
+	public Integer eitherGetLeftOr () {
+		return either.getLeftOr(-1);
+	}
+
+	@Benchmark
+	public String baselineGetRightOr () {
+		return rightValue != null ? rightValue : "fallback";
+	}
+}
@@ -0,0 +1,80 @@
+package pianissimo.jflowty.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import pianissimo.jflowty.unions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Cost of the throwing accessors under each {@link FailureMode}: a {@code get} on the wrong variant and
+ * {@code getOrThrow} on a failure, caught right away as a request handler would. The Failure carries a large payload
+ * to show that its description is no longer formatted unless the message is read.
+ */
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@State (Scope.Thread)
+public class FailurePathBenchmark {
+
+	@Param ({"TRACED", "STACKLESS"})
+	private FailureMode mode;
+
+	private final Option<String> empty = Option.empty();
+	private final Attempt<String, List<Integer>> largeFailure = Attempt.failure(payload());
+	private final Attempt<String, BenchmarkException> failure = Attempt.failure(BenchmarkException.INSTANCE);
+	private final Either<String, String> left = Either.left("jflowty");
+
+	@Benchmark
+	public Object emptyGet () {
+		try {
+			return empty.get(mode);
+		} catch (UnionTypeException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object largeFailureGet () {
+		try {
+			return largeFailure.get(mode);
+		} catch (UnionTypeException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object largeFailureGetWithMessage () {
+		try {
+			return largeFailure.get(mode);
+		} catch (UnionTypeException e) {
+			return e.getMessage();
+		}
+	}
+
+	@Benchmark
+	public Object leftGetRight () {
+		try {
+			return left.getRight(mode);
+		} catch (UnionTypeException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object failureGetOrThrow () {
+		try {
+			return failure.getOrThrow(mode);
+		} catch (RuntimeException e) {
+			return e;
+		}
+	}
+
+	private static List<Integer> payload () {
+		List<Integer> payload = new ArrayList<>();
+		for (int i = 0; i < 1_000; i++) payload.add(i);
+		return payload;
+	}
+}
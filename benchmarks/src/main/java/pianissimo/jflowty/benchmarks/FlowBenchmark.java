@@ -0,0 +1,46 @@
+package pianissimo.jflowty.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import pianissimo.jflowty.flows.*;
+import pianissimo.jflowty.functions.conversions.*;
+import pianissimo.jflowty.unions.*;
+
+import java.util.concurrent.*;
+
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@State (Scope.Thread)
+public class FlowBenchmark {
+
+	@Param ({"42", "x"})
+	public String input;
+
+	private SuperFunction<String, Option<Integer>> compiled;
+
+	@Setup
+	public void setup () {
+		compiled = Flow.<String>of()
+				.map(String::trim)
+				.filter(value -> !value.isEmpty())
+				.tryMap(Integer::parseInt)
+				.map(value -> value * 2)
+				.toOption();
+	}
+
+	@Benchmark
+	public Option<Integer> compiledFlow () {
+		return compiled.apply(input);
+	}
+
+	@Benchmark
+	public Option<Integer> chainedOption () {
+		return Option.of(input)
+				.map(String::trim)
+				.filter(value -> !value.isEmpty())
+				.tryMap(Integer::parseInt)
+				.map(value -> value * 2);
+	}
+}
@@ -0,0 +1,148 @@
+package pianissimo.jflowty.benchmarks;
+
+import pianissimo.jflowty.resilience.*;
+import pianissimo.jflowty.unions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Deterministic discrete-event simulation of {@link AdaptiveLimiter} in front of a backend with a fixed number of
+ * workers. Requests arrive as a seeded Poisson process and queue for a worker; a request answered later than the
+ * client timeout counts as dropped. The load goes through four phases (normal, overload, backend slowed down to half
+ * its capacity, normal again) and every simulated second prints the limit, goodput, drops, rejections and mean
+ * latency, so algorithms can be compared run for run:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar pianissimo.jflowty.benchmarks.LimiterSimulation [seed]
+ * </pre>
+ */
+public final class LimiterSimulation {
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+	private static final long TIMEOUT = TimeUnit.MILLISECONDS.toNanos(200);
+	private static final int WORKERS = 20;
+	private static final long SERVICE_TIME = TimeUnit.MILLISECONDS.toNanos(10);
+	private static final int PHASE_SECONDS = 10;
+
+	private final Random random;
+	private final PriorityQueue<Event> events = new PriorityQueue<>();
+	private final PriorityQueue<Long> workers = new PriorityQueue<>();
+	private final AdaptiveLimiter limiter;
+	private long now;
+	private long sequence;
+
+	private long good;
+	private long dropped;
+	private long rejected;
+	private long latencySum;
+
+	private LimiterSimulation (AdaptiveLimiter.Algorithm algorithm, long seed) {
+		this.random = new Random(seed);
+		this.limiter = AdaptiveLimiter.builder().algorithm(algorithm).clock(() -> now).build();
+		for (int i = 0; i < WORKERS; i++) workers.add(0L);
+	}
+
+	public static void main (String[] args) {
+		long seed = args.length > 0 ? Long.parseLong(args[0]) : 42;
+		run("aimd", AdaptiveLimiter.aimd(10, 1000), seed);
+		run("gradient", AdaptiveLimiter.gradient(10, 1000), seed);
+		run("unlimited", fixed(100_000), seed);
+	}
+
+	private static AdaptiveLimiter.Algorithm fixed (int limit) {
+		return new AdaptiveLimiter.Algorithm() {
+			@Override public int initialLimit () {
+				return limit;
+			}
+
+			@Override public int update (long latencyNanos, int inFlight, boolean dropped) {
+				return limit;
+			}
+		};
+	}
+
+	private static void run (String name, AdaptiveLimiter.Algorithm algorithm, long seed) {
+		System.out.printf("%n%s%n%4s %6s %8s %8s %8s %10s%n", name, "s", "limit", "good", "dropped", "rejected", "mean ms");
+		new LimiterSimulation(algorithm, seed).simulate(4 * PHASE_SECONDS);
+	}
+
+	private void simulate (int seconds) {
+		schedule(new Event(0, null, false));
+		long reportAt = SECOND;
+		while (!events.isEmpty() && now < seconds * SECOND) {
+			Event event = events.poll();
+			while (event.time >= reportAt) {
+				report(reportAt);
+				reportAt += SECOND;
+			}
+			now = event.time;
+			if (event.permit == null) arrive();
+			else complete(event);
+		}
+	}
+
+	private void arrive () {
+		Option<AdaptiveLimiter.Permit> permit = limiter.tryAcquire();
+		if (permit.isPresent()) {
+			long start = Math.max(now, workers.poll());
+			long done = start + serviceTime();
+			workers.add(done);
+			schedule(new Event(done, permit.get(), done - now > TIMEOUT));
+		} else {
+			rejected++;
+		}
+		double rate = arrivalRate();
+		schedule(new Event(now + (long) (-Math.log(1 - random.nextDouble()) / rate * SECOND), null, false));
+	}
+
+	private void complete (Event event) {
+		if (event.timedOut) {
+			dropped++;
+			event.permit.dropped();
+		} else {
+			good++;
+			latencySum += event.time - event.arrivedAt;
+			event.permit.success();
+		}
+	}
+
+	private double arrivalRate () {
+		int phase = (int) (now / SECOND / PHASE_SECONDS);
+		return phase == 1 ? 4000 : 1500;
+	}
+
+	private long serviceTime () {
+		int phase = (int) (now / SECOND / PHASE_SECONDS);
+		long base = phase == 2 ? 2 * SERVICE_TIME : SERVICE_TIME;
+		return base / 2 + (long) (random.nextDouble() * base);
+	}
+
+	private void report (long at) {
+		double mean = good == 0 ? 0 : latencySum / (double) good / TimeUnit.MILLISECONDS.toNanos(1);
+		System.out.printf("%4d %6d %8d %8d %8d %10.1f%n", at / SECOND, limiter.limit(), good, dropped, rejected, mean);
+		good = dropped = rejected = latencySum = 0;
+	}
+
+	private void schedule (Event event) {
+		event.sequence = sequence++;
+		events.add(event);
+	}
+
+	private final class Event implements Comparable<Event> {
+		private final long time;
+		private final long arrivedAt = now;
+		private final AdaptiveLimiter.Permit permit;
+		private final boolean timedOut;
+		private long sequence;
+
+		private Event (long time, AdaptiveLimiter.Permit permit, boolean timedOut) {
+			this.time = time;
+			this.permit = permit;
+			this.timedOut = timedOut;
+		}
+
+		@Override public int compareTo (Event other) {
+			int byTime = Long.compare(time, other.time);
+			return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package pianissimo.jflowty.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import pianissimo.jflowty.unions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@State (Scope.Thread)
+public class OptionBenchmark {
+
+	@Param ({"true", "false"})
+	public boolean present;
+
+	private String value;
+	private Option<String> option;
+	private Optional<String> optional;
+
+	@Setup
+	public void setup () {
+		value = present ? "jflowty" : null;
+		option = Option.of(value);
+		optional = Optional.ofNullable(value);
+	}
+
+	@Benchmark
+	public Option<Integer> optionMap () {
+		return option.map(String::length);
+	}
+
+	@Benchmark
+	public Optional<Integer> optionalMap () {
+		return optional.map(String::length);
+	}
+
+	@Benchmark
+	public Integer baselineMap () {
+		return value == null ? null : value.length();
+	}
+
+	@Benchmark
+	public Option<String> optionFilter () {
+		return option.filter(some -> some.length() > 3);
+	}
+
+	@Benchmark
+	public Optional<String> optionalFilter () {
+		return optional.filter(some -> some.length() > 3);
+	}
+
+	@Benchmark
+	public String baselineFilter () {
+		return value != null && value.length() > 3 ? value : null;
+	}
+
+	@Benchmark
+	public Option<Integer> optionFlatMap () {
+		return option.flatMap(some -> Option.of(some.length()));
+	}
+
+	@Benchmark
+	public Optional<Integer> optionalFlatMap () {
+		return optional.flatMap(some -> Optional.of(some.length()));
+	}
+
+	@Benchmark
+	public boolean optionIsPresent () {
+		return option.isPresent();
+	}
+
+	@Benchmark
+	public boolean optionalIsPresent () {
+		return optional.isPresent();
+	}
+
+	@Benchmark
+	public String optionGetOr () {
+		return option.getOr("fallback");
+	}
+
+	@Benchmark
+	public String optionGetOrFrom () {
+		return option.getOrFrom(() -> "fallback");
+	}
+
+	@Benchmark
+	public String optionalOrElse () {
+		return optional.orElse("fallback");
+	}
+
+	@Benchmark
+	public String baselineGetOr () {
+		return value != null ? value : "fallback";
+	}
+}
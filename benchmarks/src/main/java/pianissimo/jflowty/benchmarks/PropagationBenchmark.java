@@ -0,0 +1,49 @@
+package pianissimo.jflowty.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import pianissimo.jflowty.unions.*;
+
+import java.util.concurrent.*;
+
+/**
+ * No-op branches with non-capturing functions: propagating an Empty, Failure or Left and keeping a Some that passes
+ * its filter or peek. With the gc profiler every benchmark here is expected to report a gc.alloc.rate.norm of ~0.
+ */
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@State (Scope.Thread)
+public class PropagationBenchmark {
+
+	private final Option<String> some = Option.of("jflowty");
+	private final Option<String> empty = Option.empty();
+	private final Attempt<String, BenchmarkException> failure = Attempt.failure(BenchmarkException.INSTANCE);
+	private final Either<String, String> left = Either.left("jflowty");
+
+	@Benchmark
+	public Option<Integer> emptyMapChain () {
+		return empty.map(String::length).filter(length -> length > 3).flatMap(length -> Option.of(length + 1));
+	}
+
+	@Benchmark
+	public Option<String> someFilterAndPeek () {
+		return some.filter(value -> !value.isEmpty()).ifPresentPeek(value -> {}).recover(() -> "fallback");
+	}
+
+	@Benchmark
+	public Attempt<Integer, BenchmarkException> failureMapChain () {
+		return failure.map(String::length).flatMap(length -> Attempt.success(length + 1)).ifSuccessPeek(value -> {});
+	}
+
+	@Benchmark
+	public Either<String, Integer> leftMapChain () {
+		return left.mapRight(String::length).flatMapRight(length -> Either.right(length + 1)).onRightPeek(value -> {});
+	}
+
+	@Benchmark
+	public String someGetOr () {
+		return some.getOr("fallback");
+	}
+}
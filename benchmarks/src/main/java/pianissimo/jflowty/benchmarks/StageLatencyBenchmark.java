@@ -0,0 +1,45 @@
+package pianissimo.jflowty.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import pianissimo.jflowty.functions.conversions.*;
+import pianissimo.jflowty.instrumentation.*;
+import pianissimo.jflowty.unions.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Overhead of timing a {@code then} stage with {@link StageLatencies}, from four threads sharing one stage, with a
+ * single histogram against one striped per thread.
+ */
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@Threads (4)
+@State (Scope.Benchmark)
+public class StageLatencyBenchmark {
+
+	@Param ({"1", "4"})
+	private int stripes;
+
+	private final Attempt<String, BenchmarkException> success = Attempt.success("jflowty");
+	private final SuperFunction<Attempt<String, BenchmarkException>, Attempt<Integer, BenchmarkException>> stage =
+			attempt -> attempt.map(String::length);
+	private SuperFunction<Attempt<String, BenchmarkException>, Attempt<Integer, BenchmarkException>> timedStage;
+
+	@Setup
+	public void setup () {
+		timedStage = StageLatencies.builder().stripes(stripes).build().timed("length", stage);
+	}
+
+	@Benchmark
+	public Attempt<Integer, BenchmarkException> plainStage () {
+		return success.then(stage);
+	}
+
+	@Benchmark
+	public Attempt<Integer, BenchmarkException> timedStage () {
+		return success.then(timedStage);
+	}
+}
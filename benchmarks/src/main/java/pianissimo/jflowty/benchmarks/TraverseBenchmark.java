@@ -0,0 +1,51 @@
+package pianissimo.jflowty.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import pianissimo.jflowty.unions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.MICROSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@State (Scope.Thread)
+public class TraverseBenchmark {
+
+	@Param ({"100000"})
+	public int size;
+
+	private List<String> inputs;
+	private List<Attempt<Integer, Exception>> attempts;
+
+	@Setup
+	public void setup () {
+		inputs = new ArrayList<>(size);
+		attempts = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			inputs.add(Integer.toString(i));
+			attempts.add(Attempt.success(i));
+		}
+	}
+
+	@Benchmark
+	public Attempt<List<Integer>, NumberFormatException> tryTraverse () {
+		return Attempt.tryTraverse(inputs, Integer::parseInt);
+	}
+
+	@Benchmark
+	public Attempt<List<Integer>, Exception> sequence () {
+		return Attempt.sequence(attempts);
+	}
+
+	@Benchmark
+	public Attempt<List<Integer>, Exception> streamSequence () {
+		if (attempts.stream().anyMatch(Attempt::isFailure)) {
+			return Attempt.failure(attempts.stream().filter(Attempt::isFailure).findFirst().get().getFailure());
+		}
+		return Attempt.success(attempts.stream().map(Attempt::get).collect(Collectors.toList()));
+	}
+}
@@ -0,0 +1,254 @@
+package pianissimo.jflowty.cache;
+
+import pianissimo.jflowty.functions.checked.*;
+import pianissimo.jflowty.functions.conversions.*;
+import pianissimo.jflowty.unions.*;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Batching adapter for a backend with a cheap bulk endpoint. Callers keep asking for one input at a time and get one
+ * {@link Attempt} each, while the inputs requested within {@code window} of the first one, up to
+ * {@code maxBatchSize} distinct inputs, are handed to the batch function in a single call. An input requested twice
+ * within a batch is loaded once.
+ * <p>
+ * An input missing from the batch result fails with {@code onMissing}'s failure, and a failing batch call fails every
+ * input of the batch. With {@link Builder#buildWithFailures} the batch function can also fail inputs one by one, an
+ * input answered with null counting as missing. Anything else going wrong while completing a batch, such as an executor
+ * rejecting it or {@code onMissing} throwing, completes the inputs still waiting exceptionally rather than leaving
+ * their callers hanging.
+ */
+public final class BatchLoader<Input, Output, X extends Exception> implements SuperFunction<Input, Attempt<Output, X>> {
+	private final CheckedFunction<List<Input>, ? extends Map<Input, ?>, X> batchFunction;
+	private final boolean perKeyFailures;
+	private final SuperFunction<Input, X> onMissing;
+	private final int maxBatchSize;
+	private final long window;
+	private final Executor executor;
+	private final ScheduledExecutorService scheduler;
+
+	private final Object lock = new Object();
+	private Batch<Input, Output, X> pending;
+
+	private final LongAdder batches = new LongAdder();
+	private final LongAdder loaded = new LongAdder();
+
+	private BatchLoader (
+			CheckedFunction<List<Input>, ? extends Map<Input, ?>, X> batchFunction,
+			boolean perKeyFailures,
+			SuperFunction<Input, X> onMissing,
+			Builder builder
+	) {
+		this.batchFunction = batchFunction;
+		this.perKeyFailures = perKeyFailures;
+		this.onMissing = onMissing;
+		this.maxBatchSize = builder.maxBatchSize;
+		this.window = builder.window;
+		this.executor = builder.executor == null ? FanOutExecutor.defaultExecutor() : builder.executor;
+		this.scheduler = builder.scheduler == null ? DefaultScheduler.SCHEDULER : builder.scheduler;
+	}
+
+	public static Builder builder () {
+		return new Builder();
+	}
+
+	/**
+	 * Adds the input to the pending batch and waits for the batch to complete.
+	 */
+	@Override
+	public Attempt<Output, X> apply (Input input) {
+		try {
+			return enqueue(input).join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+			if (cause instanceof Error) throw (Error) cause;
+			throw e;
+		}
+	}
+
+	public AsyncAttempt<Output, X> applyAsync (Input input) {
+		return AsyncAttempt.of(enqueue(input), executor);
+	}
+
+	/**
+	 * Sends the pending batch right away instead of waiting for its window to close.
+	 */
+	public void dispatch () {
+		Batch<Input, Output, X> batch;
+		synchronized (lock) {
+			batch = pending;
+			pending = null;
+		}
+		if (batch != null) send(batch);
+	}
+
+	public long batches () {
+		return batches.sum();
+	}
+
+	public long loadedInputs () {
+		return loaded.sum();
+	}
+
+	private CompletableFuture<Attempt<Output, X>> enqueue (Input input) {
+		Batch<Input, Output, X> full = null;
+		CompletableFuture<Attempt<Output, X>> result;
+		synchronized (lock) {
+			Batch<Input, Output, X> batch = pending;
+			if (batch == null) {
+				Batch<Input, Output, X> created = new Batch<>();
+				created.timer = scheduler.schedule(() -> onWindowClosed(created), window, TimeUnit.NANOSECONDS);
+				batch = pending = created;
+			}
+			result = batch.results.get(input);
+			if (result == null) {
+				result = new CompletableFuture<>();
+				batch.results.put(input, result);
+			}
+			if (batch.results.size() >= maxBatchSize) {
+				full = batch;
+				pending = null;
+			}
+		}
+		if (full != null) {
+			full.timer.cancel(false);
+			send(full);
+		}
+		return result;
+	}
+
+	private void onWindowClosed (Batch<Input, Output, X> batch) {
+		synchronized (lock) {
+			if (pending != batch) return;
+			pending = null;
+		}
+		send(batch);
+	}
+
+	private void send (Batch<Input, Output, X> batch) {
+		try {
+			executor.execute(() -> load(batch));
+		} catch (RejectedExecutionException e) {
+			abort(batch, e);
+		}
+	}
+
+	@SuppressWarnings ("unchecked")
+	private void load (Batch<Input, Output, X> batch) {
+		batches.increment();
+		loaded.add(batch.results.size());
+		Map<Input, ?> outputs;
+		try {
+			outputs = batchFunction.apply(new ArrayList<>(batch.results.keySet()));
+		} catch (Exception e) {
+			failAll(batch, (X) e);
+			return;
+		} catch (Error e) {
+			abort(batch, e);
+			throw e;
+		}
+		try {
+			for (Map.Entry<Input, CompletableFuture<Attempt<Output, X>>> entry : batch.results.entrySet()) {
+				Input input = entry.getKey();
+				Object output = outputs == null ? null : outputs.get(input);
+				if (output == null && (perKeyFailures || outputs == null || !outputs.containsKey(input))) {
+					entry.getValue().complete(Attempt.failure(onMissing.apply(input)));
+				} else if (perKeyFailures) {
+					entry.getValue().complete((Attempt<Output, X>) output);
+				} else {
+					entry.getValue().complete(Attempt.success((Output) output));
+				}
+			}
+		} catch (RuntimeException e) {
+			// onMissing throwing, or a batch function answering a plain value where an Attempt was due; the waiting
+			// callers receive it, and nobody would observe it rethrown on the executor's thread
+			abort(batch, e);
+		} catch (Error e) {
+			abort(batch, e);
+			throw e;
+		}
+	}
+
+	private void failAll (Batch<Input, Output, X> batch, X failure) {
+		Attempt<Output, X> failed = Attempt.failure(failure);
+		for (CompletableFuture<Attempt<Output, X>> result : batch.results.values()) result.complete(failed);
+	}
+
+	/**
+	 * Completes the inputs not completed yet exceptionally; the ones already completed keep their result.
+	 */
+	private void abort (Batch<Input, Output, X> batch, Throwable cause) {
+		for (CompletableFuture<Attempt<Output, X>> result : batch.results.values()) result.completeExceptionally(cause);
+	}
+
+	private static final class Batch<Input, Output, X> {
+		private final Map<Input, CompletableFuture<Attempt<Output, X>>> results = new LinkedHashMap<>();
+		private ScheduledFuture<?> timer;
+	}
+
+	private static final class DefaultScheduler {
+		private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "jflowty-batch-timer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public static final class Builder {
+		private int maxBatchSize = 100;
+		private long window = TimeUnit.MILLISECONDS.toNanos(1);
+		private Executor executor;
+		private ScheduledExecutorService scheduler;
+
+		private Builder () {}
+
+		public Builder maxBatchSize (int maxBatchSize) {
+			if (maxBatchSize < 1) throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+			this.maxBatchSize = maxBatchSize;
+			return this;
+		}
+
+		public Builder window (Duration window) {
+			if (window.isNegative()) throw new IllegalArgumentException("Negative window: " + window);
+			this.window = window.toNanos();
+			return this;
+		}
+
+		/**
+		 * Where batch calls run. Defaults to {@link FanOutExecutor#defaultExecutor()}.
+		 */
+		public Builder executor (Executor executor) {
+			this.executor = Objects.requireNonNull(executor);
+			return this;
+		}
+
+		/**
+		 * What closes the batching windows. Defaults to a shared single daemon thread.
+		 */
+		public Builder scheduler (ScheduledExecutorService scheduler) {
+			this.scheduler = Objects.requireNonNull(scheduler);
+			return this;
+		}
+
+		public <Input, Output, X extends Exception> BatchLoader<Input, Output, X> build (
+				CheckedFunction<List<Input>, Map<Input, Output>, X> batchFunction,
+				SuperFunction<Input, X> onMissing
+		) {
+			return new BatchLoader<>(Objects.requireNonNull(batchFunction), false, onMissing, this);
+		}
+
+		/**
+		 * Builds a loader whose batch function answers each input with its own Attempt.
+		 */
+		public <Input, Output, X extends Exception> BatchLoader<Input, Output, X> buildWithFailures (
+				CheckedFunction<List<Input>, Map<Input, Attempt<Output, X>>, X> batchFunction,
+				SuperFunction<Input, X> onMissing
+		) {
+			return new BatchLoader<>(Objects.requireNonNull(batchFunction), true, onMissing, this);
+		}
+	}
+}
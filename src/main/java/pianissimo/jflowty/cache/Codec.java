@@ -0,0 +1,64 @@
+package pianissimo.jflowty.cache;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
+
+/**
+ * Converts keys and values to and from the bytes {@link MappedResultStore} keeps on disk. Encodings of equal keys
+ * must be equal byte for byte, since the store's index compares encoded keys.
+ */
+public interface Codec<T> {
+	byte[] encode (T value);
+
+	T decode (byte[] bytes);
+
+	static Codec<String> utf8 () {
+		return new Codec<String>() {
+			@Override public byte[] encode (String value) {
+				return value.getBytes(StandardCharsets.UTF_8);
+			}
+
+			@Override public String decode (byte[] bytes) {
+				return new String(bytes, StandardCharsets.UTF_8);
+			}
+		};
+	}
+
+	static Codec<Long> longs () {
+		return new Codec<Long>() {
+			@Override public byte[] encode (Long value) {
+				return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+			}
+
+			@Override public Long decode (byte[] bytes) {
+				return ByteBuffer.wrap(bytes).getLong();
+			}
+		};
+	}
+
+	static <T extends Serializable> Codec<T> serializable () {
+		return new Codec<T>() {
+			@Override public byte[] encode (T value) {
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+					output.writeObject(value);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				return bytes.toByteArray();
+			}
+
+			@SuppressWarnings ("unchecked")
+			@Override public T decode (byte[] bytes) {
+				try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+					return (T) input.readObject();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				} catch (ClassNotFoundException e) {
+					throw new IllegalStateException(e);
+				}
+			}
+		};
+	}
+}
@@ -0,0 +1,200 @@
+package pianissimo.jflowty.cache;
+
+import pianissimo.jflowty.functions.checked.*;
+import pianissimo.jflowty.functions.conversions.*;
+import pianissimo.jflowty.unions.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Append-only, memory-mapped store of successful results, for memoized functions that should survive a restart.
+ * <p>
+ * The file starts with a 16 byte header (magic, version and the committed length) followed by records of
+ * {@code [key length][value length][key bytes][value bytes]}. Opening a store only walks the record headers and
+ * indexes the encoded keys; values are decoded lazily when read. A record becomes visible once the committed length
+ * in the header covers it, so a torn write is ignored on the next open. Writing a key again appends a new record
+ * that shadows the old one. A single mapping limits the file to 2 GiB. Opening stops indexing at the first record
+ * whose lengths do not fit within the committed length, and the next write overwrites it.
+ */
+public final class MappedResultStore<K, V> implements Closeable {
+	private static final int MAGIC = 0x4A464C57;
+	private static final int VERSION = 1;
+	private static final int HEADER = 16;
+	private static final int COMMITTED_OFFSET = 8;
+	private static final int RECORD_HEADER = 8;
+
+	private final FileChannel channel;
+	private final Codec<K> keyCodec;
+	private final Codec<V> valueCodec;
+	private final ConcurrentHashMap<ByteBuffer, Integer> index = new ConcurrentHashMap<>();
+
+	private volatile MappedByteBuffer buffer;
+	private int committed;
+
+	private MappedResultStore (FileChannel channel, Codec<K> keyCodec, Codec<V> valueCodec, int capacity)
+			throws IOException {
+		this.channel = channel;
+		this.keyCodec = keyCodec;
+		this.valueCodec = valueCodec;
+		long existing = channel.size();
+		this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(capacity, existing));
+		if (existing < HEADER || buffer.getInt(0) == 0) {
+			buffer.putInt(0, MAGIC).putInt(4, VERSION).putLong(COMMITTED_OFFSET, HEADER);
+			committed = HEADER;
+		} else {
+			if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+				throw new IOException("Not a result store or unsupported version");
+			}
+			long length = buffer.getLong(COMMITTED_OFFSET);
+			committed = (int) Math.max(HEADER, Math.min(length, buffer.capacity()));
+			loadIndex();
+		}
+	}
+
+	public static <K, V> MappedResultStore<K, V> open (Path path, Codec<K> keyCodec, Codec<V> valueCodec)
+			throws IOException {
+		return open(path, keyCodec, valueCodec, 1 << 20);
+	}
+
+	public static <K, V> MappedResultStore<K, V> open (
+			Path path,
+			Codec<K> keyCodec,
+			Codec<V> valueCodec,
+			int initialCapacity
+	) throws IOException {
+		if (initialCapacity < HEADER) throw new IllegalArgumentException("initialCapacity too small: " + initialCapacity);
+		FileChannel channel = FileChannel.open(
+				path,
+				StandardOpenOption.CREATE,
+				StandardOpenOption.READ,
+				StandardOpenOption.WRITE
+		);
+		try {
+			return new MappedResultStore<>(
+					channel,
+					Objects.requireNonNull(keyCodec),
+					Objects.requireNonNull(valueCodec),
+					initialCapacity
+			);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Decorates the function so successes are served from, and written through to, this store. Failures are
+	 * returned as they are and never persisted. The store never fails a call: an entry that cannot be read or
+	 * decoded counts as a miss, and a result that cannot be written, for instance once the store is full, is returned
+	 * without being stored.
+	 */
+	public <X extends Exception> SuperFunction<K, Attempt<V, X>> memoize (CheckedFunction<K, V, X> function) {
+		SuperFunction<K, Attempt<V, X>> loader = Attempt.of(function);
+		return key -> {
+			Option<V> stored = tryGet(key);
+			if (stored.isPresent()) return Attempt.success(stored.get());
+			Attempt<V, X> result = loader.apply(key);
+			if (result.isSuccess()) tryPut(key, result.get());
+			return result;
+		};
+	}
+
+	public Option<V> get (K key) {
+		Integer position = index.get(ByteBuffer.wrap(keyCodec.encode(key)));
+		if (position == null) return Option.empty();
+		ByteBuffer view = buffer.duplicate();
+		int keyLength = view.getInt(position);
+		byte[] value = new byte[view.getInt(position + 4)];
+		view.position(position + RECORD_HEADER + keyLength);
+		view.get(value);
+		return Option.of(valueCodec.decode(value));
+	}
+
+	public synchronized void put (K key, V value) {
+		byte[] keyBytes = keyCodec.encode(key);
+		byte[] valueBytes = valueCodec.encode(value);
+		long length = (long) RECORD_HEADER + keyBytes.length + valueBytes.length;
+		int position = committed;
+		ensureCapacity(position + length);
+
+		ByteBuffer view = buffer.duplicate();
+		view.position(position);
+		view.putInt(keyBytes.length).putInt(valueBytes.length).put(keyBytes).put(valueBytes);
+		committed = position + (int) length;
+		view.putLong(COMMITTED_OFFSET, committed);
+		index.put(ByteBuffer.wrap(keyBytes), position);
+	}
+
+	public boolean contains (K key) {
+		return index.containsKey(ByteBuffer.wrap(keyCodec.encode(key)));
+	}
+
+	public int size () {
+		return index.size();
+	}
+
+	public synchronized void flush () {
+		buffer.force();
+	}
+
+	@Override
+	public synchronized void close () throws IOException {
+		buffer.force();
+		channel.close();
+	}
+
+	private Option<V> tryGet (K key) {
+		try {
+			return get(key);
+		} catch (RuntimeException e) {
+			return Option.empty();
+		}
+	}
+
+	private void tryPut (K key, V value) {
+		try {
+			put(key, value);
+		} catch (RuntimeException e) {
+			// the result is still returned, only not persisted
+		}
+	}
+
+	private void loadIndex () {
+		ByteBuffer view = buffer.duplicate();
+		int position = HEADER;
+		while (position < committed) {
+			if (committed - position < RECORD_HEADER) break;
+			int keyLength = view.getInt(position);
+			int valueLength = view.getInt(position + 4);
+			if (keyLength < 0 || valueLength < 0) break;
+			long end = (long) position + RECORD_HEADER + keyLength + valueLength;
+			if (end > committed) break;
+			byte[] key = new byte[keyLength];
+			view.position(position + RECORD_HEADER);
+			view.get(key);
+			index.put(ByteBuffer.wrap(key), position);
+			position = (int) end;
+		}
+		if (position != committed) {
+			committed = position;
+			buffer.putLong(COMMITTED_OFFSET, committed);
+		}
+	}
+
+	private void ensureCapacity (long required) {
+		int capacity = buffer.capacity();
+		if (required <= capacity) return;
+		if (required > Integer.MAX_VALUE) throw new IllegalStateException("Result store is full");
+		long grown = Math.min(Integer.MAX_VALUE, Math.max(required, (long) capacity << 1));
+		try {
+			buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, grown);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
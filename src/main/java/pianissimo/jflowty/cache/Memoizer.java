@@ -0,0 +1,236 @@
+package pianissimo.jflowty.cache;
+
+import pianissimo.jflowty.functions.checked.*;
+import pianissimo.jflowty.functions.conversions.*;
+import pianissimo.jflowty.unions.*;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * Memoizing decorator for a {@link CheckedFunction}, returning the cached {@link Attempt} for inputs seen before.
+ * Entries live in a {@link ConcurrentHashMap} bounded by {@code maximumSize}; the eviction order is kept in a lock-free
+ * queue, either in plain insertion order ({@link Eviction#FIFO}) or with a second chance for entries read since
+ * their last pass ({@link Eviction#LRU}, the CLOCK approximation of least-recently-used). Successes and failures can
+ * expire after separate durations, so failing keys are retried sooner without hammering the backend; unless configured
+ * otherwise, failures are kept for at most a second.
+ * <p>
+ * Only live entries count toward {@code maximumSize}. Entries invalidated or expired leave a stale slot in the queue,
+ * which is dropped when eviction reaches it, or by a sweep once stale slots outnumber {@code maximumSize}.
+ */
+public final class Memoizer<Input, Output, X extends Exception> implements SuperFunction<Input, Attempt<Output, X>> {
+	private static final Object NULL_KEY = new Object();
+	private static final long NEVER = Long.MAX_VALUE;
+	private static final long DEFAULT_FAILURE_TTL = TimeUnit.SECONDS.toNanos(1);
+
+	private final SuperFunction<Input, Attempt<Output, X>> loader;
+	private final int maximumSize;
+	private final boolean secondChance;
+	private final long successTtl;
+	private final long failureTtl;
+	private final LongSupplier clock;
+
+	private final ConcurrentHashMap<Object, Entry<Output, X>> entries = new ConcurrentHashMap<>();
+	private final ConcurrentLinkedQueue<Entry<Output, X>> order = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger queued = new AtomicInteger();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	private Memoizer (CheckedFunction<Input, Output, X> function, Builder builder) {
+		this.loader = Attempt.of(function);
+		this.maximumSize = builder.maximumSize;
+		this.secondChance = builder.eviction == Eviction.LRU;
+		this.successTtl = builder.expireAfterWrite;
+		this.failureTtl = builder.failureTtl < 0
+				? Math.min(builder.expireAfterWrite, DEFAULT_FAILURE_TTL)
+				: builder.failureTtl;
+		this.clock = builder.clock;
+	}
+
+	public static <Input, Output, X extends Exception> Memoizer<Input, Output, X> of (
+			CheckedFunction<Input, Output, X> function,
+			int maximumSize
+	) {
+		return builder().maximumSize(maximumSize).build(function);
+	}
+
+	public static Builder builder () {
+		return new Builder();
+	}
+
+	@Override
+	public Attempt<Output, X> apply (Input input) {
+		Object key = input == null ? NULL_KEY : input;
+		Entry<Output, X> entry = entries.get(key);
+		if (entry != null) {
+			if (entry.expiresAt == NEVER || clock.getAsLong() - entry.expiresAt < 0) {
+				// a plain read while already marked, so hot keys do not contend on the volatile write
+				if (secondChance && !entry.accessed) entry.accessed = true;
+				hits.increment();
+				return entry.value;
+			}
+			entries.remove(key, entry);
+		}
+		misses.increment();
+
+		Attempt<Output, X> value = loader.apply(input);
+		long ttl = value.isSuccess() ? successTtl : failureTtl;
+		if (ttl == 0) return value;
+		Entry<Output, X> loaded = new Entry<>(key, value, ttl == NEVER ? NEVER : clock.getAsLong() + ttl);
+		entries.put(key, loaded);
+		order.offer(loaded);
+		int slots = queued.incrementAndGet();
+		if (slots > maximumSize && (entries.size() > maximumSize || slots > 2 * maximumSize)) evict();
+		return value;
+	}
+
+	public void invalidate (Input input) {
+		entries.remove(input == null ? NULL_KEY : input);
+	}
+
+	public void invalidateAll () {
+		entries.clear();
+	}
+
+	public int size () {
+		return entries.size();
+	}
+
+	public Stats stats () {
+		return new Stats(hits.sum(), misses.sum(), evictions.sum());
+	}
+
+	/**
+	 * Evicts live entries while there are more than {@code maximumSize} of them, and otherwise only sweeps stale slots,
+	 * requeueing the live entries it passes, until they no longer outnumber {@code maximumSize}.
+	 */
+	private void evict () {
+		while (entries.size() > maximumSize || queued.get() > 2 * maximumSize) {
+			Entry<Output, X> candidate = order.poll();
+			if (candidate == null) return;
+			queued.decrementAndGet();
+			if (entries.get(candidate.key) != candidate) continue;
+			if (entries.size() <= maximumSize) {
+				requeue(candidate);
+			} else if (secondChance && candidate.accessed) {
+				candidate.accessed = false;
+				requeue(candidate);
+			} else if (entries.remove(candidate.key, candidate)) {
+				evictions.increment();
+			}
+		}
+	}
+
+	private void requeue (Entry<Output, X> entry) {
+		order.offer(entry);
+		queued.incrementAndGet();
+	}
+
+	public enum Eviction {LRU, FIFO}
+
+	public static final class Builder {
+		private int maximumSize = 1024;
+		private Eviction eviction = Eviction.LRU;
+		private long expireAfterWrite = NEVER;
+		private long failureTtl = -1;
+		private LongSupplier clock = System::nanoTime;
+
+		private Builder () {}
+
+		public Builder maximumSize (int maximumSize) {
+			if (maximumSize <= 0) throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+			this.maximumSize = maximumSize;
+			return this;
+		}
+
+		public Builder eviction (Eviction eviction) {
+			this.eviction = Objects.requireNonNull(eviction);
+			return this;
+		}
+
+		public Builder expireAfterWrite (Duration duration) {
+			this.expireAfterWrite = toNanos(duration);
+			return this;
+		}
+
+		/**
+		 * Time-to-live of cached failures, defaulting to one second or {@link #expireAfterWrite}, whichever is shorter. A
+		 * zero duration never caches them.
+		 */
+		public Builder failureTtl (Duration duration) {
+			this.failureTtl = toNanos(duration);
+			return this;
+		}
+
+		public Builder clock (LongSupplier nanoTime) {
+			this.clock = Objects.requireNonNull(nanoTime);
+			return this;
+		}
+
+		public <Input, Output, X extends Exception> Memoizer<Input, Output, X> build (
+				CheckedFunction<Input, Output, X> function
+		) {
+			return new Memoizer<>(Objects.requireNonNull(function), this);
+		}
+
+		private static long toNanos (Duration duration) {
+			if (duration.isNegative()) throw new IllegalArgumentException("Negative duration: " + duration);
+			try {
+				return duration.toNanos();
+			} catch (ArithmeticException e) {
+				return NEVER;
+			}
+		}
+	}
+
+	public static final class Stats {
+		private final long hits;
+		private final long misses;
+		private final long evictions;
+
+		private Stats (long hits, long misses, long evictions) {
+			this.hits = hits;
+			this.misses = misses;
+			this.evictions = evictions;
+		}
+
+		public long hits () {
+			return hits;
+		}
+
+		public long misses () {
+			return misses;
+		}
+
+		public long evictions () {
+			return evictions;
+		}
+
+		public double hitRate () {
+			long requests = hits + misses;
+			return requests == 0 ? 1.0 : (double) hits / requests;
+		}
+
+		@Override public String toString () {
+			return String.format("Stats(hits=%d, misses=%d, evictions=%d)", hits, misses, evictions);
+		}
+	}
+
+	private static final class Entry<Output, X extends Exception> {
+		private final Object key;
+		private final Attempt<Output, X> value;
+		private final long expiresAt;
+		private volatile boolean accessed;
+
+		private Entry (Object key, Attempt<Output, X> value, long expiresAt) {
+			this.key = key;
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package pianissimo.jflowty.cache;
+
+import pianissimo.jflowty.functions.checked.*;
+import pianissimo.jflowty.functions.conversions.*;
+import pianissimo.jflowty.unions.*;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Coalescing decorator for a {@link CheckedFunction}: while a call for a key is in flight, every other caller asking
+ * for the same key waits for that call instead of starting its own, and all of them receive the same {@link Attempt}.
+ * Nothing is kept once the call completes, so unlike {@link Memoizer} the next caller runs the function again.
+ * <p>
+ * In-flight calls live in a {@link ConcurrentHashMap}, whose per-bin locking is the only contention; the leading call
+ * removes its own entry, compare-and-remove style, before publishing the result. Synchronous and asynchronous callers
+ * share the same in-flight calls.
+ */
+public final class SingleFlight<Input, Output, X extends Exception> implements SuperFunction<Input, Attempt<Output, X>> {
+	private static final Object NULL_KEY = new Object();
+
+	private final SuperFunction<Input, Attempt<Output, X>> loader;
+	private final ConcurrentHashMap<Object, CompletableFuture<Attempt<Output, X>>> inFlight = new ConcurrentHashMap<>();
+	private final LongAdder calls = new LongAdder();
+	private final LongAdder shared = new LongAdder();
+
+	private SingleFlight (CheckedFunction<Input, Output, X> function) {
+		this.loader = Attempt.of(function);
+	}
+
+	public static <Input, Output, X extends Exception> SingleFlight<Input, Output, X> of (
+			CheckedFunction<Input, Output, X> function
+	) {
+		return new SingleFlight<>(function);
+	}
+
+	/**
+	 * Runs the function on the calling thread, or waits for the call already in flight for the same input.
+	 */
+	@Override
+	public Attempt<Output, X> apply (Input input) {
+		Object key = input == null ? NULL_KEY : input;
+		CompletableFuture<Attempt<Output, X>> existing = inFlight.get(key);
+		if (existing != null) return join(existing);
+		CompletableFuture<Attempt<Output, X>> call = new CompletableFuture<>();
+		existing = inFlight.putIfAbsent(key, call);
+		if (existing != null) return join(existing);
+		return lead(key, input, call);
+	}
+
+	/**
+	 * Starts the function on the executor, or joins the call already in flight for the same input, without blocking.
+	 * When the executor rejects the call, the call completes exceptionally with the rejection for this caller and for
+	 * anyone who joined it meanwhile.
+	 */
+	public AsyncAttempt<Output, X> applyAsync (Input input, Executor executor) {
+		Object key = input == null ? NULL_KEY : input;
+		CompletableFuture<Attempt<Output, X>> existing = inFlight.get(key);
+		if (existing != null) return share(existing, executor);
+		CompletableFuture<Attempt<Output, X>> call = new CompletableFuture<>();
+		existing = inFlight.putIfAbsent(key, call);
+		if (existing != null) return share(existing, executor);
+		try {
+			executor.execute(() -> lead(key, input, call));
+		} catch (RejectedExecutionException e) {
+			inFlight.remove(key, call);
+			call.completeExceptionally(e);
+		}
+		return AsyncAttempt.of(call, executor);
+	}
+
+	public SuperFunction<Input, AsyncAttempt<Output, X>> async (Executor executor) {
+		return input -> applyAsync(input, executor);
+	}
+
+	public int inFlight () {
+		return inFlight.size();
+	}
+
+	/**
+	 * Calls that actually ran the function.
+	 */
+	public long calls () {
+		return calls.sum();
+	}
+
+	/**
+	 * Callers served by a call another caller started.
+	 */
+	public long shared () {
+		return shared.sum();
+	}
+
+	private Attempt<Output, X> lead (Object key, Input input, CompletableFuture<Attempt<Output, X>> call) {
+		calls.increment();
+		Attempt<Output, X> result;
+		try {
+			result = loader.apply(input);
+		} catch (Error e) {
+			inFlight.remove(key, call);
+			call.completeExceptionally(e);
+			throw e;
+		}
+		inFlight.remove(key, call);
+		call.complete(result);
+		return result;
+	}
+
+	private Attempt<Output, X> join (CompletableFuture<Attempt<Output, X>> call) {
+		shared.increment();
+		try {
+			return call.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+			if (cause instanceof Error) throw (Error) cause;
+			throw e;
+		}
+	}
+
+	private AsyncAttempt<Output, X> share (CompletableFuture<Attempt<Output, X>> call, Executor executor) {
+		shared.increment();
+		return AsyncAttempt.of(call, executor);
+	}
+}
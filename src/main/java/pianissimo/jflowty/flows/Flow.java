@@ -0,0 +1,175 @@
+package pianissimo.jflowty.flows;
+
+import pianissimo.jflowty.functions.checked.*;
+import pianissimo.jflowty.functions.conversions.*;
+import pianissimo.jflowty.instrumentation.*;
+import pianissimo.jflowty.unions.*;
+
+import java.util.*;
+
+/**
+ * A reusable pipeline of map, filter and tryMap stages. Stages are recorded once and compiled on
+ * {@link #toOption()} / {@link #toAttempt(SuperSupplier)}, where runs of adjacent map and filter stages are fused into
+ * a single stage. Applying the compiled function allocates only the resulting Option or Attempt.
+ */
+public final class Flow<I, O> {
+	private static final Object DROPPED = new Object();
+	private static final Stage[] NO_STAGES = new Stage[0];
+
+	private final Flow<I, ?> previous;
+	private final Kind kind;
+	private final Object function;
+	private final int size;
+
+	private Flow (Flow<I, ?> previous, Kind kind, Object function) {
+		this.previous = previous;
+		this.kind = kind;
+		this.function = function;
+		this.size = previous == null ? 0 : previous.size + 1;
+	}
+
+	public static <I> Flow<I, I> of () {
+		return new Flow<>(null, null, null);
+	}
+
+	public <R> Flow<I, R> map (SuperFunction<O, R> mapper) {
+		return new Flow<>(this, Kind.MAP, Objects.requireNonNull(mapper));
+	}
+
+	public Flow<I, O> filter (SuperPredicate<O> predicate) {
+		return new Flow<>(this, Kind.FILTER, Objects.requireNonNull(predicate));
+	}
+
+	public <R, X extends Exception> Flow<I, R> tryMap (CheckedFunction<O, R, X> function) {
+		return new Flow<>(this, Kind.TRY_MAP, Objects.requireNonNull(function));
+	}
+
+	/**
+	 * Compiles the flow with Option semantics: a null value, a rejected filter or an exception thrown by a tryMap stage
+	 * ends in an empty Option. Exceptions thrown by map and filter stages propagate, as they do from Option.map.
+	 */
+	public SuperFunction<I, Option<O>> toOption () {
+		Stage[] stages = compile(true);
+		return input -> {
+			try {
+				Object result = run(stages, input, true);
+				if (result == DROPPED) return Option.empty();
+				O value = cast(result);
+				return Option.of(value);
+			} catch (StageFailure e) {
+				return Option.empty();
+			}
+		};
+	}
+
+	/**
+	 * Compiles the flow with Attempt semantics: an exception thrown by a tryMap stage ends in a failure holding it, a
+	 * rejected filter ends in a failure from {@code onFiltered} and null values are passed on like any other value.
+	 * Exceptions thrown by map and filter stages propagate, as they do from Attempt.map.
+	 */
+	public SuperFunction<I, Attempt<O, Exception>> toAttempt (SuperSupplier<Exception> onFiltered) {
+		Stage[] stages = compile(false);
+		return input -> {
+			try {
+				Object result = run(stages, input, false);
+				return result == DROPPED ? Attempt.failure(onFiltered.get()) : Attempt.success(cast(result));
+			} catch (StageFailure e) {
+				return Attempt.failure((Exception) e.getCause());
+			}
+		};
+	}
+
+	private static Object run (Stage[] stages, Object input, boolean nullIsEmpty) throws StageFailure {
+		Object value = input;
+		if (value == null && nullIsEmpty) return DROPPED;
+		for (Stage stage : stages) {
+			value = stage.apply(value);
+			if (value == DROPPED || value == null && nullIsEmpty) return DROPPED;
+		}
+		return value;
+	}
+
+	@SuppressWarnings ("unchecked")
+	private Stage[] compile (boolean nullIsEmpty) {
+		Flow<I, ?>[] flows = (Flow<I, ?>[]) new Flow<?, ?>[size];
+		Flow<I, ?> current = this;
+		for (int i = size - 1; i >= 0; i--, current = current.previous) flows[i] = current;
+
+		List<Stage> stages = new ArrayList<>(size);
+		Stage fused = null;
+		for (Flow<I, ?> flow : flows) {
+			if (flow.kind == Kind.TRY_MAP) {
+				if (fused != null) stages.add(fused);
+				fused = null;
+				stages.add(tryMapStage(flow.function));
+				continue;
+			}
+			Stage stage = flow.kind == Kind.MAP ? mapStage(flow.function) : filterStage(flow.function);
+			fused = fused == null ? stage : fuse(fused, stage, nullIsEmpty);
+		}
+		if (fused != null) stages.add(fused);
+		return stages.toArray(NO_STAGES);
+	}
+
+	@SuppressWarnings ("unchecked")
+	private static Stage mapStage (Object function) {
+		SuperFunction<Object, Object> mapper = (SuperFunction<Object, Object>) function;
+		return mapper::apply;
+	}
+
+	@SuppressWarnings ("unchecked")
+	private static Stage tryMapStage (Object function) {
+		CheckedFunction<Object, Object, ?> checked = (CheckedFunction<Object, Object, ?>) function;
+		return value -> {
+			try {
+				return checked.apply(value);
+			} catch (Exception e) {
+				Instrumentation instrumentation = Instrumentation.current();
+				if (instrumentation != Instrumentation.noop()) instrumentation.failureCaptured("Flow.tryMap", e);
+				throw new StageFailure(e);
+			}
+		};
+	}
+
+	@SuppressWarnings ("unchecked")
+	private static Stage filterStage (Object function) {
+		SuperPredicate<Object> predicate = (SuperPredicate<Object>) function;
+		return value -> predicate.test(value) ? value : DROPPED;
+	}
+
+	private static Stage fuse (Stage first, Stage second, boolean nullIsEmpty) {
+		if (nullIsEmpty) {
+			return value -> {
+				Object next = first.apply(value);
+				return next == DROPPED || next == null ? DROPPED : second.apply(next);
+			};
+		}
+		return value -> {
+			Object next = first.apply(value);
+			return next == DROPPED ? DROPPED : second.apply(next);
+		};
+	}
+
+	@SuppressWarnings ("unchecked")
+	private static <T> T cast (Object value) {
+		return (T) value;
+	}
+
+	private enum Kind {MAP, FILTER, TRY_MAP}
+
+	@FunctionalInterface
+	private interface Stage {
+		Object apply (Object value) throws StageFailure;
+	}
+
+	/**
+	 * Carries an exception thrown by a tryMap stage out of the fused stages, so that only those are captured.
+	 */
+	private static final class StageFailure extends Exception {
+		private static final long serialVersionUID = 1L;
+
+		private StageFailure (Exception cause) {
+			super(null, cause, false, false);
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package pianissimo.jflowty.functions.checked;
+
+import java.util.function.*;
+
+@FunctionalInterface
+public interface CheckedDoubleConsumer<X extends Exception> extends CheckedFunction<Double, Void, X> {
+	void accept(double input) throws X;
+
+	@Override
+	default Void apply(Double input) throws X {
+		accept(input);
+		return null;
+	}
+
+	static <X extends Exception> DoubleConsumer throwing(CheckedDoubleConsumer<X> checkedConsumer) {
+		return input -> {
+			try {
+				checkedConsumer.accept(input);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	static <X extends Exception> CheckedDoubleConsumer<X> mock(DoubleConsumer consumer) {
+		return consumer::accept;
+	}
+}
@@ -0,0 +1,27 @@
+package pianissimo.jflowty.functions.checked;
+
+import java.util.function.*;
+
+@FunctionalInterface
+public interface CheckedDoubleFunction<Output, X extends Exception> extends CheckedFunction<Double, Output, X> {
+	Output apply(double input) throws X;
+
+	@Override
+	default Output apply(Double input) throws X {
+		return apply(input.doubleValue());
+	}
+
+	static <Output, X extends Exception> DoubleFunction<Output> throwing(CheckedDoubleFunction<Output, X> checkedFunction) {
+		return input -> {
+			try {
+				return checkedFunction.apply(input);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	static <Output, X extends Exception> CheckedDoubleFunction<Output, X> mock(DoubleFunction<Output> function) {
+		return function::apply;
+	}
+}
@@ -0,0 +1,27 @@
+package pianissimo.jflowty.functions.checked;
+
+import java.util.function.*;
+
+@FunctionalInterface
+public interface CheckedDoublePredicate<X extends Exception> extends CheckedFunction<Double, Boolean, X> {
+	boolean test(double input) throws X;
+
+	@Override
+	default Boolean apply(Double input) throws X {
+		return test(input);
+	}
+
+	static <X extends Exception> DoublePredicate throwing(CheckedDoublePredicate<X> checkedPredicate) {
+		return input -> {
+			try {
+				return checkedPredicate.test(input);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	static <X extends Exception> CheckedDoublePredicate<X> mock(DoublePredicate predicate) {
+		return predicate::test;
+	}
+}
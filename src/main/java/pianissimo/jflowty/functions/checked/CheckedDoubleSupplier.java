@@ -0,0 +1,27 @@
+package pianissimo.jflowty.functions.checked;
+
+import java.util.function.*;
+
+@FunctionalInterface
+public interface CheckedDoubleSupplier<X extends Exception> extends CheckedSupplier<Double, X> {
+	double getAsDouble() throws X;
+
+	@Override
+	default Double get() throws X {
+		return getAsDouble();
+	}
+
+	static <X extends Exception> DoubleSupplier throwing(CheckedDoubleSupplier<X> checkedSupplier) {
+		return () -> {
+			try {
+				return checkedSupplier.getAsDouble();
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	static <X extends Exception> CheckedDoubleSupplier<X> mock(DoubleSupplier supplier) {
+		return supplier::getAsDouble;
+	}
+}
@@ -0,0 +1,27 @@
+package pianissimo.jflowty.functions.checked;
+
+import java.util.function.*;
+
+@FunctionalInterface
+public interface CheckedDoubleUnaryOperator<X extends Exception> extends CheckedFunction<Double, Double, X> {
+	double applyAsDouble(double input) throws X;
+
+	@Override
+	default Double apply(Double input) throws X {
+		return applyAsDouble(input);
+	}
+
+	static <X extends Exception> DoubleUnaryOperator throwing(CheckedDoubleUnaryOperator<X> checkedOperator) {
+		return input -> {
+			try {
+				return checkedOperator.applyAsDouble(input);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	static <X extends Exception> CheckedDoubleUnaryOperator<X> mock(DoubleUnaryOperator operator) {
+		return operator::applyAsDouble;
+	}
+}
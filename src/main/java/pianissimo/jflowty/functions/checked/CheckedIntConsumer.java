@@ -0,0 +1,28 @@
+package pianissimo.jflowty.functions.checked;
+
+import java.util.function.*;
+
+@FunctionalInterface
+public interface CheckedIntConsumer<X extends Exception> extends CheckedFunction<Integer, Void, X> {
+	void accept(int input) throws X;
+
+	@Override
+	default Void apply(Integer input) throws X {
+		accept(input);
+		return null;
+	}
+
+	static <X extends Exception> IntConsumer throwing(CheckedIntConsumer<X> checkedConsumer) {
+		return input -> {
+			try {
+				checkedConsumer.accept(input);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	static <X extends Exception> CheckedIntConsumer<X> mock(IntConsumer consumer) {
+		return consumer::accept;
+	}
+}
@@ -0,0 +1,27 @@
+package pianissimo.jflowty.functions.checked;
+
+import java.util.function.*;
+
+@FunctionalInterface
+public interface CheckedIntFunction<Output, X extends Exception> extends CheckedFunction<Integer, Output, X> {
+	Output apply(int input) throws X;
+
+	@Override
+	default Output apply(Integer input) throws X {
+		return apply(input.intValue());
+	}
+
+	static <Output, X extends Exception> IntFunction<Output> throwing(CheckedIntFunction<Output, X> checkedFunction) {
+		return input -> {
+			try {
+				return checkedFunction.apply(input);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	static <Output, X extends Exception> CheckedIntFunction<Output, X> mock(IntFunction<Output> function) {
+		return function::apply;
+	}
+}
@@ -0,0 +1,27 @@
+package pianissimo.jflowty.functions.checked;
+
+import java.util.function.*;
+
+@FunctionalInterface
+public interface CheckedIntPredicate<X extends Exception> extends CheckedFunction<Integer, Boolean, X> {
+	boolean test(int input) throws X;
+
+	@Override
+	default Boolean apply(Integer input) throws X {
+		return test(input);
+	}
+
+	static <X extends Exception> IntPredicate throwing(CheckedIntPredicate<X> checkedPredicate) {
+		return input -> {
+			try {
+				return checkedPredicate.test(input);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	static <X extends Exception> CheckedIntPredicate<X> mock(IntPredicate predicate) {
+		return predicate::test;
+	}
+}
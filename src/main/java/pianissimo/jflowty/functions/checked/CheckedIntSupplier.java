@@ -0,0 +1,27 @@
+package pianissimo.jflowty.functions.checked;
+
+import java.util.function.*;
+
+@FunctionalInterface
+public interface CheckedIntSupplier<X extends Exception> extends CheckedSupplier<Integer, X> {
+	int getAsInt() throws X;
+
+	@Override
+	default Integer get() throws X {
+		return getAsInt();
+	}
+
+	static <X extends Exception> IntSupplier throwing(CheckedIntSupplier<X> checkedSupplier) {
+		return () -> {
+			try {
+				return checkedSupplier.getAsInt();
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	static <X extends Exception> CheckedIntSupplier<X> mock(IntSupplier supplier) {
+		return supplier::getAsInt;
+	}
+}
@@ -0,0 +1,27 @@
+package pianissimo.jflowty.functions.checked;
+
+import java.util.function.*;
+
+@FunctionalInterface
+public interface CheckedIntUnaryOperator<X extends Exception> extends CheckedFunction<Integer, Integer, X> {
+	int applyAsInt(int input) throws X;
+
+	@Override
+	default Integer apply(Integer input) throws X {
+		return applyAsInt(input);
+	}
+
+	static <X extends Exception> IntUnaryOperator throwing(CheckedIntUnaryOperator<X> checkedOperator) {
+		return input -> {
+			try {
+				return checkedOperator.applyAsInt(input);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	static <X extends Exception> CheckedIntUnaryOperator<X> mock(IntUnaryOperator operator) {
+		return operator::applyAsInt;
+	}
+}
@@ -0,0 +1,28 @@
+package pianissimo.jflowty.functions.checked;
+
+import java.util.function.*;
+
+@FunctionalInterface
+public interface CheckedLongConsumer<X extends Exception> extends CheckedFunction<Long, Void, X> {
+	void accept(long input) throws X;
+
+	@Override
+	default Void apply(Long input) throws X {
+		accept(input);
+		return null;
+	}
+
+	static <X extends Exception> LongConsumer throwing(CheckedLongConsumer<X> checkedConsumer) {
+		return input -> {
+			try {
+				checkedConsumer.accept(input);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	static <X extends Exception> CheckedLongConsumer<X> mock(LongConsumer consumer) {
+		return consumer::accept;
+	}
+}
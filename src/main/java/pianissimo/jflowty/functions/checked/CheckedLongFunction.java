@@ -0,0 +1,27 @@
+package pianissimo.jflowty.functions.checked;
+
+import java.util.function.*;
+
+@FunctionalInterface
+public interface CheckedLongFunction<Output, X extends Exception> extends CheckedFunction<Long, Output, X> {
+	Output apply(long input) throws X;
+
+	@Override
+	default Output apply(Long input) throws X {
+		return apply(input.longValue());
+	}
+
+	static <Output, X extends Exception> LongFunction<Output> throwing(CheckedLongFunction<Output, X> checkedFunction) {
+		return input -> {
+			try {
+				return checkedFunction.apply(input);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	static <Output, X extends Exception> CheckedLongFunction<Output, X> mock(LongFunction<Output> function) {
+		return function::apply;
+	}
+}
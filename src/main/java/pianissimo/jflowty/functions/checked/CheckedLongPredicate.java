@@ -0,0 +1,27 @@
+package pianissimo.jflowty.functions.checked;
+
+import java.util.function.*;
+
+@FunctionalInterface
+public interface CheckedLongPredicate<X extends Exception> extends CheckedFunction<Long, Boolean, X> {
+	boolean test(long input) throws X;
+
+	@Override
+	default Boolean apply(Long input) throws X {
+		return test(input);
+	}
+
+	static <X extends Exception> LongPredicate throwing(CheckedLongPredicate<X> checkedPredicate) {
+		return input -> {
+			try {
+				return checkedPredicate.test(input);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	static <X extends Exception> CheckedLongPredicate<X> mock(LongPredicate predicate) {
+		return predicate::test;
+	}
+}
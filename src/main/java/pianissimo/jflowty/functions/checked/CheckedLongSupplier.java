@@ -0,0 +1,27 @@
+package pianissimo.jflowty.functions.checked;
+
+import java.util.function.*;
+
+@FunctionalInterface
+public interface CheckedLongSupplier<X extends Exception> extends CheckedSupplier<Long, X> {
+	long getAsLong() throws X;
+
+	@Override
+	default Long get() throws X {
+		return getAsLong();
+	}
+
+	static <X extends Exception> LongSupplier throwing(CheckedLongSupplier<X> checkedSupplier) {
+		return () -> {
+			try {
+				return checkedSupplier.getAsLong();
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	static <X extends Exception> CheckedLongSupplier<X> mock(LongSupplier supplier) {
+		return supplier::getAsLong;
+	}
+}
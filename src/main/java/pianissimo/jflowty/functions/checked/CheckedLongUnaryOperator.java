@@ -0,0 +1,27 @@
+package pianissimo.jflowty.functions.checked;
+
+import java.util.function.*;
+
+@FunctionalInterface
+public interface CheckedLongUnaryOperator<X extends Exception> extends CheckedFunction<Long, Long, X> {
+	long applyAsLong(long input) throws X;
+
+	@Override
+	default Long apply(Long input) throws X {
+		return applyAsLong(input);
+	}
+
+	static <X extends Exception> LongUnaryOperator throwing(CheckedLongUnaryOperator<X> checkedOperator) {
+		return input -> {
+			try {
+				return checkedOperator.applyAsLong(input);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	static <X extends Exception> CheckedLongUnaryOperator<X> mock(LongUnaryOperator operator) {
+		return operator::applyAsLong;
+	}
+}
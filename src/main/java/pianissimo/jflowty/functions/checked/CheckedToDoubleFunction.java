@@ -0,0 +1,27 @@
+package pianissimo.jflowty.functions.checked;
+
+import java.util.function.*;
+
+@FunctionalInterface
+public interface CheckedToDoubleFunction<Input, X extends Exception> extends CheckedFunction<Input, Double, X> {
+	double applyAsDouble(Input input) throws X;
+
+	@Override
+	default Double apply(Input input) throws X {
+		return applyAsDouble(input);
+	}
+
+	static <Input, X extends Exception> ToDoubleFunction<Input> throwing(CheckedToDoubleFunction<Input, X> checkedFunction) {
+		return input -> {
+			try {
+				return checkedFunction.applyAsDouble(input);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	static <Input, X extends Exception> CheckedToDoubleFunction<Input, X> mock(ToDoubleFunction<Input> function) {
+		return function::applyAsDouble;
+	}
+}
@@ -0,0 +1,27 @@
+package pianissimo.jflowty.functions.checked;
+
+import java.util.function.*;
+
+@FunctionalInterface
+public interface CheckedToIntFunction<Input, X extends Exception> extends CheckedFunction<Input, Integer, X> {
+	int applyAsInt(Input input) throws X;
+
+	@Override
+	default Integer apply(Input input) throws X {
+		return applyAsInt(input);
+	}
+
+	static <Input, X extends Exception> ToIntFunction<Input> throwing(CheckedToIntFunction<Input, X> checkedFunction) {
+		return input -> {
+			try {
+				return checkedFunction.applyAsInt(input);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	static <Input, X extends Exception> CheckedToIntFunction<Input, X> mock(ToIntFunction<Input> function) {
+		return function::applyAsInt;
+	}
+}
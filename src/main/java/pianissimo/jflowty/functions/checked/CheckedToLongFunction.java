@@ -0,0 +1,27 @@
+package pianissimo.jflowty.functions.checked;
+
+import java.util.function.*;
+
+@FunctionalInterface
+public interface CheckedToLongFunction<Input, X extends Exception> extends CheckedFunction<Input, Long, X> {
+	long applyAsLong(Input input) throws X;
+
+	@Override
+	default Long apply(Input input) throws X {
+		return applyAsLong(input);
+	}
+
+	static <Input, X extends Exception> ToLongFunction<Input> throwing(CheckedToLongFunction<Input, X> checkedFunction) {
+		return input -> {
+			try {
+				return checkedFunction.applyAsLong(input);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	static <Input, X extends Exception> CheckedToLongFunction<Input, X> mock(ToLongFunction<Input> function) {
+		return function::applyAsLong;
+	}
+}
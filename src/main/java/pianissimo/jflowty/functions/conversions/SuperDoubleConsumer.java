@@ -0,0 +1,22 @@
+package pianissimo.jflowty.functions.conversions;
+
+import java.util.*;
+import java.util.function.*;
+
+@FunctionalInterface
+public interface SuperDoubleConsumer extends DoubleConsumer, SuperFunction<Double, Void> {
+	@Override
+	void accept(double input);
+
+	@Override
+	default Void apply(Double input) {
+		Objects.requireNonNull(input);
+		accept(input);
+		return null;
+	}
+
+	static SuperDoubleConsumer from(DoubleConsumer consumer) {
+		Objects.requireNonNull(consumer);
+		return consumer::accept;
+	}
+}
@@ -0,0 +1,21 @@
+package pianissimo.jflowty.functions.conversions;
+
+import java.util.*;
+import java.util.function.*;
+
+@FunctionalInterface
+public interface SuperDoubleFunction<Output> extends DoubleFunction<Output>, SuperFunction<Double, Output> {
+	@Override
+	Output apply(double input);
+
+	@Override
+	default Output apply(Double input) {
+		Objects.requireNonNull(input);
+		return apply(input.doubleValue());
+	}
+
+	static <Output> SuperDoubleFunction<Output> from(DoubleFunction<Output> function) {
+		Objects.requireNonNull(function);
+		return function::apply;
+	}
+}
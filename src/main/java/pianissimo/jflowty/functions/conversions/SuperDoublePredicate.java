@@ -0,0 +1,21 @@
+package pianissimo.jflowty.functions.conversions;
+
+import java.util.*;
+import java.util.function.*;
+
+@FunctionalInterface
+public interface SuperDoublePredicate extends DoublePredicate, SuperFunction<Double, Boolean> {
+	@Override
+	boolean test(double input);
+
+	@Override
+	default Boolean apply(Double input) {
+		Objects.requireNonNull(input);
+		return test(input);
+	}
+
+	static SuperDoublePredicate from(DoublePredicate predicate) {
+		Objects.requireNonNull(predicate);
+		return predicate::test;
+	}
+}
@@ -0,0 +1,20 @@
+package pianissimo.jflowty.functions.conversions;
+
+import java.util.*;
+import java.util.function.*;
+
+@FunctionalInterface
+public interface SuperDoubleSupplier extends DoubleSupplier, SuperSupplier<Double> {
+	@Override
+	double getAsDouble();
+
+	@Override
+	default Double get() {
+		return getAsDouble();
+	}
+
+	static SuperDoubleSupplier from(DoubleSupplier supplier) {
+		Objects.requireNonNull(supplier);
+		return supplier::getAsDouble;
+	}
+}
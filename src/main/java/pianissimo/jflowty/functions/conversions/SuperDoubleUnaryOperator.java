@@ -0,0 +1,21 @@
+package pianissimo.jflowty.functions.conversions;
+
+import java.util.*;
+import java.util.function.*;
+
+@FunctionalInterface
+public interface SuperDoubleUnaryOperator extends DoubleUnaryOperator, SuperFunction<Double, Double> {
+	@Override
+	double applyAsDouble(double input);
+
+	@Override
+	default Double apply(Double input) {
+		Objects.requireNonNull(input);
+		return applyAsDouble(input);
+	}
+
+	static SuperDoubleUnaryOperator from(DoubleUnaryOperator operator) {
+		Objects.requireNonNull(operator);
+		return operator::applyAsDouble;
+	}
+}
@@ -0,0 +1,22 @@
+package pianissimo.jflowty.functions.conversions;
+
+import java.util.*;
+import java.util.function.*;
+
+@FunctionalInterface
+public interface SuperIntConsumer extends IntConsumer, SuperFunction<Integer, Void> {
+	@Override
+	void accept(int input);
+
+	@Override
+	default Void apply(Integer input) {
+		Objects.requireNonNull(input);
+		accept(input);
+		return null;
+	}
+
+	static SuperIntConsumer from(IntConsumer consumer) {
+		Objects.requireNonNull(consumer);
+		return consumer::accept;
+	}
+}
@@ -0,0 +1,21 @@
+package pianissimo.jflowty.functions.conversions;
+
+import java.util.*;
+import java.util.function.*;
+
+@FunctionalInterface
+public interface SuperIntFunction<Output> extends IntFunction<Output>, SuperFunction<Integer, Output> {
+	@Override
+	Output apply(int input);
+
+	@Override
+	default Output apply(Integer input) {
+		Objects.requireNonNull(input);
+		return apply(input.intValue());
+	}
+
+	static <Output> SuperIntFunction<Output> from(IntFunction<Output> function) {
+		Objects.requireNonNull(function);
+		return function::apply;
+	}
+}
@@ -0,0 +1,21 @@
+package pianissimo.jflowty.functions.conversions;
+
+import java.util.*;
+import java.util.function.*;
+
+@FunctionalInterface
+public interface SuperIntPredicate extends IntPredicate, SuperFunction<Integer, Boolean> {
+	@Override
+	boolean test(int input);
+
+	@Override
+	default Boolean apply(Integer input) {
+		Objects.requireNonNull(input);
+		return test(input);
+	}
+
+	static SuperIntPredicate from(IntPredicate predicate) {
+		Objects.requireNonNull(predicate);
+		return predicate::test;
+	}
+}
@@ -0,0 +1,20 @@
+package pianissimo.jflowty.functions.conversions;
+
+import java.util.*;
+import java.util.function.*;
+
+@FunctionalInterface
+public interface SuperIntSupplier extends IntSupplier, SuperSupplier<Integer> {
+	@Override
+	int getAsInt();
+
+	@Override
+	default Integer get() {
+		return getAsInt();
+	}
+
+	static SuperIntSupplier from(IntSupplier supplier) {
+		Objects.requireNonNull(supplier);
+		return supplier::getAsInt;
+	}
+}
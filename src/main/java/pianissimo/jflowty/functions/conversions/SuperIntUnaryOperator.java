@@ -0,0 +1,21 @@
+package pianissimo.jflowty.functions.conversions;
+
+import java.util.*;
+import java.util.function.*;
+
+@FunctionalInterface
+public interface SuperIntUnaryOperator extends IntUnaryOperator, SuperFunction<Integer, Integer> {
+	@Override
+	int applyAsInt(int input);
+
+	@Override
+	default Integer apply(Integer input) {
+		Objects.requireNonNull(input);
+		return applyAsInt(input);
+	}
+
+	static SuperIntUnaryOperator from(IntUnaryOperator operator) {
+		Objects.requireNonNull(operator);
+		return operator::applyAsInt;
+	}
+}
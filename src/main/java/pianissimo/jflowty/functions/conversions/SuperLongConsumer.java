@@ -0,0 +1,22 @@
+package pianissimo.jflowty.functions.conversions;
+
+import java.util.*;
+import java.util.function.*;
+
+@FunctionalInterface
+public interface SuperLongConsumer extends LongConsumer, SuperFunction<Long, Void> {
+	@Override
+	void accept(long input);
+
+	@Override
+	default Void apply(Long input) {
+		Objects.requireNonNull(input);
+		accept(input);
+		return null;
+	}
+
+	static SuperLongConsumer from(LongConsumer consumer) {
+		Objects.requireNonNull(consumer);
+		return consumer::accept;
+	}
+}
@@ -0,0 +1,21 @@
+package pianissimo.jflowty.functions.conversions;
+
+import java.util.*;
+import java.util.function.*;
+
+@FunctionalInterface
+public interface SuperLongFunction<Output> extends LongFunction<Output>, SuperFunction<Long, Output> {
+	@Override
+	Output apply(long input);
+
+	@Override
+	default Output apply(Long input) {
+		Objects.requireNonNull(input);
+		return apply(input.longValue());
+	}
+
+	static <Output> SuperLongFunction<Output> from(LongFunction<Output> function) {
+		Objects.requireNonNull(function);
+		return function::apply;
+	}
+}
@@ -0,0 +1,21 @@
+package pianissimo.jflowty.functions.conversions;
+
+import java.util.*;
+import java.util.function.*;
+
+@FunctionalInterface
+public interface SuperLongPredicate extends LongPredicate, SuperFunction<Long, Boolean> {
+	@Override
+	boolean test(long input);
+
+	@Override
+	default Boolean apply(Long input) {
+		Objects.requireNonNull(input);
+		return test(input);
+	}
+
+	static SuperLongPredicate from(LongPredicate predicate) {
+		Objects.requireNonNull(predicate);
+		return predicate::test;
+	}
+}
@@ -0,0 +1,20 @@
+package pianissimo.jflowty.functions.conversions;
+
+import java.util.*;
+import java.util.function.*;
+
+@FunctionalInterface
+public interface SuperLongSupplier extends LongSupplier, SuperSupplier<Long> {
+	@Override
+	long getAsLong();
+
+	@Override
+	default Long get() {
+		return getAsLong();
+	}
+
+	static SuperLongSupplier from(LongSupplier supplier) {
+		Objects.requireNonNull(supplier);
+		return supplier::getAsLong;
+	}
+}
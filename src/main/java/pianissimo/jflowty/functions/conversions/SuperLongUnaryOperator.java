@@ -0,0 +1,21 @@
+package pianissimo.jflowty.functions.conversions;
+
+import java.util.*;
+import java.util.function.*;
+
+@FunctionalInterface
+public interface SuperLongUnaryOperator extends LongUnaryOperator, SuperFunction<Long, Long> {
+	@Override
+	long applyAsLong(long input);
+
+	@Override
+	default Long apply(Long input) {
+		Objects.requireNonNull(input);
+		return applyAsLong(input);
+	}
+
+	static SuperLongUnaryOperator from(LongUnaryOperator operator) {
+		Objects.requireNonNull(operator);
+		return operator::applyAsLong;
+	}
+}
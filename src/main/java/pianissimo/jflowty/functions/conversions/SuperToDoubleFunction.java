@@ -0,0 +1,20 @@
+package pianissimo.jflowty.functions.conversions;
+
+import java.util.*;
+import java.util.function.*;
+
+@FunctionalInterface
+public interface SuperToDoubleFunction<Input> extends ToDoubleFunction<Input>, SuperFunction<Input, Double> {
+	@Override
+	double applyAsDouble(Input input);
+
+	@Override
+	default Double apply(Input input) {
+		return applyAsDouble(input);
+	}
+
+	static <Input> SuperToDoubleFunction<Input> from(ToDoubleFunction<Input> function) {
+		Objects.requireNonNull(function);
+		return function::applyAsDouble;
+	}
+}
@@ -0,0 +1,20 @@
+package pianissimo.jflowty.functions.conversions;
+
+import java.util.*;
+import java.util.function.*;
+
+@FunctionalInterface
+public interface SuperToIntFunction<Input> extends ToIntFunction<Input>, SuperFunction<Input, Integer> {
+	@Override
+	int applyAsInt(Input input);
+
+	@Override
+	default Integer apply(Input input) {
+		return applyAsInt(input);
+	}
+
+	static <Input> SuperToIntFunction<Input> from(ToIntFunction<Input> function) {
+		Objects.requireNonNull(function);
+		return function::applyAsInt;
+	}
+}
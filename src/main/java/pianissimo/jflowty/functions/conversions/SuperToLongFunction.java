@@ -0,0 +1,20 @@
+package pianissimo.jflowty.functions.conversions;
+
+import java.util.*;
+import java.util.function.*;
+
+@FunctionalInterface
+public interface SuperToLongFunction<Input> extends ToLongFunction<Input>, SuperFunction<Input, Long> {
+	@Override
+	long applyAsLong(Input input);
+
+	@Override
+	default Long apply(Input input) {
+		return applyAsLong(input);
+	}
+
+	static <Input> SuperToLongFunction<Input> from(ToLongFunction<Input> function) {
+		Objects.requireNonNull(function);
+		return function::applyAsLong;
+	}
+}
@@ -0,0 +1,108 @@
+package pianissimo.jflowty.instrumentation;
+
+import javax.management.*;
+import java.lang.management.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Built-in {@link Instrumentation} counting captured failures per exception class and per operation, recoveries per
+ * operation and {@code getOrThrow} wraps, each in its own {@link LongAdder} so concurrent failures do not contend.
+ * {@link #register} installs it and exposes the counts as the {@code pianissimo.jflowty:type=FailureCounters} MXBean,
+ * ready for JConsole, Mission Control or any JMX exporter.
+ */
+public final class FailureCounters implements Instrumentation, FailureCountersMXBean {
+	public static final String OBJECT_NAME = "pianissimo.jflowty:type=FailureCounters";
+
+	private final ConcurrentHashMap<Class<?>, LongAdder> capturedByClass = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, LongAdder> capturedByOperation = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, LongAdder> recoveredByOperation = new ConcurrentHashMap<>();
+	private final LongAdder thrown = new LongAdder();
+
+	/**
+	 * Installs a new instance and registers it with the platform MBean server, replacing an instance registered
+	 * before.
+	 */
+	public static FailureCounters register () {
+		FailureCounters counters = new FailureCounters();
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(OBJECT_NAME);
+			if (server.isRegistered(name)) server.unregisterMBean(name);
+			server.registerMBean(counters, name);
+		} catch (JMException e) {
+			throw new IllegalStateException("Could not register " + OBJECT_NAME, e);
+		}
+		Instrumentation.install(counters);
+		return counters;
+	}
+
+	@Override public void failureCaptured (String operation, Exception exception) {
+		counter(capturedByClass, exception.getClass()).increment();
+		counter(capturedByOperation, operation).increment();
+	}
+
+	@Override public void recovered (String operation, Object failure) {
+		counter(recoveredByOperation, operation).increment();
+	}
+
+	@Override public void thrown (Object failure, RuntimeException exception) {
+		thrown.increment();
+	}
+
+	public long captured (Class<? extends Exception> exceptionClass) {
+		LongAdder counter = capturedByClass.get(exceptionClass);
+		return counter == null ? 0 : counter.sum();
+	}
+
+	@Override public long getCaptured () {
+		return total(capturedByOperation);
+	}
+
+	@Override public long getRecovered () {
+		return total(recoveredByOperation);
+	}
+
+	@Override public long getThrown () {
+		return thrown.sum();
+	}
+
+	@Override public Map<String, Long> getCapturedByExceptionClass () {
+		Map<String, Long> snapshot = new TreeMap<>();
+		capturedByClass.forEach((type, counter) -> snapshot.put(type.getName(), counter.sum()));
+		return snapshot;
+	}
+
+	@Override public Map<String, Long> getCapturedByOperation () {
+		return snapshot(capturedByOperation);
+	}
+
+	@Override public Map<String, Long> getRecoveredByOperation () {
+		return snapshot(recoveredByOperation);
+	}
+
+	@Override public void reset () {
+		capturedByClass.clear();
+		capturedByOperation.clear();
+		recoveredByOperation.clear();
+		thrown.reset();
+	}
+
+	private static <K> LongAdder counter (ConcurrentHashMap<K, LongAdder> counters, K key) {
+		LongAdder counter = counters.get(key);
+		return counter != null ? counter : counters.computeIfAbsent(key, __ -> new LongAdder());
+	}
+
+	private static long total (ConcurrentHashMap<String, LongAdder> counters) {
+		long total = 0;
+		for (LongAdder counter : counters.values()) total += counter.sum();
+		return total;
+	}
+
+	private static Map<String, Long> snapshot (ConcurrentHashMap<String, LongAdder> counters) {
+		Map<String, Long> snapshot = new TreeMap<>();
+		counters.forEach((key, counter) -> snapshot.put(key, counter.sum()));
+		return snapshot;
+	}
+}
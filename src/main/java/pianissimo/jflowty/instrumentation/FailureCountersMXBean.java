@@ -0,0 +1,20 @@
+package pianissimo.jflowty.instrumentation;
+
+import java.util.*;
+
+public interface FailureCountersMXBean {
+
+	long getCaptured ();
+
+	long getRecovered ();
+
+	long getThrown ();
+
+	Map<String, Long> getCapturedByExceptionClass ();
+
+	Map<String, Long> getCapturedByOperation ();
+
+	Map<String, Long> getRecoveredByOperation ();
+
+	void reset ();
+}
@@ -0,0 +1,416 @@
+package pianissimo.jflowty.instrumentation;
+
+import pianissimo.jflowty.functions.conversions.*;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.logging.*;
+
+/**
+ * Failure logging sink for {@code Attempt.ifFailureDo}, {@code Attempt.ifFailurePeek} and {@code Option.ifEmptyDo},
+ * whose cost grows with the number of distinct errors rather than with the number of requests:
+ * <pre>{@code
+ * FailureLog failures = FailureLog.builder().window(Duration.ofSeconds(30)).build();
+ * Attempt<Order, IOException> order = fetch(id).ifFailurePeek(failures.sink("orders"));
+ * Option<User> user = users.find(name);
+ * user.ifEmptyDo(failures.emptySink("user lookup"));
+ * }</pre>
+ * Failures are grouped by fingerprint: the sink's source, the failure's class and, for exceptions, its message with
+ * every run of digits treated alike, so "timed out after 1503 ms" and "timed out after 998 ms" count as one error.
+ * The first {@code samplesPerWindow} failures of a fingerprint in each window are reported as they happen, stack trace
+ * included; the rest are only counted, and one summary per fingerprint reports how many were suppressed when the
+ * window closes. Fingerprints beyond {@code maxFingerprints} share a single overflow tally.
+ * <p>
+ * Reports go through a bounded queue to a daemon thread, which writes them to the output, by default
+ * {@code java.util.logging} at WARNING. A full queue drops the report instead of blocking the failing caller;
+ * {@link #dropped} counts those. Counting is approximate around window boundaries.
+ */
+public final class FailureLog implements AutoCloseable {
+	private static final int MAX_MESSAGE_CHARS = 256;
+	private static final Report CLOSED = new Report(null, null, null, null, 0, 0, 0, false);
+
+	private final long window;
+	private final int samplesPerWindow;
+	private final int maxFingerprints;
+	private final SuperConsumer<Report> output;
+	private final LongSupplier clock;
+
+	private final ConcurrentHashMap<Key, Tally> tallies = new ConcurrentHashMap<>();
+	private final Tally overflow = new Tally(new Key("*", "(too many distinct failures)", 0), null, null);
+	private final ArrayBlockingQueue<Report> queue;
+	private final Thread writer;
+	private final LongAdder recorded = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+	private long windowStart;
+	private volatile boolean closed;
+
+	private FailureLog (Builder builder) {
+		this.window = builder.window;
+		this.samplesPerWindow = builder.samplesPerWindow;
+		this.maxFingerprints = builder.maxFingerprints;
+		this.output = builder.output;
+		this.clock = builder.clock;
+		this.queue = new ArrayBlockingQueue<>(builder.queueCapacity);
+		this.windowStart = clock.getAsLong();
+		this.writer = new Thread(this::write, "jflowty-failure-log");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	public static FailureLog create () {
+		return builder().build();
+	}
+
+	public static Builder builder () {
+		return new Builder();
+	}
+
+	/**
+	 * Consumer recording each failure it receives under the given source, for {@code ifFailureDo} and
+	 * {@code ifFailurePeek}.
+	 */
+	public <TFailure> SuperConsumer<TFailure> sink (String source) {
+		Objects.requireNonNull(source);
+		return failure -> record(source, failure);
+	}
+
+	/**
+	 * Runnable recording an empty Option under the given source, for {@code ifEmptyDo}.
+	 */
+	public SuperRunnable emptySink (String source) {
+		Objects.requireNonNull(source);
+		return () -> record(source, null);
+	}
+
+	/**
+	 * Records one failure, or an empty Option when {@code failure} is null.
+	 */
+	public void record (String source, Object failure) {
+		if (closed) return;
+		recorded.increment();
+		Key key = Key.of(source, failure);
+		Tally tally = tallies.get(key);
+		if (tally == null) tally = register(key, failure);
+		tally.count.increment();
+		if (tally.sampled.get() < samplesPerWindow && tally.sampled.getAndIncrement() < samplesPerWindow) {
+			enqueue(new Report(source, key.type, message(failure), failure, 1, 0, 0, false));
+		}
+	}
+
+	/**
+	 * Closes the current window now, queueing a summary for every fingerprint with suppressed failures.
+	 */
+	public synchronized void flush () {
+		long now = clock.getAsLong();
+		long elapsed = now - windowStart;
+		windowStart = now;
+		for (Tally tally : tallies.values()) {
+			summarize(tally, elapsed);
+		}
+		summarize(overflow, elapsed);
+	}
+
+	public long recorded () {
+		return recorded.sum();
+	}
+
+	public long dropped () {
+		return dropped.sum();
+	}
+
+	public int fingerprints () {
+		return tallies.size();
+	}
+
+	/**
+	 * Flushes the current window and waits until the writer thread has written every queued report. Failures
+	 * recorded afterwards are ignored.
+	 */
+	@Override public void close () {
+		if (closed) return;
+		flush();
+		closed = true;
+		try {
+			// a writer that died can no longer make room in a full queue, so never wait for it unconditionally
+			while (!queue.offer(CLOSED, 10, TimeUnit.MILLISECONDS)) {
+				if (!writer.isAlive()) return;
+			}
+			writer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private Tally register (Key key, Object failure) {
+		if (tallies.size() >= maxFingerprints) return overflow;
+		Tally tally = new Tally(key, message(failure), failure);
+		Tally previous = tallies.putIfAbsent(key, tally);
+		return previous == null ? tally : previous;
+	}
+
+	private void summarize (Tally tally, long elapsed) {
+		long count = tally.count.sumThenReset();
+		int sampled = Math.min(tally.sampled.getAndSet(0), samplesPerWindow);
+		if (count == 0) {
+			if (tally != overflow) tallies.remove(tally.key, tally);
+			return;
+		}
+		if (count > sampled) {
+			Key key = tally.key;
+			long suppressed = count - sampled;
+			enqueue(new Report(key.source, key.type, tally.message, tally.exemplar, count, suppressed, elapsed, true));
+		}
+	}
+
+	private void enqueue (Report report) {
+		if (!queue.offer(report)) dropped.increment();
+	}
+
+	private void write () {
+		long nextWindow = clock.getAsLong() + window;
+		while (true) {
+			Report report;
+			try {
+				report = queue.poll(Math.max(0, nextWindow - clock.getAsLong()), TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e) {
+				return;
+			}
+			if (report == CLOSED) return;
+			if (report != null) {
+				try {
+					output.accept(report);
+				} catch (Throwable e) {
+					// a failing output must not stop the writer, or close would wait for it forever
+					dropped.increment();
+				}
+			}
+			if (clock.getAsLong() - nextWindow >= 0) {
+				flush();
+				nextWindow = clock.getAsLong() + window;
+			}
+		}
+	}
+
+	private static String message (Object failure) {
+		return failure instanceof Throwable ? ((Throwable) failure).getMessage() : null;
+	}
+
+	/**
+	 * 64-bit FNV-1a hash of the message's first characters, with each run of digits hashed as a single '#'.
+	 */
+	private static long fingerprint (String message) {
+		if (message == null) return 0;
+		long hash = 0xcbf29ce484222325L;
+		boolean inNumber = false;
+		for (int i = 0, length = Math.min(message.length(), MAX_MESSAGE_CHARS); i < length; i++) {
+			char c = message.charAt(i);
+			boolean digit = c >= '0' && c <= '9';
+			if (digit && inNumber) continue;
+			inNumber = digit;
+			hash = (hash ^ (digit ? '#' : c)) * 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	/**
+	 * Either a sample, one failure as it happened, or a summary of how many failures of one fingerprint were seen
+	 * during a window and how many of them were not sampled.
+	 */
+	public static final class Report {
+		private final String source;
+		private final String type;
+		private final String message;
+		private final Object failure;
+		private final long count;
+		private final long suppressed;
+		private final long windowNanos;
+		private final boolean summary;
+
+		private Report (
+				String source,
+				String type,
+				String message,
+				Object failure,
+				long count,
+				long suppressed,
+				long windowNanos,
+				boolean summary
+		) {
+			this.source = source;
+			this.type = type;
+			this.message = message;
+			this.failure = failure;
+			this.count = count;
+			this.suppressed = suppressed;
+			this.windowNanos = windowNanos;
+			this.summary = summary;
+		}
+
+		public boolean isSummary () {
+			return summary;
+		}
+
+		public String source () {
+			return source;
+		}
+
+		/**
+		 * Class name of the failure, or "Option.empty" for empty Options.
+		 */
+		public String type () {
+			return type;
+		}
+
+		/**
+		 * Message of the failure; for a summary, the message of the fingerprint's first failure.
+		 */
+		public String message () {
+			return message;
+		}
+
+		/**
+		 * The failure itself for a sample, the fingerprint's first failure for a summary, or null for empty Options.
+		 */
+		public Object failure () {
+			return failure;
+		}
+
+		public long count () {
+			return count;
+		}
+
+		public long suppressed () {
+			return suppressed;
+		}
+
+		public Duration window () {
+			return Duration.ofNanos(windowNanos);
+		}
+
+		@Override public String toString () {
+			String failure = message == null ? type : type + ": " + message;
+			if (!isSummary()) return "[" + source + "] " + failure;
+			return String.format(
+					"[%s] %s occurred %d times in %s, %d not logged",
+					source, failure, count, window(), suppressed
+			);
+		}
+	}
+
+	public static final class Builder {
+		private long window = TimeUnit.MINUTES.toNanos(1);
+		private int samplesPerWindow = 1;
+		private int maxFingerprints = 1024;
+		private int queueCapacity = 256;
+		private SuperConsumer<Report> output = LoggerOutput.INSTANCE;
+		private LongSupplier clock = System::nanoTime;
+
+		private Builder () {}
+
+		public Builder window (Duration window) {
+			if (window.isNegative() || window.isZero()) throw new IllegalArgumentException("Invalid window: " + window);
+			this.window = window.toNanos();
+			return this;
+		}
+
+		/**
+		 * Failures of one fingerprint reported individually in each window before the rest are only counted.
+		 */
+		public Builder samplesPerWindow (int samplesPerWindow) {
+			if (samplesPerWindow < 0) {
+				throw new IllegalArgumentException("samplesPerWindow must not be negative: " + samplesPerWindow);
+			}
+			this.samplesPerWindow = samplesPerWindow;
+			return this;
+		}
+
+		public Builder maxFingerprints (int maxFingerprints) {
+			if (maxFingerprints < 1) {
+				throw new IllegalArgumentException("maxFingerprints must be positive: " + maxFingerprints);
+			}
+			this.maxFingerprints = maxFingerprints;
+			return this;
+		}
+
+		public Builder queueCapacity (int queueCapacity) {
+			if (queueCapacity < 1) {
+				throw new IllegalArgumentException("queueCapacity must be positive: " + queueCapacity);
+			}
+			this.queueCapacity = queueCapacity;
+			return this;
+		}
+
+		/**
+		 * Where reports are written, on the log's own thread.
+		 */
+		public Builder output (SuperConsumer<Report> output) {
+			this.output = Objects.requireNonNull(output);
+			return this;
+		}
+
+		public Builder clock (LongSupplier nanoTime) {
+			this.clock = Objects.requireNonNull(nanoTime);
+			return this;
+		}
+
+		public FailureLog build () {
+			return new FailureLog(this);
+		}
+	}
+
+	private static final class Key {
+		private final String source;
+		private final String type;
+		private final long message;
+
+		private Key (String source, String type, long message) {
+			this.source = source;
+			this.type = type;
+			this.message = message;
+		}
+
+		private static Key of (String source, Object failure) {
+			if (failure == null) return new Key(source, "Option.empty", 0);
+			return new Key(source, failure.getClass().getName(), fingerprint(message(failure)));
+		}
+
+		@Override public boolean equals (Object other) {
+			if (!(other instanceof Key)) return false;
+			Key key = (Key) other;
+			return message == key.message && source.equals(key.source) && type.equals(key.type);
+		}
+
+		@Override public int hashCode () {
+			return (source.hashCode() * 31 + type.hashCode()) * 31 + Long.hashCode(message);
+		}
+	}
+
+	private static final class Tally {
+		private final Key key;
+		private final String message;
+		private final Object exemplar;
+		private final LongAdder count = new LongAdder();
+		private final AtomicInteger sampled = new AtomicInteger();
+
+		private Tally (Key key, String message, Object exemplar) {
+			this.key = key;
+			this.message = message;
+			this.exemplar = exemplar;
+		}
+	}
+
+	private static final class LoggerOutput implements SuperConsumer<Report> {
+		private static final LoggerOutput INSTANCE = new LoggerOutput();
+		private static final Logger LOGGER = Logger.getLogger(FailureLog.class.getName());
+
+		@Override public void accept (Report report) {
+			Throwable thrown = !report.isSummary() && report.failure() instanceof Throwable
+					? (Throwable) report.failure()
+					: null;
+			LOGGER.log(Level.WARNING, report.toString(), thrown);
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package pianissimo.jflowty.instrumentation;
+
+import pianissimo.jflowty.functions.checked.*;
+
+/**
+ * JDK Flight Recorder events for Attempt, Option and Either pipelines: failure captured, recovery applied, exception
+ * wrapped by {@code getOrThrow} and slow stage, all in the "JFlowty" category of JDK Mission Control.
+ * <p>
+ * This Java 8 version only keeps the API; the multi-release jar replaces it on JDK 11+ with one that emits the
+ * events, so on older JDKs {@link #install} changes nothing and {@link #timed} returns the function as it is.
+ */
+public final class FlightRecorderEvents {
+
+	private FlightRecorderEvents () {}
+
+	public static boolean isAvailable () {
+		return false;
+	}
+
+	/**
+	 * Installs an {@link Instrumentation} emitting the failure, recovery and getOrThrow events, which forwards every
+	 * hook to the instrumentation installed before it.
+	 */
+	public static void install () {}
+
+	/**
+	 * Returns the function timed as the named stage: calls taking longer than the SlowStage event's threshold, 10 ms
+	 * unless the recording configures another, are recorded with their duration.
+	 */
+	public static <Input, Output, X extends Exception> CheckedFunction<Input, Output, X> timed (
+			String stage,
+			CheckedFunction<Input, Output, X> function
+	) {
+		return function;
+	}
+}
@@ -0,0 +1,20 @@
+package pianissimo.jflowty.instrumentation;
+
+import java.util.*;
+
+final class Installed {
+	static final Instrumentation NOOP = new Instrumentation() {};
+
+	static volatile Instrumentation current = discover();
+
+	private Installed () {}
+
+	private static Instrumentation discover () {
+		try {
+			Iterator<Instrumentation> found = ServiceLoader.load(Instrumentation.class).iterator();
+			return found.hasNext() ? found.next() : NOOP;
+		} catch (ServiceConfigurationError e) {
+			return NOOP;
+		}
+	}
+}
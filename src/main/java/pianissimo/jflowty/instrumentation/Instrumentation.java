@@ -0,0 +1,41 @@
+package pianissimo.jflowty.instrumentation;
+
+/**
+ * Hooks the union types call when an exception is captured into a Failure, Empty or Left, when a failure is
+ * recovered from and when {@code getOrThrow} wraps a failure. Operations are named after the method that called the
+ * hook, such as {@code "Attempt.tryMap"}.
+ * <p>
+ * At most one implementation is active. It is the first one found by {@link java.util.ServiceLoader} under
+ * {@code META-INF/services/pianissimo.jflowty.instrumentation.Instrumentation}, unless another one is
+ * {@linkplain #install installed}; without either the union types skip the hooks after a single reference
+ * comparison, and only on their failure paths. Hooks run on the thread that hit the failure, so they must be fast
+ * and must not throw.
+ */
+public interface Instrumentation {
+
+	default void failureCaptured (String operation, Exception exception) {}
+
+	/**
+	 * Called before the recovery function runs; the failure is null for an empty Option.
+	 */
+	default void recovered (String operation, Object failure) {}
+
+	default void thrown (Object failure, RuntimeException exception) {}
+
+	static Instrumentation current () {
+		return Installed.current;
+	}
+
+	static void install (Instrumentation instrumentation) {
+		if (instrumentation == null) throw new NullPointerException("instrumentation");
+		Installed.current = instrumentation;
+	}
+
+	static void uninstall () {
+		Installed.current = Installed.NOOP;
+	}
+
+	static Instrumentation noop () {
+		return Installed.NOOP;
+	}
+}
@@ -0,0 +1,174 @@
+package pianissimo.jflowty.instrumentation;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Lock-free, fixed-memory latency histogram with log-linear buckets: each power of two is split into 32 linear
+ * sub-buckets, so any recorded value is reported within about 3% of itself from one nanosecond up to over an hour,
+ * in 1216 counters. Recording is a single atomic increment; the striped flavour spreads those increments over
+ * several counter arrays picked by thread, at the cost of that many times the memory, for stages hit by many threads
+ * at once.
+ * <p>
+ * Snapshots add up the stripes without stopping writers. {@link #snapshotAndReset} drains each counter with an
+ * atomic get-and-set, so a value recorded meanwhile lands in either this snapshot or the next, never in neither.
+ */
+public final class LatencyHistogram {
+	private static final int SUB_BITS = 5;
+	private static final int SUB_BUCKETS = 1 << SUB_BITS;
+	private static final long MAX_VALUE = (1L << 42) - 1;
+	private static final int BUCKETS = index(MAX_VALUE) + 1;
+
+	private final AtomicLongArray[] stripes;
+	private final int mask;
+
+	private LatencyHistogram (int stripeCount) {
+		this.stripes = new AtomicLongArray[stripeCount];
+		for (int i = 0; i < stripeCount; i++) stripes[i] = new AtomicLongArray(BUCKETS);
+		this.mask = stripeCount - 1;
+	}
+
+	public static LatencyHistogram create () {
+		return new LatencyHistogram(1);
+	}
+
+	/**
+	 * Creates a histogram with the given number of stripes, rounded up to a power of two.
+	 */
+	public static LatencyHistogram striped (int stripes) {
+		if (stripes < 1 || stripes > 1 << 16) throw new IllegalArgumentException("Invalid stripe count: " + stripes);
+		return new LatencyHistogram(stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1);
+	}
+
+	public void record (long nanos) {
+		int bucket = index(Math.max(0, Math.min(nanos, MAX_VALUE)));
+		AtomicLongArray stripe = mask == 0 ? stripes[0] : stripes[(int) Thread.currentThread().getId() & mask];
+		stripe.incrementAndGet(bucket);
+	}
+
+	public Snapshot snapshot () {
+		long[] counts = new long[BUCKETS];
+		for (AtomicLongArray stripe : stripes) {
+			for (int i = 0; i < BUCKETS; i++) counts[i] += stripe.get(i);
+		}
+		return new Snapshot(counts);
+	}
+
+	public Snapshot snapshotAndReset () {
+		long[] counts = new long[BUCKETS];
+		for (AtomicLongArray stripe : stripes) {
+			for (int i = 0; i < BUCKETS; i++) {
+				if (stripe.get(i) != 0) counts[i] += stripe.getAndSet(i, 0);
+			}
+		}
+		return new Snapshot(counts);
+	}
+
+	public void reset () {
+		snapshotAndReset();
+	}
+
+	private static int index (long value) {
+		if (value < SUB_BUCKETS) return (int) value;
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+		return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+	}
+
+	private static long lowestValue (int index) {
+		if (index < SUB_BUCKETS) return index;
+		int shift = index / SUB_BUCKETS - 1;
+		return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+	}
+
+	private static long highestValue (int index) {
+		if (index < SUB_BUCKETS) return index;
+		return lowestValue(index) + (1L << (index / SUB_BUCKETS - 1)) - 1;
+	}
+
+	/**
+	 * Immutable copy of the counts. Percentiles, minimum and maximum report the highest value of the bucket they fall
+	 * into, so they never understate a latency; the mean uses bucket midpoints.
+	 */
+	public static final class Snapshot {
+		private final long[] counts;
+		private final long count;
+
+		private Snapshot (long[] counts) {
+			this.counts = counts;
+			long total = 0;
+			for (long bucketCount : counts) total += bucketCount;
+			this.count = total;
+		}
+
+		public long count () {
+			return count;
+		}
+
+		/**
+		 * Returns the latency in nanoseconds at or below which the given share of recorded values lie, for instance
+		 * 0.99 for the 99th percentile, or 0 when nothing was recorded.
+		 */
+		public long percentile (double quantile) {
+			if (!(quantile >= 0 && quantile <= 1)) throw new IllegalArgumentException("Invalid quantile: " + quantile);
+			if (count == 0) return 0;
+			long rank = Math.max(1, (long) Math.ceil(quantile * count));
+			long seen = 0;
+			for (int i = 0; i < counts.length; i++) {
+				seen += counts[i];
+				if (seen >= rank) return highestValue(i);
+			}
+			return MAX_VALUE;
+		}
+
+		public long p50 () {
+			return percentile(0.5);
+		}
+
+		public long p90 () {
+			return percentile(0.9);
+		}
+
+		public long p99 () {
+			return percentile(0.99);
+		}
+
+		public long p999 () {
+			return percentile(0.999);
+		}
+
+		public long min () {
+			for (int i = 0; i < counts.length; i++) if (counts[i] != 0) return highestValue(i);
+			return 0;
+		}
+
+		public long max () {
+			for (int i = counts.length - 1; i >= 0; i--) if (counts[i] != 0) return highestValue(i);
+			return 0;
+		}
+
+		public double mean () {
+			if (count == 0) return 0;
+			double sum = 0;
+			for (int i = 0; i < counts.length; i++) {
+				if (counts[i] != 0) sum += counts[i] * ((lowestValue(i) + highestValue(i)) / 2.0);
+			}
+			return sum / count;
+		}
+
+		/**
+		 * Combines this snapshot with another, such as the same stage on another instance.
+		 */
+		public Snapshot merge (Snapshot other) {
+			long[] merged = Arrays.copyOf(counts, counts.length);
+			for (int i = 0; i < merged.length; i++) merged[i] += other.counts[i];
+			return new Snapshot(merged);
+		}
+
+		@Override public String toString () {
+			return String.format(
+					"Snapshot(count=%d, p50=%dns, p99=%dns, p999=%dns, max=%dns)",
+					count, p50(), p99(), p999(), max()
+			);
+		}
+	}
+}
@@ -0,0 +1,262 @@
+package pianissimo.jflowty.resilience;
+
+import pianissimo.jflowty.functions.checked.*;
+import pianissimo.jflowty.functions.conversions.*;
+import pianissimo.jflowty.unions.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * Concurrency limiter whose limit follows the observed behaviour of the calls it admits. Every completed call hands
+ * its latency, the number of calls in flight when it started and whether it was dropped (a failure matching
+ * {@code dropIf}) to an {@link Algorithm}, which answers with the new limit. Calls beyond the limit are rejected with
+ * the caller's failure value.
+ * <p>
+ * Admission is a compare-and-set on the in-flight count; only the algorithm update is serialized.
+ */
+public final class AdaptiveLimiter {
+	private final Algorithm algorithm;
+	private final SuperPredicate<Exception> dropIf;
+	private final LongSupplier clock;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final LongAdder rejected = new LongAdder();
+	private volatile int limit;
+
+	private AdaptiveLimiter (Builder builder) {
+		// the default is created per limiter, since an algorithm instance must not be shared
+		this.algorithm = builder.algorithm == null ? gradient(20, 1000) : builder.algorithm;
+		this.dropIf = builder.dropIf;
+		this.clock = builder.clock;
+		this.limit = Math.max(1, algorithm.initialLimit());
+	}
+
+	public static Builder builder () {
+		return new Builder();
+	}
+
+	/**
+	 * Decides the concurrency limit. Updates are never called concurrently, so implementations may keep plain mutable
+	 * state; for the same reason an instance must not be shared between limiters.
+	 */
+	public interface Algorithm {
+		int initialLimit ();
+
+		int update (long latencyNanos, int inFlight, boolean dropped);
+	}
+
+	/**
+	 * Additive increase, multiplicative decrease: grows the limit by one for every {@code limit} calls completing
+	 * while the limit was at least half used, and multiplies it by {@code backoff} on every drop.
+	 */
+	public static Algorithm aimd (int initialLimit, int maxLimit, double backoff) {
+		return new Aimd(initialLimit, maxLimit, backoff);
+	}
+
+	public static Algorithm aimd (int initialLimit, int maxLimit) {
+		return aimd(initialLimit, maxLimit, 0.9);
+	}
+
+	/**
+	 * Latency gradient: compares each call's latency with a slow moving average and shrinks the limit as latency grows
+	 * past {@code tolerance} times that average, while always allowing a small queue of {@code sqrt(limit)} calls so
+	 * the limit can probe upward.
+	 */
+	public static Algorithm gradient (int initialLimit, int maxLimit, double tolerance) {
+		return new Gradient(initialLimit, maxLimit, tolerance);
+	}
+
+	public static Algorithm gradient (int initialLimit, int maxLimit) {
+		return gradient(initialLimit, maxLimit, 1.5);
+	}
+
+	public int limit () {
+		return limit;
+	}
+
+	public int inFlightCalls () {
+		return inFlight.get();
+	}
+
+	public long rejectedCalls () {
+		return rejected.sum();
+	}
+
+	/**
+	 * Takes a permit when the limit allows one. The caller must report how the call ended through one of the permit's
+	 * methods; only the first report counts, so a timeout path racing the call's own completion is harmless.
+	 * {@link #call} does this itself.
+	 */
+	public Option<Permit> tryAcquire () {
+		while (true) {
+			int current = inFlight.get();
+			if (current >= limit) {
+				rejected.increment();
+				return Option.empty();
+			}
+			if (inFlight.compareAndSet(current, current + 1)) return Option.of(new Permit(current + 1));
+		}
+	}
+
+	public <T, X extends Exception> Attempt<T, X> call (CheckedSupplier<T, X> supplier, SuperSupplier<X> whenLimited) {
+		Option<Permit> permit = tryAcquire();
+		if (permit.isEmpty()) return Attempt.failure(whenLimited.get());
+		boolean completed = false;
+		boolean dropped = false;
+		try {
+			Attempt<T, X> outcome = Attempt.of(supplier);
+			dropped = outcome.isFailure() && dropIf.test(outcome.getFailure());
+			completed = true;
+			return outcome;
+		} finally {
+			// an Error from the supplier or dropIf frees the permit without feeding the algorithm
+			permit.get().release(dropped, completed);
+		}
+	}
+
+	public <Input, Output, X extends Exception> SuperFunction<Input, Attempt<Output, X>> decorate (
+			CheckedFunction<Input, Output, X> function,
+			SuperSupplier<X> whenLimited
+	) {
+		return input -> call(() -> function.apply(input), whenLimited);
+	}
+
+	private synchronized void sample (long latency, int inFlightAtStart, boolean dropped) {
+		limit = Math.max(1, algorithm.update(latency, inFlightAtStart, dropped));
+	}
+
+	public final class Permit {
+		private final long startedAt = clock.getAsLong();
+		private final int inFlightAtStart;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private Permit (int inFlightAtStart) {
+			this.inFlightAtStart = inFlightAtStart;
+		}
+
+		public void success () {
+			release(false, true);
+		}
+
+		public void dropped () {
+			release(true, true);
+		}
+
+		/**
+		 * Frees the permit without feeding the algorithm, for calls whose latency says nothing about the protected
+		 * resource (cancelled, or failed before reaching it).
+		 */
+		public void ignore () {
+			release(false, false);
+		}
+
+		private void release (boolean dropped, boolean sample) {
+			if (!released.compareAndSet(false, true)) return;
+			inFlight.decrementAndGet();
+			if (sample) sample(clock.getAsLong() - startedAt, inFlightAtStart, dropped);
+		}
+	}
+
+	private static final class Aimd implements Algorithm {
+		private final int initialLimit;
+		private final int maxLimit;
+		private final double backoff;
+		private double limit;
+
+		private Aimd (int initialLimit, int maxLimit, double backoff) {
+			if (initialLimit < 1 || maxLimit < initialLimit) {
+				throw new IllegalArgumentException("Invalid limits: " + initialLimit + ", " + maxLimit);
+			}
+			if (!(backoff > 0 && backoff < 1)) throw new IllegalArgumentException("Backoff must be in (0, 1): " + backoff);
+			this.initialLimit = initialLimit;
+			this.maxLimit = maxLimit;
+			this.backoff = backoff;
+			this.limit = initialLimit;
+		}
+
+		@Override public int initialLimit () {
+			return initialLimit;
+		}
+
+		@Override public int update (long latencyNanos, int inFlight, boolean dropped) {
+			if (dropped) limit = Math.max(1, limit * backoff);
+			else if (inFlight * 2 >= limit) limit = Math.min(maxLimit, limit + 1 / limit);
+			return (int) limit;
+		}
+	}
+
+	private static final class Gradient implements Algorithm {
+		private static final double SMOOTHING = 0.2;
+		private static final double LONG_WINDOW = 600;
+
+		private final int initialLimit;
+		private final int maxLimit;
+		private final double tolerance;
+		private double limit;
+		private double longLatency;
+
+		private Gradient (int initialLimit, int maxLimit, double tolerance) {
+			if (initialLimit < 1 || maxLimit < initialLimit) {
+				throw new IllegalArgumentException("Invalid limits: " + initialLimit + ", " + maxLimit);
+			}
+			if (!(tolerance >= 1)) throw new IllegalArgumentException("Tolerance must be at least 1: " + tolerance);
+			this.initialLimit = initialLimit;
+			this.maxLimit = maxLimit;
+			this.tolerance = tolerance;
+			this.limit = initialLimit;
+		}
+
+		@Override public int initialLimit () {
+			return initialLimit;
+		}
+
+		@Override public int update (long latencyNanos, int inFlight, boolean dropped) {
+			double latency = Math.max(1, latencyNanos);
+			longLatency = longLatency == 0 ? latency : longLatency + (latency - longLatency) / LONG_WINDOW;
+			// once load goes away the average must not keep remembering the congested latencies
+			if (longLatency > 2 * latency) longLatency *= 0.95;
+			if (!dropped && inFlight * 2 < limit) return (int) limit;
+
+			double gradient = dropped ? 0.5 : Math.max(0.5, Math.min(1.0, tolerance * longLatency / latency));
+			double next = limit * gradient + Math.sqrt(limit);
+			limit = Math.max(1, Math.min(maxLimit, limit * (1 - SMOOTHING) + next * SMOOTHING));
+			return (int) limit;
+		}
+	}
+
+	public static final class Builder {
+		private Algorithm algorithm;
+		private SuperPredicate<Exception> dropIf = e -> true;
+		private LongSupplier clock = System::nanoTime;
+
+		private Builder () {}
+
+		/**
+		 * The algorithm deciding the limit. Defaults to {@code gradient(20, 1000)}, created afresh for every limiter
+		 * built.
+		 */
+		public Builder algorithm (Algorithm algorithm) {
+			this.algorithm = Objects.requireNonNull(algorithm);
+			return this;
+		}
+
+		/**
+		 * Which failures count as the resource being overloaded. Defaults to every failure.
+		 */
+		public Builder dropIf (SuperPredicate<Exception> dropIf) {
+			this.dropIf = Objects.requireNonNull(dropIf);
+			return this;
+		}
+
+		public Builder clock (LongSupplier nanoTime) {
+			this.clock = Objects.requireNonNull(nanoTime);
+			return this;
+		}
+
+		public AdaptiveLimiter build () {
+			return new AdaptiveLimiter(this);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package pianissimo.jflowty.resilience;
+
+import pianissimo.jflowty.functions.checked.*;
+import pianissimo.jflowty.functions.conversions.*;
+import pianissimo.jflowty.unions.*;
+
+import java.time.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Caps how many calls may run at once. A call that finds no free permit waits at most {@code maxWait} for one and is
+ * otherwise rejected with the caller's failure value instead of blocking, so a slow dependency can hold at most
+ * {@code maxConcurrentCalls} threads.
+ */
+public final class Bulkhead {
+	private final int maxConcurrentCalls;
+	private final long maxWait;
+	private final Semaphore permits;
+	private final LongAdder rejected = new LongAdder();
+
+	private Bulkhead (int maxConcurrentCalls, long maxWait) {
+		this.maxConcurrentCalls = maxConcurrentCalls;
+		this.maxWait = maxWait;
+		this.permits = new Semaphore(maxConcurrentCalls);
+	}
+
+	public static Bulkhead of (int maxConcurrentCalls) {
+		return of(maxConcurrentCalls, Duration.ZERO);
+	}
+
+	public static Bulkhead of (int maxConcurrentCalls, Duration maxWait) {
+		if (maxConcurrentCalls < 1) {
+			throw new IllegalArgumentException("maxConcurrentCalls must be positive: " + maxConcurrentCalls);
+		}
+		if (maxWait.isNegative()) throw new IllegalArgumentException("Negative maxWait: " + maxWait);
+		return new Bulkhead(maxConcurrentCalls, maxWait.toNanos());
+	}
+
+	public <T, X extends Exception> Attempt<T, X> call (CheckedSupplier<T, X> supplier, SuperSupplier<X> whenFull) {
+		if (!acquire()) {
+			rejected.increment();
+			return Attempt.failure(whenFull.get());
+		}
+		try {
+			return Attempt.of(supplier);
+		} finally {
+			permits.release();
+		}
+	}
+
+	public <Input, Output, X extends Exception> SuperFunction<Input, Attempt<Output, X>> decorate (
+			CheckedFunction<Input, Output, X> function,
+			SuperSupplier<X> whenFull
+	) {
+		return input -> call(() -> function.apply(input), whenFull);
+	}
+
+	public int availablePermits () {
+		return permits.availablePermits();
+	}
+
+	public int inFlightCalls () {
+		return maxConcurrentCalls - permits.availablePermits();
+	}
+
+	public long rejectedCalls () {
+		return rejected.sum();
+	}
+
+	private boolean acquire () {
+		if (permits.tryAcquire()) return true;
+		if (maxWait == 0) return false;
+		try {
+			return permits.tryAcquire(maxWait, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -0,0 +1,305 @@
+package pianissimo.jflowty.resilience;
+
+import pianissimo.jflowty.functions.checked.*;
+import pianissimo.jflowty.functions.conversions.*;
+import pianissimo.jflowty.unions.*;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * Circuit breaker for {@link Attempt}-producing calls. While closed, outcomes are recorded in a sliding window (the
+ * last N calls, or the calls of the last time period split into buckets); once enough calls were seen and the failure
+ * rate reaches the threshold the breaker opens and fails fast with the caller's failure value. After the open
+ * duration a limited number of trial calls are let through half-open: one failure opens the breaker again, all of
+ * them succeeding closes it with a fresh window.
+ * <p>
+ * Every transition is a compare-and-set on an immutable phase object, and each call reports its outcome against the
+ * phase that admitted it, so a late result from an old phase can never flip a newer one.
+ */
+public final class CircuitBreaker {
+	private final SuperSupplier<Window> windowFactory;
+	private final double failureRateThreshold;
+	private final int minimumCalls;
+	private final long openDuration;
+	private final int halfOpenCalls;
+	private final SuperPredicate<Exception> recordIf;
+	private final LongSupplier clock;
+
+	private final AtomicReference<Phase> phase;
+	private final LongAdder rejected = new LongAdder();
+
+	private CircuitBreaker (Builder builder) {
+		this.windowFactory = builder.windowFactory;
+		this.failureRateThreshold = builder.failureRateThreshold;
+		this.minimumCalls = builder.minimumCalls;
+		this.openDuration = builder.openDuration;
+		this.halfOpenCalls = builder.halfOpenCalls;
+		this.recordIf = builder.recordIf;
+		this.clock = builder.clock;
+		this.phase = new AtomicReference<>(closed());
+	}
+
+	public static Builder builder () {
+		return new Builder();
+	}
+
+	public enum State {CLOSED, OPEN, HALF_OPEN}
+
+	public State state () {
+		return phase.get().state;
+	}
+
+	public long rejectedCalls () {
+		return rejected.sum();
+	}
+
+	public <T, X extends Exception> Attempt<T, X> call (CheckedSupplier<T, X> supplier, SuperSupplier<X> whenOpen) {
+		Phase admitted = acquire();
+		if (admitted == null) {
+			rejected.increment();
+			return Attempt.failure(whenOpen.get());
+		}
+		boolean failure = true;
+		try {
+			Attempt<T, X> outcome = Attempt.of(supplier);
+			failure = outcome.isFailure() && recordIf.test(outcome.getFailure());
+			return outcome;
+		} finally {
+			// an Error from the supplier or recordIf counts as a failure, so a trial permit is never left unsettled
+			onResult(admitted, failure);
+		}
+	}
+
+	public <Input, Output, X extends Exception> SuperFunction<Input, Attempt<Output, X>> decorate (
+			CheckedFunction<Input, Output, X> function,
+			SuperSupplier<X> whenOpen
+	) {
+		return input -> call(() -> function.apply(input), whenOpen);
+	}
+
+	/**
+	 * Returns the phase admitting the call, or null when the call must be rejected.
+	 */
+	private Phase acquire () {
+		while (true) {
+			Phase current = phase.get();
+			switch (current.state) {
+				case CLOSED:
+					return current;
+				case OPEN:
+					if (clock.getAsLong() - current.openedAt < openDuration) return null;
+					phase.compareAndSet(current, halfOpen());
+					break;
+				default:
+					AtomicInteger permits = current.trialPermits;
+					return permits.get() > 0 && permits.getAndDecrement() > 0 ? current : null;
+			}
+		}
+	}
+
+	private void onResult (Phase admitted, boolean failure) {
+		if (admitted.state == State.CLOSED) {
+			Window window = admitted.window;
+			long now = clock.getAsLong();
+			window.record(failure, now);
+			if (!failure) return;
+			int calls = window.calls(now);
+			if (calls >= minimumCalls && window.failures(now) >= failureRateThreshold * calls) {
+				phase.compareAndSet(admitted, open());
+			}
+		} else if (failure) {
+			phase.compareAndSet(admitted, open());
+		} else if (admitted.trialSuccesses.incrementAndGet() == halfOpenCalls) {
+			phase.compareAndSet(admitted, closed());
+		}
+	}
+
+	private Phase closed () {
+		return new Phase(State.CLOSED, 0, windowFactory.get(), 0);
+	}
+
+	private Phase open () {
+		return new Phase(State.OPEN, clock.getAsLong(), null, 0);
+	}
+
+	private Phase halfOpen () {
+		return new Phase(State.HALF_OPEN, 0, null, halfOpenCalls);
+	}
+
+	private static final class Phase {
+		private final State state;
+		private final long openedAt;
+		private final Window window;
+		private final AtomicInteger trialPermits;
+		private final AtomicInteger trialSuccesses = new AtomicInteger();
+
+		private Phase (State state, long openedAt, Window window, int trialPermits) {
+			this.state = state;
+			this.openedAt = openedAt;
+			this.window = window;
+			this.trialPermits = new AtomicInteger(trialPermits);
+		}
+	}
+
+	private interface Window {
+		void record (boolean failure, long now);
+
+		int calls (long now);
+
+		int failures (long now);
+	}
+
+	/**
+	 * Outcomes of the last {@code size} calls in a ring; the running totals are adjusted by the outcome each slot
+	 * replaces.
+	 */
+	private static final class CountWindow implements Window {
+		private static final int EMPTY = 0;
+		private static final int SUCCESS = 1;
+		private static final int FAILURE = 2;
+
+		private final int size;
+		private final AtomicIntegerArray outcomes;
+		private final AtomicLong cursor = new AtomicLong();
+		private final AtomicInteger calls = new AtomicInteger();
+		private final AtomicInteger failures = new AtomicInteger();
+
+		private CountWindow (int size) {
+			this.size = size;
+			this.outcomes = new AtomicIntegerArray(size);
+		}
+
+		@Override public void record (boolean failure, long now) {
+			int slot = (int) (cursor.getAndIncrement() % size);
+			int previous = outcomes.getAndSet(slot, failure ? FAILURE : SUCCESS);
+			if (previous == EMPTY) calls.incrementAndGet();
+			if (previous == FAILURE && !failure) failures.decrementAndGet();
+			if (previous != FAILURE && failure) failures.incrementAndGet();
+		}
+
+		@Override public int calls (long now) {
+			return calls.get();
+		}
+
+		@Override public int failures (long now) {
+			return failures.get();
+		}
+	}
+
+	/**
+	 * Outcomes of the last {@code buckets} time buckets. A bucket is reset by the first call that finds it holding an
+	 * older period; calls racing with that reset may be lost, which only makes the window slightly forgetful.
+	 */
+	private static final class TimeWindow implements Window {
+		private final long bucketNanos;
+		private final Bucket[] buckets;
+
+		private TimeWindow (long windowNanos, int bucketCount) {
+			this.bucketNanos = Math.max(1, windowNanos / bucketCount);
+			this.buckets = new Bucket[bucketCount];
+			for (int i = 0; i < bucketCount; i++) buckets[i] = new Bucket();
+		}
+
+		@Override public void record (boolean failure, long now) {
+			long period = Math.floorDiv(now, bucketNanos);
+			Bucket bucket = buckets[(int) Math.floorMod(period, (long) buckets.length)];
+			bucket.roll(period);
+			bucket.calls.incrementAndGet();
+			if (failure) bucket.failures.incrementAndGet();
+		}
+
+		@Override public int calls (long now) {
+			long oldest = Math.floorDiv(now, bucketNanos) - buckets.length;
+			int calls = 0;
+			for (Bucket bucket : buckets) if (bucket.period.get() > oldest) calls += bucket.calls.get();
+			return calls;
+		}
+
+		@Override public int failures (long now) {
+			long oldest = Math.floorDiv(now, bucketNanos) - buckets.length;
+			int failures = 0;
+			for (Bucket bucket : buckets) if (bucket.period.get() > oldest) failures += bucket.failures.get();
+			return failures;
+		}
+
+		private static final class Bucket {
+			private final AtomicLong period = new AtomicLong(Long.MIN_VALUE);
+			private final AtomicInteger calls = new AtomicInteger();
+			private final AtomicInteger failures = new AtomicInteger();
+
+			private void roll (long current) {
+				long seen = period.get();
+				if (seen != current && period.compareAndSet(seen, current)) {
+					calls.set(0);
+					failures.set(0);
+				}
+			}
+		}
+	}
+
+	public static final class Builder {
+		private SuperSupplier<Window> windowFactory = () -> new CountWindow(100);
+		private double failureRateThreshold = 0.5;
+		private int minimumCalls = 20;
+		private long openDuration = Duration.ofSeconds(30).toNanos();
+		private int halfOpenCalls = 5;
+		private SuperPredicate<Exception> recordIf = __ -> true;
+		private LongSupplier clock = System::nanoTime;
+
+		private Builder () {}
+
+		public Builder countWindow (int calls) {
+			if (calls < 1) throw new IllegalArgumentException("Window must hold at least one call: " + calls);
+			this.windowFactory = () -> new CountWindow(calls);
+			return this;
+		}
+
+		public Builder timeWindow (Duration window, int buckets) {
+			if (buckets < 1) throw new IllegalArgumentException("Window needs at least one bucket: " + buckets);
+			long nanos = window.toNanos();
+			this.windowFactory = () -> new TimeWindow(nanos, buckets);
+			return this;
+		}
+
+		public Builder failureRateThreshold (double failureRateThreshold) {
+			if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+				throw new IllegalArgumentException("Threshold must be within (0, 1]: " + failureRateThreshold);
+			}
+			this.failureRateThreshold = failureRateThreshold;
+			return this;
+		}
+
+		public Builder minimumCalls (int minimumCalls) {
+			this.minimumCalls = Math.max(1, minimumCalls);
+			return this;
+		}
+
+		public Builder openDuration (Duration openDuration) {
+			this.openDuration = openDuration.toNanos();
+			return this;
+		}
+
+		public Builder halfOpenCalls (int halfOpenCalls) {
+			if (halfOpenCalls < 1) throw new IllegalArgumentException("At least one trial call needed: " + halfOpenCalls);
+			this.halfOpenCalls = halfOpenCalls;
+			return this;
+		}
+
+		public Builder recordIf (SuperPredicate<Exception> recordIf) {
+			this.recordIf = Objects.requireNonNull(recordIf);
+			return this;
+		}
+
+		public Builder clock (LongSupplier nanoTime) {
+			this.clock = Objects.requireNonNull(nanoTime);
+			return this;
+		}
+
+		public CircuitBreaker build () {
+			return new CircuitBreaker(this);
+		}
+	}
+}
@@ -0,0 +1,279 @@
+package pianissimo.jflowty.resilience;
+
+import pianissimo.jflowty.functions.checked.*;
+import pianissimo.jflowty.functions.conversions.*;
+import pianissimo.jflowty.unions.*;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * Hedged calls for cutting tail latency against replicated backends. The first supplier starts right away and each
+ * further one starts once the calls already running have gone {@code delay} without an answer, or immediately when
+ * one of them fails. The first success wins and the calls still running are cancelled with an interrupt; when every
+ * call fails the result is the failure of the last one to finish.
+ * <p>
+ * The delay is either fixed or follows a percentile of the latencies observed by recent calls, so only the slowest
+ * few percent of calls send a hedge. {@link #hedgesFired} and {@link #hedgesWon} tell how much extra load hedging
+ * costs and how often it pays off.
+ */
+public final class Hedge {
+	private static final int SAMPLES = 256;
+	private static final int RECOMPUTE_EVERY = 64;
+
+	private final int maxHedges;
+	private final double percentile;
+	private final Executor executor;
+	private final LongSupplier clock;
+	private volatile long delay;
+
+	private final AtomicLongArray samples = new AtomicLongArray(SAMPLES);
+	private final AtomicLong recorded = new AtomicLong();
+	private final LongAdder calls = new LongAdder();
+	private final LongAdder fired = new LongAdder();
+	private final LongAdder won = new LongAdder();
+
+	private Hedge (Builder builder) {
+		this.maxHedges = builder.maxHedges;
+		this.percentile = builder.percentile;
+		this.executor = builder.executor;
+		this.clock = builder.clock;
+		this.delay = builder.delay;
+	}
+
+	public static Builder builder () {
+		return new Builder();
+	}
+
+	/**
+	 * Hedges the supplier with up to {@code maxHedges} further calls to itself.
+	 */
+	public <T, X extends Exception> Attempt<T, X> call (CheckedSupplier<T, X> supplier) {
+		return call(Collections.nCopies(maxHedges + 1, supplier));
+	}
+
+	/**
+	 * Calls the suppliers in order, typically one per replica, each one hedging the ones before it. An executor
+	 * rejecting a call ends the race with the {@link RejectedExecutionException} thrown, and an interrupt while
+	 * waiting cancels the calls and throws a {@link CancellationException} with the interrupt flag restored.
+	 */
+	public <T, X extends Exception> Attempt<T, X> call (List<? extends CheckedSupplier<T, X>> suppliers) {
+		Race<T, X> race = new Race<>(suppliers, executor);
+		race.launchNext();
+		try {
+			while (race.hasMore()) {
+				try {
+					return race.result.get(delay, TimeUnit.NANOSECONDS);
+				} catch (TimeoutException e) {
+					race.launchNext();
+				}
+			}
+			return race.result.get();
+		} catch (InterruptedException e) {
+			race.cancelAll();
+			Thread.currentThread().interrupt();
+			CancellationException cancelled = new CancellationException("Interrupted while waiting for hedged calls");
+			cancelled.initCause(e);
+			throw cancelled;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Error) throw (Error) e.getCause();
+			if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	public <T, X extends Exception> AsyncAttempt<T, X> callAsync (
+			CheckedSupplier<T, X> supplier,
+			ScheduledExecutorService scheduler
+	) {
+		return callAsync(Collections.nCopies(maxHedges + 1, supplier), scheduler);
+	}
+
+	/**
+	 * Like {@link #call(List)}, but schedules the hedges on the scheduler instead of waiting for them on the calling
+	 * thread. The suppliers still run on the executor, so a slow call never holds up the timer that is to hedge it,
+	 * and the scheduler only needs a single thread. A rejected execution completes the result exceptionally.
+	 */
+	public <T, X extends Exception> AsyncAttempt<T, X> callAsync (
+			List<? extends CheckedSupplier<T, X>> suppliers,
+			ScheduledExecutorService scheduler
+	) {
+		Race<T, X> race = new Race<>(suppliers, executor);
+		try {
+			race.launchNext();
+			long hedgeDelay = delay;
+			for (int hedge = 1; hedge < suppliers.size(); hedge++) {
+				ScheduledFuture<?> timer = scheduler.schedule(race::launchNext, hedge * hedgeDelay, TimeUnit.NANOSECONDS);
+				race.result.whenComplete((attempt, throwable) -> timer.cancel(false));
+			}
+		} catch (RejectedExecutionException e) {
+			race.result.completeExceptionally(e);
+		}
+		return AsyncAttempt.of(race.result, executor);
+	}
+
+	public <Input, Output, X extends Exception> SuperFunction<Input, Attempt<Output, X>> decorate (
+			CheckedFunction<Input, Output, X> function
+	) {
+		return input -> call(() -> function.apply(input));
+	}
+
+	public long calls () {
+		return calls.sum();
+	}
+
+	public long hedgesFired () {
+		return fired.sum();
+	}
+
+	public long hedgesWon () {
+		return won.sum();
+	}
+
+	public Duration currentDelay () {
+		return Duration.ofNanos(delay);
+	}
+
+	private void record (long latency) {
+		if (percentile < 0) return;
+		long count = recorded.getAndIncrement();
+		samples.set((int) (count % SAMPLES), latency);
+		if (count % RECOMPUTE_EVERY == RECOMPUTE_EVERY - 1) {
+			int size = (int) Math.min(count + 1, SAMPLES);
+			long[] sorted = new long[size];
+			for (int i = 0; i < size; i++) sorted[i] = samples.get(i);
+			Arrays.sort(sorted);
+			delay = sorted[Math.max(0, (int) Math.ceil(percentile * size) - 1)];
+		}
+	}
+
+	/**
+	 * The calls made for one hedged request and the shared result the first success, or the last failure, completes.
+	 */
+	private final class Race<T, X extends Exception> {
+		private final List<? extends CheckedSupplier<T, X>> suppliers;
+		private final Executor runner;
+		private final AtomicReferenceArray<FutureTask<?>> tasks;
+		private final AtomicInteger next = new AtomicInteger();
+		private final AtomicInteger finished = new AtomicInteger();
+		private final CompletableFuture<Attempt<T, X>> result = new CompletableFuture<>();
+		private final long start = clock.getAsLong();
+
+		private Race (List<? extends CheckedSupplier<T, X>> suppliers, Executor runner) {
+			if (suppliers.isEmpty()) throw new IllegalArgumentException("Nothing to call");
+			this.suppliers = suppliers;
+			this.runner = runner;
+			this.tasks = new AtomicReferenceArray<>(suppliers.size());
+			calls.increment();
+		}
+
+		private boolean hasMore () {
+			return next.get() < suppliers.size();
+		}
+
+		private void launchNext () {
+			if (result.isDone()) return;
+			int index = next.getAndIncrement();
+			if (index >= suppliers.size()) return;
+			if (index > 0) fired.increment();
+			CheckedSupplier<T, X> supplier = suppliers.get(index);
+			FutureTask<?> task = new FutureTask<>(() -> {
+				try {
+					onOutcome(index, Attempt.of(supplier));
+				} catch (Error e) {
+					result.completeExceptionally(e);
+					throw e;
+				}
+			}, null);
+			tasks.set(index, task);
+			try {
+				runner.execute(task);
+			} catch (RejectedExecutionException e) {
+				// not a failure of the supplier, so the race ends with the rejection rather than an X it never threw
+				result.completeExceptionally(e);
+				cancelAll();
+				return;
+			}
+			if (result.isDone()) task.cancel(true);
+		}
+
+		private void onOutcome (int index, Attempt<T, X> outcome) {
+			boolean last = finished.incrementAndGet() == suppliers.size();
+			if (outcome.isSuccess()) {
+				if (!result.complete(outcome)) return;
+				record(clock.getAsLong() - start);
+				if (index > 0) won.increment();
+				cancelAll();
+			} else if (last) {
+				result.complete(outcome);
+			} else {
+				launchNext();
+			}
+		}
+
+		private void cancelAll () {
+			for (int i = 0; i < tasks.length(); i++) {
+				FutureTask<?> task = tasks.get(i);
+				if (task != null) task.cancel(true);
+			}
+		}
+	}
+
+	public static final class Builder {
+		private long delay = TimeUnit.MILLISECONDS.toNanos(50);
+		private double percentile = -1;
+		private int maxHedges = 1;
+		private Executor executor;
+		private LongSupplier clock = System::nanoTime;
+
+		private Builder () {}
+
+		public Builder delay (Duration delay) {
+			if (delay.isNegative()) throw new IllegalArgumentException("Negative delay: " + delay);
+			this.delay = delay.toNanos();
+			this.percentile = -1;
+			return this;
+		}
+
+		/**
+		 * Hedges once a call has been slower than the given percentile, say 0.95, of recent calls. The initial delay
+		 * applies until enough latencies were observed.
+		 */
+		public Builder delayPercentile (double percentile, Duration initialDelay) {
+			if (!(percentile > 0 && percentile <= 1)) {
+				throw new IllegalArgumentException("Percentile must be in (0, 1]: " + percentile);
+			}
+			delay(initialDelay);
+			this.percentile = percentile;
+			return this;
+		}
+
+		public Builder maxHedges (int maxHedges) {
+			if (maxHedges < 0) throw new IllegalArgumentException("Negative maxHedges: " + maxHedges);
+			this.maxHedges = maxHedges;
+			return this;
+		}
+
+		/**
+		 * Where the suppliers run, for {@link #call} and {@link #callAsync} alike. Defaults to
+		 * {@link FanOutExecutor#defaultExecutor()}.
+		 */
+		public Builder executor (Executor executor) {
+			this.executor = Objects.requireNonNull(executor);
+			return this;
+		}
+
+		public Builder clock (LongSupplier nanoTime) {
+			this.clock = Objects.requireNonNull(nanoTime);
+			return this;
+		}
+
+		public Hedge build () {
+			if (executor == null) executor = FanOutExecutor.defaultExecutor();
+			return new Hedge(this);
+		}
+	}
+}
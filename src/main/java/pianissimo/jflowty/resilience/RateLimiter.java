@@ -0,0 +1,126 @@
+package pianissimo.jflowty.resilience;
+
+import pianissimo.jflowty.functions.checked.*;
+import pianissimo.jflowty.functions.conversions.*;
+import pianissimo.jflowty.unions.*;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * Token bucket limiting calls to {@code permitsPerSecond} with bursts of up to {@code burst} calls, implemented as
+ * the equivalent generic cell rate algorithm: the whole bucket is one theoretical arrival time advanced by
+ * compare-and-set, so taking a permit costs a single CAS. A call that would have to wait longer than {@code maxWait}
+ * for its permit is rejected with the caller's failure value; shorter waits reserve the permit and sleep until it is
+ * due.
+ */
+public final class RateLimiter {
+	private final long interval;
+	private final long tolerance;
+	private final long maxWait;
+	private final LongSupplier clock;
+	private final AtomicLong arrival;
+
+	private final LongAdder permitted = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+
+	private RateLimiter (Builder builder) {
+		this.interval = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / builder.permitsPerSecond));
+		this.tolerance = interval * builder.burst;
+		this.maxWait = builder.maxWait;
+		this.clock = builder.clock;
+		this.arrival = new AtomicLong(clock.getAsLong() - tolerance);
+	}
+
+	public static RateLimiter of (double permitsPerSecond, int burst) {
+		return builder().permitsPerSecond(permitsPerSecond).burst(burst).build();
+	}
+
+	public static Builder builder () {
+		return new Builder();
+	}
+
+	public <T, X extends Exception> Attempt<T, X> call (CheckedSupplier<T, X> supplier, SuperSupplier<X> whenLimited) {
+		if (!acquire()) {
+			rejected.increment();
+			return Attempt.failure(whenLimited.get());
+		}
+		permitted.increment();
+		return Attempt.of(supplier);
+	}
+
+	public <Input, Output, X extends Exception> SuperFunction<Input, Attempt<Output, X>> decorate (
+			CheckedFunction<Input, Output, X> function,
+			SuperSupplier<X> whenLimited
+	) {
+		return input -> call(() -> function.apply(input), whenLimited);
+	}
+
+	public long permittedCalls () {
+		return permitted.sum();
+	}
+
+	public long rejectedCalls () {
+		return rejected.sum();
+	}
+
+	private boolean acquire () {
+		long now;
+		long wait;
+		while (true) {
+			now = clock.getAsLong();
+			long current = arrival.get();
+			long next = Math.max(current - now, 0) + now + interval;
+			wait = next - now - tolerance;
+			if (wait > maxWait) return false;
+			if (arrival.compareAndSet(current, next)) break;
+		}
+		if (wait <= 0) return true;
+		try {
+			TimeUnit.NANOSECONDS.sleep(wait);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	public static final class Builder {
+		private double permitsPerSecond = 100;
+		private int burst = 1;
+		private long maxWait = 0;
+		private LongSupplier clock = System::nanoTime;
+
+		private Builder () {}
+
+		public Builder permitsPerSecond (double permitsPerSecond) {
+			if (!(permitsPerSecond > 0)) throw new IllegalArgumentException("Rate must be positive: " + permitsPerSecond);
+			this.permitsPerSecond = permitsPerSecond;
+			return this;
+		}
+
+		public Builder burst (int burst) {
+			if (burst < 1) throw new IllegalArgumentException("Burst must be at least 1: " + burst);
+			this.burst = burst;
+			return this;
+		}
+
+		public Builder maxWait (Duration maxWait) {
+			if (maxWait.isNegative()) throw new IllegalArgumentException("Negative maxWait: " + maxWait);
+			this.maxWait = maxWait.toNanos();
+			return this;
+		}
+
+		public Builder clock (LongSupplier nanoTime) {
+			this.clock = Objects.requireNonNull(nanoTime);
+			return this;
+		}
+
+		public RateLimiter build () {
+			return new RateLimiter(this);
+		}
+	}
+}
@@ -0,0 +1,191 @@
+package pianissimo.jflowty.resilience;
+
+import pianissimo.jflowty.functions.checked.*;
+import pianissimo.jflowty.functions.conversions.*;
+import pianissimo.jflowty.unions.*;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Retry policy for {@link CheckedSupplier}s and {@link CheckedFunction}s, producing the last {@link Attempt}.
+ * <p>
+ * Delays grow exponentially from {@code initialDelay} by {@code multiplier} up to {@code maxDelay}, and each one is
+ * shortened by a random share of up to {@code jitter} of itself so retries from many callers spread out. Retrying
+ * stops after {@code maxAttempts}, once the next delay would go past {@code maxElapsed}, or on a failure the
+ * retry-on predicate rejects. An {@link InterruptedException} is never retried, whatever the predicate says: the
+ * interrupt flag its throwing cleared is restored and the failure returned as it is. {@link #run} sleeps between attempts on the calling thread; {@link #runAsync}
+ * schedules each attempt instead, so no thread is held while waiting.
+ */
+public final class Retry {
+	private static final long UNLIMITED = Long.MAX_VALUE;
+
+	private final int maxAttempts;
+	private final long initialDelay;
+	private final double multiplier;
+	private final long maxDelay;
+	private final double jitter;
+	private final long maxElapsed;
+	private final SuperPredicate<Exception> retryOn;
+	private final LongSupplier clock;
+
+	private Retry (Builder builder) {
+		this.maxAttempts = builder.maxAttempts;
+		this.initialDelay = builder.initialDelay;
+		this.multiplier = builder.multiplier;
+		this.maxDelay = builder.maxDelay;
+		this.jitter = builder.jitter;
+		this.maxElapsed = builder.maxElapsed;
+		this.retryOn = builder.retryOn;
+		this.clock = builder.clock;
+	}
+
+	public static Builder builder () {
+		return new Builder();
+	}
+
+	public <T, X extends Exception> Attempt<T, X> run (CheckedSupplier<T, X> supplier) {
+		long start = clock.getAsLong();
+		for (int attempt = 1; ; attempt++) {
+			Attempt<T, X> outcome = Attempt.of(supplier);
+			long delay = nextDelay(outcome, attempt, start);
+			if (delay < 0) return outcome;
+			try {
+				TimeUnit.NANOSECONDS.sleep(delay);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return outcome;
+			}
+		}
+	}
+
+	public <T, X extends Exception> AsyncAttempt<T, X> runAsync (
+			CheckedSupplier<T, X> supplier,
+			ScheduledExecutorService scheduler
+	) {
+		CompletableFuture<Attempt<T, X>> result = new CompletableFuture<>();
+		long start = clock.getAsLong();
+		try {
+			scheduler.execute(() -> attemptAsync(supplier, scheduler, result, start, 1));
+		} catch (RejectedExecutionException e) {
+			result.completeExceptionally(e);
+		}
+		return AsyncAttempt.of(result, scheduler);
+	}
+
+	public <Input, Output, X extends Exception> SuperFunction<Input, Attempt<Output, X>> decorate (
+			CheckedFunction<Input, Output, X> function
+	) {
+		return input -> run(() -> function.apply(input));
+	}
+
+	private <T, X extends Exception> void attemptAsync (
+			CheckedSupplier<T, X> supplier,
+			ScheduledExecutorService scheduler,
+			CompletableFuture<Attempt<T, X>> result,
+			long start,
+			int attempt
+	) {
+		if (result.isDone()) return;
+		Attempt<T, X> outcome = Attempt.of(supplier);
+		long delay = nextDelay(outcome, attempt, start);
+		if (delay < 0) {
+			result.complete(outcome);
+			return;
+		}
+		try {
+			scheduler.schedule(
+					() -> attemptAsync(supplier, scheduler, result, start, attempt + 1),
+					delay,
+					TimeUnit.NANOSECONDS
+			);
+		} catch (RejectedExecutionException e) {
+			result.complete(outcome);
+		}
+	}
+
+	/**
+	 * Delay before the attempt following {@code attempt}, or -1 when the outcome should be returned as it is.
+	 */
+	private long nextDelay (Attempt<?, ? extends Exception> outcome, int attempt, long start) {
+		if (outcome.isSuccess()) return -1;
+		if (outcome.getFailure() instanceof InterruptedException) {
+			Thread.currentThread().interrupt();
+			return -1;
+		}
+		if (attempt >= maxAttempts || !retryOn.test(outcome.getFailure())) return -1;
+		double exponential = initialDelay * Math.pow(multiplier, attempt - 1);
+		long delay = exponential >= maxDelay ? maxDelay : (long) exponential;
+		if (jitter > 0) delay -= (long) (delay * jitter * ThreadLocalRandom.current().nextDouble());
+		if (maxElapsed != UNLIMITED && clock.getAsLong() - start + delay > maxElapsed) return -1;
+		return delay;
+	}
+
+	public static final class Builder {
+		private int maxAttempts = 3;
+		private long initialDelay = TimeUnit.MILLISECONDS.toNanos(100);
+		private double multiplier = 2.0;
+		private long maxDelay = TimeUnit.SECONDS.toNanos(10);
+		private double jitter = 0.5;
+		private long maxElapsed = UNLIMITED;
+		private SuperPredicate<Exception> retryOn = __ -> true;
+		private LongSupplier clock = System::nanoTime;
+
+		private Builder () {}
+
+		public Builder maxAttempts (int maxAttempts) {
+			if (maxAttempts < 1) throw new IllegalArgumentException("maxAttempts must be at least 1: " + maxAttempts);
+			this.maxAttempts = maxAttempts;
+			return this;
+		}
+
+		public Builder backoff (Duration initialDelay, double multiplier, Duration maxDelay) {
+			if (multiplier < 1) throw new IllegalArgumentException("multiplier must be at least 1: " + multiplier);
+			this.initialDelay = initialDelay.toNanos();
+			this.multiplier = multiplier;
+			this.maxDelay = maxDelay.toNanos();
+			return this;
+		}
+
+		public Builder fixedDelay (Duration delay) {
+			return backoff(delay, 1, delay);
+		}
+
+		public Builder jitter (double jitter) {
+			if (jitter < 0 || jitter > 1) throw new IllegalArgumentException("jitter must be within [0, 1]: " + jitter);
+			this.jitter = jitter;
+			return this;
+		}
+
+		public Builder maxElapsed (Duration maxElapsed) {
+			this.maxElapsed = maxElapsed.toNanos();
+			return this;
+		}
+
+		public Builder retryIf (SuperPredicate<Exception> retryOn) {
+			this.retryOn = Objects.requireNonNull(retryOn);
+			return this;
+		}
+
+		@SafeVarargs
+		public final Builder retryOn (Class<? extends Exception>... failureTypes) {
+			List<Class<? extends Exception>> types = new ArrayList<>(failureTypes.length);
+			for (Class<? extends Exception> type : failureTypes) types.add(Objects.requireNonNull(type));
+			return retryIf(failure -> {
+				for (Class<? extends Exception> type : types) if (type.isInstance(failure)) return true;
+				return false;
+			});
+		}
+
+		public Builder clock (LongSupplier nanoTime) {
+			this.clock = Objects.requireNonNull(nanoTime);
+			return this;
+		}
+
+		public Retry build () {
+			return new Retry(this);
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package pianissimo.jflowty.unions;
+
+import java.util.*;
+
+/**
+ * Unmodifiable list over the first {@code size} elements of an array, used to hand out the results of bulk
+ * operations without copying them into another collection.
+ */
+final class ArrayView<T> extends AbstractList<T> implements RandomAccess {
+	private static final ArrayView<?> EMPTY = new ArrayView<>(new Object[0], 0);
+
+	private final Object[] elements;
+	private final int size;
+
+	private ArrayView (Object[] elements, int size) {
+		this.elements = elements;
+		this.size = size;
+	}
+
+	@SuppressWarnings ("unchecked")
+	static <T> List<T> of (Object[] elements, int size) {
+		if (size == 0) return (List<T>) EMPTY;
+		return new ArrayView<>(elements, size);
+	}
+
+	@SuppressWarnings ("unchecked")
+	@Override public T get (int index) {
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		return (T) elements[index];
+	}
+
+	@Override public int size () {
+		return size;
+	}
+
+	@Override public Object[] toArray () {
+		return Arrays.copyOf(elements, size);
+	}
+}
@@ -0,0 +1,275 @@
+package pianissimo.jflowty.unions;
+
+import pianissimo.jflowty.functions.checked.*;
+import pianissimo.jflowty.functions.conversions.*;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking counterpart of {@link Attempt}: an Attempt that completes later. Every stage runs on the executor the
+ * AsyncAttempt carries, and failures travel as values, so the underlying future only completes exceptionally when a
+ * stage function itself throws, just as it would propagate out of the matching Attempt method.
+ */
+public final class AsyncAttempt<TSuccess, TFailure> {
+	private final CompletableFuture<Attempt<TSuccess, TFailure>> future;
+	private final Executor executor;
+
+	private AsyncAttempt (CompletableFuture<Attempt<TSuccess, TFailure>> future, Executor executor) {
+		this.future = future;
+		this.executor = executor;
+	}
+
+	public static <TSuccess, X extends Exception> AsyncAttempt<TSuccess, X> of (
+			CheckedSupplier<TSuccess, X> supplier,
+			Executor executor
+	) {
+		return new AsyncAttempt<>(CompletableFuture.supplyAsync(() -> Attempt.of(supplier), executor), executor);
+	}
+
+	/**
+	 * Runs the supplier on {@link FanOutExecutor#defaultExecutor()}, since checked suppliers usually block.
+	 */
+	public static <TSuccess, X extends Exception> AsyncAttempt<TSuccess, X> of (CheckedSupplier<TSuccess, X> supplier) {
+		return of(supplier, FanOutExecutor.defaultExecutor());
+	}
+
+	public static <TSuccess, TFailure> AsyncAttempt<TSuccess, TFailure> of (
+			Attempt<TSuccess, TFailure> attempt,
+			Executor executor
+	) {
+		return new AsyncAttempt<>(CompletableFuture.completedFuture(attempt), executor);
+	}
+
+	public static <TSuccess, TFailure> AsyncAttempt<TSuccess, TFailure> of (
+			CompletionStage<Attempt<TSuccess, TFailure>> stage,
+			Executor executor
+	) {
+		return new AsyncAttempt<>(stage.toCompletableFuture(), executor);
+	}
+
+	public static <TSuccess> AsyncAttempt<TSuccess, Throwable> ofFuture (
+			CompletionStage<TSuccess> stage,
+			Executor executor
+	) {
+		CompletableFuture<Attempt<TSuccess, Throwable>> future = stage.handle(
+				(success, throwable) -> throwable == null
+						? Attempt.<TSuccess, Throwable>success(success)
+						: Attempt.<TSuccess, Throwable>failure(unwrap(throwable))
+		).toCompletableFuture();
+		return new AsyncAttempt<>(future, executor);
+	}
+
+	public static <TSuccess, TFailure> AsyncAttempt<TSuccess, TFailure> success (TSuccess success, Executor executor) {
+		return of(Attempt.success(success), executor);
+	}
+
+	public static <TSuccess, TFailure> AsyncAttempt<TSuccess, TFailure> failure (TFailure failure, Executor executor) {
+		return of(Attempt.failure(failure), executor);
+	}
+
+	public <TO, TI extends TO> TO then (SuperFunction<AsyncAttempt<TSuccess, TFailure>, TI> mapper) {
+		return mapper.apply(this);
+	}
+
+	public AsyncAttempt<TSuccess, TFailure> onExecutor (Executor executor) {
+		return new AsyncAttempt<>(future, Objects.requireNonNull(executor));
+	}
+
+	/**
+	 * Completes with {@code onTimeout}'s failure when this AsyncAttempt is still pending after {@code timeout}. The
+	 * work behind it is not interrupted, its late result is simply ignored. Should the executor reject the timeout,
+	 * the failure is completed on the timer thread instead.
+	 */
+	public AsyncAttempt<TSuccess, TFailure> timeout (Duration timeout, SuperSupplier<TFailure> onTimeout) {
+		return bounded(timeout.toNanos(), onTimeout);
+	}
+
+	public AsyncAttempt<TSuccess, TFailure> within (Deadline deadline, SuperSupplier<TFailure> onExpired) {
+		return bounded(deadline.remainingNanos(), onExpired);
+	}
+
+	private AsyncAttempt<TSuccess, TFailure> bounded (long nanos, SuperSupplier<TFailure> onTimeout) {
+		if (future.isDone()) return this;
+		CompletableFuture<Attempt<TSuccess, TFailure>> bounded = new CompletableFuture<>();
+		TimerWheel.Timeout timeout = TimerWheel.shared().schedule(() -> {
+			try {
+				executor.execute(() -> expire(bounded, onTimeout));
+			} catch (RejectedExecutionException e) {
+				expire(bounded, onTimeout);
+			}
+		}, nanos);
+		future.whenComplete((attempt, throwable) -> {
+			timeout.cancel();
+			if (throwable != null) bounded.completeExceptionally(unwrap(throwable));
+			else bounded.complete(attempt);
+		});
+		return new AsyncAttempt<>(bounded, executor);
+	}
+
+	public boolean isDone () {
+		return future.isDone();
+	}
+
+	public Attempt<TSuccess, TFailure> join () {
+		return future.join();
+	}
+
+	public CompletableFuture<Attempt<TSuccess, TFailure>> toFuture () {
+		return future.thenApply(SuperFunction.identity());
+	}
+
+	/**
+	 * Unwraps the success into a plain future. A failure completes it exceptionally, with the failure itself when it
+	 * is a Throwable and with a {@link UnionTypeException} otherwise.
+	 */
+	public CompletableFuture<TSuccess> toValueFuture () {
+		CompletableFuture<TSuccess> result = new CompletableFuture<>();
+		future.whenComplete((attempt, throwable) -> {
+			if (throwable != null) {
+				result.completeExceptionally(unwrap(throwable));
+			} else if (attempt.isSuccess()) {
+				result.complete(attempt.get());
+			} else {
+				TFailure failure = attempt.getFailure();
+				result.completeExceptionally(
+						failure instanceof Throwable ? (Throwable) failure : new UnionTypeException(attempt)
+				);
+			}
+		});
+		return result;
+	}
+
+	public <SO> AsyncAttempt<SO, TFailure> map (SuperFunction<TSuccess, SO> mapper) {
+		return stage(attempt -> attempt.map(mapper));
+	}
+
+	public <FO> AsyncAttempt<TSuccess, FO> mapFailure (SuperFunction<TFailure, FO> mapper) {
+		return stage(attempt -> attempt.mapFailure(mapper));
+	}
+
+	@SuppressWarnings ("unchecked")
+	public <SO> AsyncAttempt<SO, TFailure> flatMap (SuperFunction<TSuccess, AsyncAttempt<SO, TFailure>> mapper) {
+		return new AsyncAttempt<>(
+				future.thenComposeAsync(
+						attempt -> attempt.isSuccess()
+								? mapper.apply(attempt.get()).future
+								: CompletableFuture.completedFuture((Attempt<SO, TFailure>) attempt),
+						executor
+				),
+				executor
+		);
+	}
+
+	public <SO, X extends Exception> AsyncAttempt<SO, X> tryMap (
+			CheckedFunction<TSuccess, SO, X> function,
+			X exceptionOnFailure
+	) {
+		return stage(attempt -> attempt.tryMap(function, exceptionOnFailure));
+	}
+
+	public <SO, X extends Exception> AsyncAttempt<SO, X> tryMap (
+			CheckedFunction<TSuccess, SO, X> function,
+			SuperSupplier<X> exceptionSupplierOnFailure
+	) {
+		return stage(attempt -> attempt.tryMap(function, exceptionSupplierOnFailure));
+	}
+
+	public <SO, X extends Exception> AsyncAttempt<SO, X> tryFlatMap (
+			CheckedFunction<TSuccess, Attempt<SO, X>, X> function,
+			X exceptionOnFailure
+	) {
+		return stage(attempt -> attempt.tryFlatMap(function, exceptionOnFailure));
+	}
+
+	public AsyncAttempt<TSuccess, TFailure> recover (SuperFunction<TFailure, TSuccess> recovery) {
+		return stage(attempt -> attempt.recover(recovery));
+	}
+
+	public <X extends Exception> AsyncAttempt<TSuccess, TFailure> tryRecover (
+			CheckedFunction<TFailure, TSuccess, X> recovery,
+			SuperFunction<X, TSuccess> onException
+	) {
+		return stage(attempt -> attempt.tryRecover(recovery, onException));
+	}
+
+	public AsyncAttempt<TSuccess, TFailure> filter (SuperPredicate<TSuccess> predicate, TFailure onFail) {
+		return stage(attempt -> attempt.filter(predicate, onFail));
+	}
+
+	public AsyncAttempt<TSuccess, TFailure> filter (
+			SuperPredicate<TSuccess> predicate,
+			SuperSupplier<TFailure> onFail
+	) {
+		return stage(attempt -> attempt.filter(predicate, onFail));
+	}
+
+	public AsyncAttempt<TSuccess, TFailure> filter (
+			SuperPredicate<TSuccess> predicate,
+			SuperFunction<TSuccess, TFailure> failureMapper
+	) {
+		return stage(attempt -> attempt.filter(predicate, failureMapper));
+	}
+
+	public AsyncAttempt<TSuccess, TFailure> ifSuccessPeek (SuperConsumer<TSuccess> consumer) {
+		return stage(attempt -> attempt.ifSuccessPeek(consumer));
+	}
+
+	public AsyncAttempt<TSuccess, TFailure> ifFailurePeek (SuperConsumer<TFailure> consumer) {
+		return stage(attempt -> attempt.ifFailurePeek(consumer));
+	}
+
+	/**
+	 * Runs the consumer on the success once there is one. Nothing waits for the outcome, so an exception the consumer
+	 * throws goes to the uncaught exception handler of the thread running it.
+	 */
+	public void ifSuccessDo (SuperConsumer<TSuccess> consumer) {
+		terminal(attempt -> attempt.ifSuccessDo(consumer));
+	}
+
+	/**
+	 * Runs the consumer on the failure once there is one. Nothing waits for the outcome, so an exception the consumer
+	 * throws goes to the uncaught exception handler of the thread running it.
+	 */
+	public void ifFailureDo (SuperConsumer<TFailure> consumer) {
+		terminal(attempt -> attempt.ifFailureDo(consumer));
+	}
+
+	private void terminal (SuperConsumer<Attempt<TSuccess, TFailure>> action) {
+		future.thenAcceptAsync(attempt -> {
+			try {
+				action.accept(attempt);
+			} catch (Throwable e) {
+				Thread thread = Thread.currentThread();
+				thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+			}
+		}, executor);
+	}
+
+	private static <TSuccess, TFailure> void expire (
+			CompletableFuture<Attempt<TSuccess, TFailure>> bounded,
+			SuperSupplier<TFailure> onTimeout
+	) {
+		try {
+			bounded.complete(Attempt.failure(onTimeout.get()));
+		} catch (Throwable e) {
+			bounded.completeExceptionally(e);
+		}
+	}
+
+	private <SO, FO> AsyncAttempt<SO, FO> stage (SuperFunction<Attempt<TSuccess, TFailure>, Attempt<SO, FO>> step) {
+		return new AsyncAttempt<>(future.thenApplyAsync(step, executor), executor);
+	}
+
+	private static Throwable unwrap (Throwable throwable) {
+		if (throwable instanceof CompletionException && throwable.getCause() != null) return throwable.getCause();
+		return throwable;
+	}
+
+	@Override public String toString () {
+		return future.isDone() && !future.isCompletedExceptionally()
+				? String.format("AsyncAttempt(%s)", future.join())
+				: "AsyncAttempt(pending)";
+	}
+}
@@ -3,7 +3,10 @@ package pianissimo.jflowty.unions;
 import pianissimo.jflowty.functions.checked.*;
 import pianissimo.jflowty.functions.conversions.*;
 
+import java.time.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
 
 import static pianissimo.jflowty.functions.conversions.SuperConsumer.*;
 import static pianissimo.jflowty.functions.conversions.SuperFunction.*;
@@ -36,6 +39,7 @@ public abstract class Attempt<TSuccess, TFailure> {
 		try {
 			return success(supplier.get());
 		} catch (Exception e) {
+			Probes.captured("Attempt.of", e);
 			return failure((TFailure) e);
 		}
 	}
@@ -48,11 +52,191 @@ public abstract class Attempt<TSuccess, TFailure> {
 			try {
 				return success(function.apply(input));
 			} catch (Exception e) {
+				Probes.captured("Attempt.of", e);
 				return failure((TFailure) e);
 			}
 		};
 	}
 
+	/**
+	 * Runs the supplier on the executor and waits for it at most {@code timeout}. When the time runs out first the
+	 * supplier is cancelled with an interrupt and the result is a Failure holding a {@link TimeoutException}. A rejected
+	 * execution propagates, and an interrupt while waiting throws a {@link CancellationException} with the interrupt
+	 * flag restored.
+	 */
+	public static <TSuccess> Attempt<TSuccess, Exception> of (
+			CheckedSupplier<TSuccess, ? extends Exception> supplier,
+			Duration timeout,
+			Executor executor
+	) {
+		return Deadline.call(
+				supplier::get,
+				timeout.toNanos(),
+				executor,
+				() -> new TimeoutException("Timed out after " + timeout)
+		);
+	}
+
+	public static <TSuccess> Attempt<TSuccess, Exception> of (
+			CheckedSupplier<TSuccess, ? extends Exception> supplier,
+			Duration timeout
+	) {
+		return of(supplier, timeout, FanOutExecutor.defaultExecutor());
+	}
+
+	public static <TSuccess, TFailure> Attempt<List<TSuccess>, TFailure> sequence (
+			Collection<? extends Attempt<TSuccess, TFailure>> attempts
+	) {
+		return traverse(attempts, identity());
+	}
+
+	public static <TSuccess, TFailure> Attempt<List<TSuccess>, List<TFailure>> sequenceAll (
+			Collection<? extends Attempt<TSuccess, TFailure>> attempts
+	) {
+		return traverseAll(attempts, identity());
+	}
+
+	@SuppressWarnings ("unchecked")
+	public static <Input, TSuccess, TFailure> Attempt<List<TSuccess>, TFailure> traverse (
+			Collection<? extends Input> inputs,
+			SuperFunction<Input, Attempt<TSuccess, TFailure>> mapper
+	) {
+		Object[] successes = new Object[inputs.size()];
+		int size = 0;
+		for (Input input : inputs) {
+			Attempt<TSuccess, TFailure> attempt = mapper.apply(input);
+			if (attempt.isFailure()) return (Attempt<List<TSuccess>, TFailure>) attempt;
+			successes[size++] = attempt.get();
+		}
+		return success(ArrayView.of(successes, size));
+	}
+
+	public static <Input, TSuccess, TFailure> Attempt<List<TSuccess>, List<TFailure>> traverseAll (
+			Collection<? extends Input> inputs,
+			SuperFunction<Input, Attempt<TSuccess, TFailure>> mapper
+	) {
+		Object[] successes = new Object[inputs.size()];
+		Object[] failures = null;
+		int successCount = 0;
+		int failureCount = 0;
+		for (Input input : inputs) {
+			Attempt<TSuccess, TFailure> attempt = mapper.apply(input);
+			if (attempt.isFailure()) {
+				if (failures == null) failures = new Object[inputs.size() - successCount];
+				failures[failureCount++] = attempt.getFailure();
+			} else if (failures == null) {
+				successes[successCount++] = attempt.get();
+			}
+		}
+		if (failures != null) return failure(ArrayView.of(failures, failureCount));
+		return success(ArrayView.of(successes, successCount));
+	}
+
+	@SuppressWarnings ("unchecked")
+	public static <Input, TSuccess, X extends Exception> Attempt<List<TSuccess>, X> tryTraverse (
+			Collection<? extends Input> inputs,
+			CheckedFunction<Input, TSuccess, X> function
+	) {
+		Object[] successes = new Object[inputs.size()];
+		int size = 0;
+		try {
+			for (Input input : inputs) successes[size++] = function.apply(input);
+		} catch (Exception e) {
+			Probes.captured("Attempt.tryTraverse", e);
+			return failure((X) e);
+		}
+		return success(ArrayView.of(successes, size));
+	}
+
+	@SuppressWarnings ("unchecked")
+	public static <Input, TSuccess, X extends Exception> Attempt<List<TSuccess>, List<X>> tryTraverseAll (
+			Collection<? extends Input> inputs,
+			CheckedFunction<Input, TSuccess, X> function
+	) {
+		Object[] successes = new Object[inputs.size()];
+		Object[] failures = null;
+		int successCount = 0;
+		int failureCount = 0;
+		for (Input input : inputs) {
+			try {
+				TSuccess success = function.apply(input);
+				if (failures == null) successes[successCount++] = success;
+			} catch (Exception e) {
+				Probes.captured("Attempt.tryTraverseAll", e);
+				if (failures == null) failures = new Object[inputs.size() - successCount];
+				failures[failureCount++] = (X) e;
+			}
+		}
+		if (failures != null) return failure(ArrayView.of(failures, failureCount));
+		return success(ArrayView.of(successes, successCount));
+	}
+
+	public static <Input, TSuccess, X extends Exception> Attempt<List<TSuccess>, X> parallelTryTraverse (
+			List<? extends Input> inputs,
+			CheckedFunction<Input, TSuccess, X> function
+	) {
+		return parallelTryTraverse(inputs, function, ForkJoinPool.commonPool());
+	}
+
+	public static <Input, TSuccess, X extends Exception> Attempt<List<TSuccess>, X> parallelTryTraverse (
+			List<? extends Input> inputs,
+			CheckedFunction<Input, TSuccess, X> function,
+			ForkJoinPool pool
+	) {
+		return ParallelTraverse.failFast(inputs, function, pool);
+	}
+
+	public static <Input, TSuccess, X extends Exception> Attempt<List<TSuccess>, List<X>> parallelTryTraverseAll (
+			List<? extends Input> inputs,
+			CheckedFunction<Input, TSuccess, X> function
+	) {
+		return parallelTryTraverseAll(inputs, function, ForkJoinPool.commonPool());
+	}
+
+	public static <Input, TSuccess, X extends Exception> Attempt<List<TSuccess>, List<X>> parallelTryTraverseAll (
+			List<? extends Input> inputs,
+			CheckedFunction<Input, TSuccess, X> function,
+			ForkJoinPool pool
+	) {
+		return ParallelTraverse.collectAll(inputs, function, pool);
+	}
+
+	public static <TSuccess, X extends Exception> Attempt<List<TSuccess>, X> all (
+			Collection<? extends CheckedSupplier<TSuccess, X>> suppliers
+	) {
+		return all(suppliers, FanOutExecutor.defaultExecutor());
+	}
+
+	public static <TSuccess, X extends Exception> Attempt<List<TSuccess>, X> all (
+			Collection<? extends CheckedSupplier<TSuccess, X>> suppliers,
+			Executor executor
+	) {
+		return FanOut.all(suppliers, executor);
+	}
+
+	public static <A, B, TSuccess, X extends Exception> Attempt<TSuccess, X> zip (
+			CheckedSupplier<A, X> first,
+			CheckedSupplier<B, X> second,
+			BiFunction<A, B, TSuccess> combiner
+	) {
+		return zip(first, second, combiner, FanOutExecutor.defaultExecutor());
+	}
+
+	@SuppressWarnings ("unchecked")
+	public static <A, B, TSuccess, X extends Exception> Attempt<TSuccess, X> zip (
+			CheckedSupplier<A, X> first,
+			CheckedSupplier<B, X> second,
+			BiFunction<A, B, TSuccess> combiner,
+			Executor executor
+	) {
+		List<CheckedSupplier<Object, X>> suppliers = Arrays.asList(first::get, second::get);
+		return FanOut.all(suppliers, executor).map(results -> combiner.apply((A) results.get(0), (B) results.get(1)));
+	}
+
+	public AsyncAttempt<TSuccess, TFailure> toAsync (Executor executor) {
+		return AsyncAttempt.of(this, executor);
+	}
+
 	public boolean isSuccess () {
 		return Success.class.isAssignableFrom(this.getClass());
 	}
@@ -86,6 +270,7 @@ public abstract class Attempt<TSuccess, TFailure> {
 					try {
 						return success(function.apply(success));
 					} catch (Exception e) {
+						Probes.captured("Attempt.tryMap", e);
 						return failure((X) e);
 					}
 				}, failure -> failure(exceptionOnFailure)
@@ -101,6 +286,7 @@ public abstract class Attempt<TSuccess, TFailure> {
 					try {
 						return success(function.apply(success));
 					} catch (Exception e) {
+						Probes.captured("Attempt.tryMap", e);
 						return failure((X) e);
 					}
 				}, failure -> failure(exceptionSupplierOnFailure.get())
@@ -117,6 +303,7 @@ public abstract class Attempt<TSuccess, TFailure> {
 					try {
 						return function.apply(success);
 					} catch (Exception e) {
+						Probes.captured("Attempt.tryFlatMap", e);
 						return failure((X) e);
 					}
 				}, failure -> failure(exceptionOnFailure)
@@ -134,6 +321,7 @@ public abstract class Attempt<TSuccess, TFailure> {
 					try {
 						return failure(function.apply(failure));
 					} catch (Exception e) {
+						Probes.captured("Attempt.tryMapFailure", e);
 						return failure(onException.apply((X) e));
 					}
 				}
@@ -151,6 +339,7 @@ public abstract class Attempt<TSuccess, TFailure> {
 					try {
 						return function.apply(failure);
 					} catch (Exception e) {
+						Probes.captured("Attempt.tryFlatMapFailure", e);
 						return onException.apply((X) e);
 					}
 				}
@@ -162,7 +351,10 @@ public abstract class Attempt<TSuccess, TFailure> {
 	) {
 		return either(
 				Attempt::success,
-				failure -> success(recovery.apply(failure))
+				failure -> {
+					Probes.recovered("Attempt.recover", failure);
+					return success(recovery.apply(failure));
+				}
 		);
 	}
 
@@ -174,9 +366,11 @@ public abstract class Attempt<TSuccess, TFailure> {
 		return either(
 				Attempt::success,
 				failure -> {
+					Probes.recovered("Attempt.tryRecover", failure);
 					try {
 						return success(recovery.apply(failure));
 					} catch (Exception e) {
+						Probes.captured("Attempt.tryRecover", e);
 						return success(onException.apply((X) e));
 					}
 				}
@@ -184,7 +378,11 @@ public abstract class Attempt<TSuccess, TFailure> {
 	}
 
 	public TSuccess get () {
-		return either(identity(), __ -> {throw new UnionTypeException(this);});
+		return get(FailureMode.global());
+	}
+
+	public TSuccess get (FailureMode mode) {
+		return either(identity(), __ -> {throw mode.wrongType("Attempt", this);});
 	}
 
 	public TSuccess getOr (TSuccess other) {
@@ -196,25 +394,32 @@ public abstract class Attempt<TSuccess, TFailure> {
 	}
 
 	public TSuccess getOrRecover (SuperFunction<TFailure, TSuccess> recovery) {
-		return either(identity(), recovery);
+		return either(identity(), failure -> {
+			Probes.recovered("Attempt.getOrRecover", failure);
+			return recovery.apply(failure);
+		});
 	}
 
 	public TSuccess getOrThrow () {
+		return getOrThrow(FailureMode.global());
+	}
+
+	public TSuccess getOrThrow (FailureMode mode) {
 		return either(
 				identity(), failure -> {
 					if (Exception.class.isAssignableFrom(failure.getClass()))
-						throw new RuntimeException((Exception) failure);
-					throw new RuntimeException(failure.toString());
+						throw mode.wrap((Exception) failure);
+					throw mode.describe(failure);
 				}
 		);
 	}
 
 	public <X extends Exception> TSuccess getOrThrow (X exception) {
-		return either(identity(), __ -> {throw new RuntimeException(exception);});
+		return either(identity(), __ -> {throw FailureMode.global().wrap(exception);});
 	}
 
 	public <X extends Exception> TSuccess getOrThrow (SuperSupplier<X> exceptionSupplier) {
-		return either(identity(), __ -> {throw new RuntimeException(exceptionSupplier.get());});
+		return either(identity(), __ -> {throw FailureMode.global().wrap(exceptionSupplier.get());});
 	}
 
 	public <X extends Exception> TSuccess getOrThrow (
@@ -222,12 +427,16 @@ public abstract class Attempt<TSuccess, TFailure> {
 	) {
 		return either(
 				identity(),
-				failure -> {throw new RuntimeException(failureToExceptionMapper.apply(failure));}
+				failure -> {throw FailureMode.global().wrap(failureToExceptionMapper.apply(failure));}
 		);
 	}
 
 	public TFailure getFailure () {
-		return either(__ -> {throw new UnionTypeException(this);}, identity());
+		return getFailure(FailureMode.global());
+	}
+
+	public TFailure getFailure (FailureMode mode) {
+		return either(__ -> {throw mode.wrongType("Attempt", this);}, identity());
 	}
 
 	public TFailure getFailureOr (TFailure otherFailure) {
@@ -293,6 +502,189 @@ public abstract class Attempt<TSuccess, TFailure> {
 			return onSuccess.apply(value);
 		}
 
+		@Override public <SO> Attempt<SO, TFailure> map (SuperFunction<TSuccess, SO> mapper) {
+			return success(mapper.apply(value));
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <FO> Attempt<TSuccess, FO> mapFailure (SuperFunction<TFailure, FO> mapper) {
+			return (Attempt<TSuccess, FO>) this;
+		}
+
+		@Override public <SO> Attempt<SO, TFailure> flatMap (SuperFunction<TSuccess, Attempt<SO, TFailure>> mapper) {
+			return mapper.apply(value);
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <FO> Attempt<TSuccess, FO> flatMapFailure (
+				SuperFunction<TFailure, Attempt<TSuccess, FO>> mapper
+		) {
+			return (Attempt<TSuccess, FO>) this;
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <SO, X extends Exception> Attempt<SO, X> tryMap (
+				CheckedFunction<TSuccess, SO, X> function,
+				X exceptionOnFailure
+		) {
+			try {
+				return success(function.apply(value));
+			} catch (Exception e) {
+				Probes.captured("Attempt.tryMap", e);
+				return failure((X) e);
+			}
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <SO, X extends Exception> Attempt<SO, X> tryMap (
+				CheckedFunction<TSuccess, SO, X> function,
+				SuperSupplier<X> exceptionSupplierOnFailure
+		) {
+			try {
+				return success(function.apply(value));
+			} catch (Exception e) {
+				Probes.captured("Attempt.tryMap", e);
+				return failure((X) e);
+			}
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <SO, X extends Exception> Attempt<SO, X> tryFlatMap (
+				CheckedFunction<TSuccess, Attempt<SO, X>, X> function,
+				X exceptionOnFailure
+		) {
+			try {
+				return function.apply(value);
+			} catch (Exception e) {
+				Probes.captured("Attempt.tryFlatMap", e);
+				return failure((X) e);
+			}
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <FO, X extends Exception> Attempt<TSuccess, FO> tryMapFailure (
+				CheckedFunction<TFailure, FO, X> function,
+				SuperFunction<X, FO> onException
+		) {
+			return (Attempt<TSuccess, FO>) this;
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <FO, X extends Exception> Attempt<TSuccess, FO> tryFlatMapFailure (
+				CheckedFunction<TFailure, Attempt<TSuccess, FO>, X> function,
+				SuperFunction<X, Attempt<TSuccess, FO>> onException
+		) {
+			return (Attempt<TSuccess, FO>) this;
+		}
+
+		@Override public Attempt<TSuccess, TFailure> recover (SuperFunction<TFailure, TSuccess> recovery) {
+			return this;
+		}
+
+		@Override public <X extends Exception> Attempt<TSuccess, TFailure> tryRecover (
+				CheckedFunction<TFailure, TSuccess, X> recovery,
+				SuperFunction<X, TSuccess> onException
+		) {
+			return this;
+		}
+
+		@Override public Attempt<TSuccess, TFailure> ifSuccessPeek (SuperConsumer<TSuccess> consumer) {
+			consumer.accept(value);
+			return this;
+		}
+
+		@Override public Attempt<TSuccess, TFailure> ifFailurePeek (SuperConsumer<TFailure> consumer) {
+			return this;
+		}
+
+		@Override public boolean isSuccess () {
+			return true;
+		}
+
+		@Override public boolean isFailure () {
+			return false;
+		}
+
+		@Override public TSuccess get () {
+			return value;
+		}
+
+		@Override public TSuccess get (FailureMode mode) {
+			return value;
+		}
+
+		@Override public TSuccess getOr (TSuccess other) {
+			return value;
+		}
+
+		@Override public TSuccess getOrFrom (SuperSupplier<TSuccess> otherSupplier) {
+			return value;
+		}
+
+		@Override public TSuccess getOrRecover (SuperFunction<TFailure, TSuccess> recovery) {
+			return value;
+		}
+
+		@Override public TSuccess getOrThrow () {
+			return value;
+		}
+
+		@Override public TSuccess getOrThrow (FailureMode mode) {
+			return value;
+		}
+
+		@Override public <X extends Exception> TSuccess getOrThrow (X exception) {
+			return value;
+		}
+
+		@Override public <X extends Exception> TSuccess getOrThrow (SuperSupplier<X> exceptionSupplier) {
+			return value;
+		}
+
+		@Override public <X extends Exception> TSuccess getOrThrow (SuperFunction<TFailure, X> failureToExceptionMapper) {
+			return value;
+		}
+
+		@Override public TFailure getFailure () {
+			throw FailureMode.global().wrongType("Attempt", this);
+		}
+
+		@Override public TFailure getFailure (FailureMode mode) {
+			throw mode.wrongType("Attempt", this);
+		}
+
+		@Override public TFailure getFailureOr (TFailure otherFailure) {
+			return otherFailure;
+		}
+
+		@Override public TFailure getFailureOrFrom (SuperSupplier<TFailure> otherFailureSupplier) {
+			return otherFailureSupplier.get();
+		}
+
+		@Override public Attempt<TSuccess, TFailure> filter (SuperPredicate<TSuccess> predicate, TFailure onFail) {
+			return predicate.test(value) ? this : failure(onFail);
+		}
+
+		@Override public Attempt<TSuccess, TFailure> filter (
+				SuperPredicate<TSuccess> predicate,
+				SuperSupplier<TFailure> onFail
+		) {
+			return predicate.test(value) ? this : failure(onFail.get());
+		}
+
+		@Override public Attempt<TSuccess, TFailure> filter (
+				SuperPredicate<TSuccess> predicate,
+				SuperFunction<TSuccess, TFailure> failureMapper
+		) {
+			return predicate.test(value) ? this : failure(failureMapper.apply(value));
+		}
+
+		@Override public void ifSuccessDo (SuperConsumer<TSuccess> consumer) {
+			consumer.apply(value);
+		}
+
+		@Override public void ifFailureDo (SuperConsumer<TFailure> consumer) {}
+
 		@Override public boolean equals (Object o) {
 			if (o == null || getClass() != o.getClass()) return false;
 			Success<?, ?> success = (Success<?, ?>) o;
@@ -323,6 +715,192 @@ public abstract class Attempt<TSuccess, TFailure> {
 			return onFailure.apply(value);
 		}
 
+		@SuppressWarnings ("unchecked")
+		@Override public <SO> Attempt<SO, TFailure> map (SuperFunction<TSuccess, SO> mapper) {
+			return (Attempt<SO, TFailure>) this;
+		}
+
+		@Override public <FO> Attempt<TSuccess, FO> mapFailure (SuperFunction<TFailure, FO> mapper) {
+			return failure(mapper.apply(value));
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <SO> Attempt<SO, TFailure> flatMap (SuperFunction<TSuccess, Attempt<SO, TFailure>> mapper) {
+			return (Attempt<SO, TFailure>) this;
+		}
+
+		@Override public <FO> Attempt<TSuccess, FO> flatMapFailure (
+				SuperFunction<TFailure, Attempt<TSuccess, FO>> mapper
+		) {
+			return mapper.apply(value);
+		}
+
+		@Override public <SO, X extends Exception> Attempt<SO, X> tryMap (
+				CheckedFunction<TSuccess, SO, X> function,
+				X exceptionOnFailure
+		) {
+			return failure(exceptionOnFailure);
+		}
+
+		@Override public <SO, X extends Exception> Attempt<SO, X> tryMap (
+				CheckedFunction<TSuccess, SO, X> function,
+				SuperSupplier<X> exceptionSupplierOnFailure
+		) {
+			return failure(exceptionSupplierOnFailure.get());
+		}
+
+		@Override public <SO, X extends Exception> Attempt<SO, X> tryFlatMap (
+				CheckedFunction<TSuccess, Attempt<SO, X>, X> function,
+				X exceptionOnFailure
+		) {
+			return failure(exceptionOnFailure);
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <FO, X extends Exception> Attempt<TSuccess, FO> tryMapFailure (
+				CheckedFunction<TFailure, FO, X> function,
+				SuperFunction<X, FO> onException
+		) {
+			try {
+				return failure(function.apply(value));
+			} catch (Exception e) {
+				Probes.captured("Attempt.tryMapFailure", e);
+				return failure(onException.apply((X) e));
+			}
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <FO, X extends Exception> Attempt<TSuccess, FO> tryFlatMapFailure (
+				CheckedFunction<TFailure, Attempt<TSuccess, FO>, X> function,
+				SuperFunction<X, Attempt<TSuccess, FO>> onException
+		) {
+			try {
+				return function.apply(value);
+			} catch (Exception e) {
+				Probes.captured("Attempt.tryFlatMapFailure", e);
+				return onException.apply((X) e);
+			}
+		}
+
+		@Override public Attempt<TSuccess, TFailure> recover (SuperFunction<TFailure, TSuccess> recovery) {
+			Probes.recovered("Attempt.recover", value);
+			return success(recovery.apply(value));
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <X extends Exception> Attempt<TSuccess, TFailure> tryRecover (
+				CheckedFunction<TFailure, TSuccess, X> recovery,
+				SuperFunction<X, TSuccess> onException
+		) {
+			Probes.recovered("Attempt.tryRecover", value);
+			try {
+				return success(recovery.apply(value));
+			} catch (Exception e) {
+				Probes.captured("Attempt.tryRecover", e);
+				return success(onException.apply((X) e));
+			}
+		}
+
+		@Override public Attempt<TSuccess, TFailure> ifSuccessPeek (SuperConsumer<TSuccess> consumer) {
+			return this;
+		}
+
+		@Override public Attempt<TSuccess, TFailure> ifFailurePeek (SuperConsumer<TFailure> consumer) {
+			consumer.accept(value);
+			return this;
+		}
+
+		@Override public boolean isSuccess () {
+			return false;
+		}
+
+		@Override public boolean isFailure () {
+			return true;
+		}
+
+		@Override public TSuccess get () {
+			throw FailureMode.global().wrongType("Attempt", this);
+		}
+
+		@Override public TSuccess get (FailureMode mode) {
+			throw mode.wrongType("Attempt", this);
+		}
+
+		@Override public TSuccess getOr (TSuccess other) {
+			return other;
+		}
+
+		@Override public TSuccess getOrFrom (SuperSupplier<TSuccess> otherSupplier) {
+			return otherSupplier.get();
+		}
+
+		@Override public TSuccess getOrRecover (SuperFunction<TFailure, TSuccess> recovery) {
+			Probes.recovered("Attempt.getOrRecover", value);
+			return recovery.apply(value);
+		}
+
+		@Override public TSuccess getOrThrow () {
+			return getOrThrow(FailureMode.global());
+		}
+
+		@Override public TSuccess getOrThrow (FailureMode mode) {
+			if (value instanceof Exception)
+				throw mode.wrap((Exception) value);
+			throw mode.describe(value);
+		}
+
+		@Override public <X extends Exception> TSuccess getOrThrow (X exception) {
+			throw FailureMode.global().wrap(exception);
+		}
+
+		@Override public <X extends Exception> TSuccess getOrThrow (SuperSupplier<X> exceptionSupplier) {
+			throw FailureMode.global().wrap(exceptionSupplier.get());
+		}
+
+		@Override public <X extends Exception> TSuccess getOrThrow (SuperFunction<TFailure, X> failureToExceptionMapper) {
+			throw FailureMode.global().wrap(failureToExceptionMapper.apply(value));
+		}
+
+		@Override public TFailure getFailure () {
+			return value;
+		}
+
+		@Override public TFailure getFailure (FailureMode mode) {
+			return value;
+		}
+
+		@Override public TFailure getFailureOr (TFailure otherFailure) {
+			return value;
+		}
+
+		@Override public TFailure getFailureOrFrom (SuperSupplier<TFailure> otherFailureSupplier) {
+			return value;
+		}
+
+		@Override public Attempt<TSuccess, TFailure> filter (SuperPredicate<TSuccess> predicate, TFailure onFail) {
+			return this;
+		}
+
+		@Override public Attempt<TSuccess, TFailure> filter (
+				SuperPredicate<TSuccess> predicate,
+				SuperSupplier<TFailure> onFail
+		) {
+			return this;
+		}
+
+		@Override public Attempt<TSuccess, TFailure> filter (
+				SuperPredicate<TSuccess> predicate,
+				SuperFunction<TSuccess, TFailure> failureMapper
+		) {
+			return this;
+		}
+
+		@Override public void ifSuccessDo (SuperConsumer<TSuccess> consumer) {}
+
+		@Override public void ifFailureDo (SuperConsumer<TFailure> consumer) {
+			consumer.apply(value);
+		}
+
 		@Override public boolean equals (Object o) {
 			if (o == null || getClass() != o.getClass()) return false;
 			Failure<?, ?> failure = (Failure<?, ?>) o;
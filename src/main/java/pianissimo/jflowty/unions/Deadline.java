@@ -0,0 +1,183 @@
+package pianissimo.jflowty.unions;
+
+import pianissimo.jflowty.functions.checked.*;
+import pianissimo.jflowty.functions.conversions.*;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * A time budget shared by the stages of one request. Stages wrapped by the deadline fail fast with the caller's
+ * failure value once the budget is spent instead of starting work nobody will wait for, and stages given an executor
+ * are also cut off, cancelled with an interrupt, when the budget runs out while they are running:
+ * <pre>{@code
+ * Deadline deadline = Deadline.after(Duration.ofMillis(300));
+ * Attempt<Cart, Exception> cart = deadline.run(() -> fetchCart(id), executor, TimeoutException::new);
+ * Attempt<Order, Exception> order = cart
+ *         .then(deadline.tryMap(c -> price(c, deadline.remaining()), TimeoutException::new))
+ *         .then(deadline.tryFlatMap(this::place, TimeoutException::new));
+ * }</pre>
+ */
+public final class Deadline {
+	private final long expiresAt;
+	private final LongSupplier clock;
+
+	private Deadline (long expiresAt, LongSupplier clock) {
+		this.expiresAt = expiresAt;
+		this.clock = clock;
+	}
+
+	public static Deadline after (Duration budget) {
+		return after(budget, System::nanoTime);
+	}
+
+	public static Deadline after (Duration budget, LongSupplier nanoTime) {
+		Objects.requireNonNull(nanoTime);
+		return new Deadline(nanoTime.getAsLong() + budget.toNanos(), nanoTime);
+	}
+
+	/**
+	 * Returns a deadline expiring after {@code budget} or with this one, whichever comes first, for a stage that must
+	 * not take more than its share.
+	 */
+	public Deadline within (Duration budget) {
+		long candidate = clock.getAsLong() + budget.toNanos();
+		return candidate - expiresAt < 0 ? new Deadline(candidate, clock) : this;
+	}
+
+	public long remainingNanos () {
+		return Math.max(0, expiresAt - clock.getAsLong());
+	}
+
+	public Duration remaining () {
+		return Duration.ofNanos(remainingNanos());
+	}
+
+	public boolean isExpired () {
+		return expiresAt - clock.getAsLong() <= 0;
+	}
+
+	public <TSuccess, X extends Exception> Attempt<TSuccess, X> run (
+			CheckedSupplier<TSuccess, X> supplier,
+			SuperSupplier<X> onExpired
+	) {
+		return isExpired() ? Attempt.failure(onExpired.get()) : Attempt.of(supplier);
+	}
+
+	/**
+	 * Runs the supplier on the executor and waits for it at most the remaining budget; when the budget runs out first
+	 * the supplier is cancelled with an interrupt. A rejected execution propagates, and an interrupt while waiting
+	 * throws a {@link CancellationException} with the interrupt flag restored.
+	 */
+	public <TSuccess, X extends Exception> Attempt<TSuccess, X> run (
+			CheckedSupplier<TSuccess, X> supplier,
+			Executor executor,
+			SuperSupplier<X> onExpired
+	) {
+		return call(supplier, remainingNanos(), executor, onExpired);
+	}
+
+	@SuppressWarnings ("unchecked")
+	public <TSuccess, SO, X extends Exception> SuperFunction<Attempt<TSuccess, X>, Attempt<SO, X>> tryMap (
+			CheckedFunction<TSuccess, SO, X> function,
+			SuperSupplier<X> onExpired
+	) {
+		return attempt -> attempt.isFailure()
+				? (Attempt<SO, X>) attempt
+				: run(() -> function.apply(attempt.get()), onExpired);
+	}
+
+	@SuppressWarnings ("unchecked")
+	public <TSuccess, SO, X extends Exception> SuperFunction<Attempt<TSuccess, X>, Attempt<SO, X>> tryMap (
+			CheckedFunction<TSuccess, SO, X> function,
+			Executor executor,
+			SuperSupplier<X> onExpired
+	) {
+		return attempt -> attempt.isFailure()
+				? (Attempt<SO, X>) attempt
+				: run(() -> function.apply(attempt.get()), executor, onExpired);
+	}
+
+	@SuppressWarnings ("unchecked")
+	public <TSuccess, SO, X extends Exception> SuperFunction<Attempt<TSuccess, X>, Attempt<SO, X>> tryFlatMap (
+			CheckedFunction<TSuccess, Attempt<SO, X>, X> function,
+			SuperSupplier<X> onExpired
+	) {
+		return attempt -> attempt.isFailure()
+				? (Attempt<SO, X>) attempt
+				: run(() -> function.apply(attempt.get()), onExpired).flatMap(SuperFunction.identity());
+	}
+
+	@SuppressWarnings ("unchecked")
+	public <TSuccess, SO, X extends Exception> SuperFunction<Attempt<TSuccess, X>, Attempt<SO, X>> tryFlatMap (
+			CheckedFunction<TSuccess, Attempt<SO, X>, X> function,
+			Executor executor,
+			SuperSupplier<X> onExpired
+	) {
+		return attempt -> attempt.isFailure()
+				? (Attempt<SO, X>) attempt
+				: run(() -> function.apply(attempt.get()), executor, onExpired).flatMap(SuperFunction.identity());
+	}
+
+	@Override public String toString () {
+		return String.format("Deadline(%s remaining)", remaining());
+	}
+
+	/**
+	 * Neither the executor rejecting the supplier nor the caller being interrupted while waiting is the supplier's
+	 * failure, so instead of being passed off as an X the rejection propagates and an interrupt cancels the supplier,
+	 * restores the flag and surfaces as a {@link CancellationException}.
+	 */
+	static <TSuccess, X extends Exception> Attempt<TSuccess, X> call (
+			CheckedSupplier<TSuccess, X> supplier,
+			long timeoutNanos,
+			Executor executor,
+			SuperSupplier<X> onTimeout
+	) {
+		if (timeoutNanos <= 0) return Attempt.failure(onTimeout.get());
+		FutureTask<Attempt<TSuccess, X>> task = new FutureTask<>(() -> Attempt.of(supplier));
+		try {
+			executor.execute(task);
+			return task.get(timeoutNanos, TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			// the supplier may have finished between the timed wait giving up and the cancellation
+			return task.cancel(true) ? Attempt.failure(onTimeout.get()) : outcome(task);
+		} catch (InterruptedException e) {
+			task.cancel(true);
+			Thread.currentThread().interrupt();
+			CancellationException cancelled = new CancellationException("Interrupted while waiting for supplier");
+			cancelled.initCause(e);
+			throw cancelled;
+		} catch (ExecutionException e) {
+			throw rethrow(e.getCause());
+		}
+	}
+
+	private static <TSuccess, X> Attempt<TSuccess, X> outcome (FutureTask<Attempt<TSuccess, X>> task) {
+		boolean interrupted = false;
+		try {
+			while (true) {
+				try {
+					return task.get();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				} catch (ExecutionException e) {
+					throw rethrow(e.getCause());
+				}
+			}
+		} finally {
+			if (interrupted) Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Attempt.of captures every Exception, so only Errors reach the task's ExecutionException.
+	 */
+	private static RuntimeException rethrow (Throwable cause) {
+		if (cause instanceof Error) throw (Error) cause;
+		if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+		throw new RuntimeException(cause);
+	}
+}
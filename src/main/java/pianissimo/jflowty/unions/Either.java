@@ -30,6 +30,54 @@ public abstract class Either<TLeft, TRight> {
 		return new Either.Right<>(right);
 	}
 
+	public static <TLeft, TRight> Either<TLeft, List<TRight>> sequence (
+			Collection<? extends Either<TLeft, TRight>> eithers
+	) {
+		return traverse(eithers, identity());
+	}
+
+	public static <TLeft, TRight> Either<List<TLeft>, List<TRight>> sequenceAll (
+			Collection<? extends Either<TLeft, TRight>> eithers
+	) {
+		return traverseAll(eithers, identity());
+	}
+
+	@SuppressWarnings ("unchecked")
+	public static <Input, TLeft, TRight> Either<TLeft, List<TRight>> traverse (
+			Collection<? extends Input> inputs,
+			SuperFunction<Input, Either<TLeft, TRight>> mapper
+	) {
+		Object[] rights = new Object[inputs.size()];
+		int size = 0;
+		for (Input input : inputs) {
+			Either<TLeft, TRight> either = mapper.apply(input);
+			if (either.isLeft()) return (Either<TLeft, List<TRight>>) either;
+			rights[size++] = either.getRight();
+		}
+		return right(ArrayView.of(rights, size));
+	}
+
+	public static <Input, TLeft, TRight> Either<List<TLeft>, List<TRight>> traverseAll (
+			Collection<? extends Input> inputs,
+			SuperFunction<Input, Either<TLeft, TRight>> mapper
+	) {
+		Object[] rights = new Object[inputs.size()];
+		Object[] lefts = null;
+		int rightCount = 0;
+		int leftCount = 0;
+		for (Input input : inputs) {
+			Either<TLeft, TRight> either = mapper.apply(input);
+			if (either.isLeft()) {
+				if (lefts == null) lefts = new Object[inputs.size() - rightCount];
+				lefts[leftCount++] = either.getLeft();
+			} else if (lefts == null) {
+				rights[rightCount++] = either.getRight();
+			}
+		}
+		if (lefts != null) return left(ArrayView.of(lefts, leftCount));
+		return right(ArrayView.of(rights, rightCount));
+	}
+
 	public boolean isLeft () {
 		return Left.class.isAssignableFrom(this.getClass());
 	}
@@ -64,6 +112,7 @@ public abstract class Either<TLeft, TRight> {
 					try {
 						return left(onLeft.apply(left));
 					} catch (Exception e) {
+						Probes.captured("Either.tryMapLeft", e);
 						return left(onException.apply((X) e));
 					}
 				}, Either::right
@@ -81,6 +130,7 @@ public abstract class Either<TLeft, TRight> {
 					try {
 						return right(onRight.apply(right));
 					} catch (Exception e) {
+						Probes.captured("Either.tryMapRight", e);
 						return right(onException.apply((X) e));
 					}
 				}
@@ -97,6 +147,7 @@ public abstract class Either<TLeft, TRight> {
 					try {
 						return onLeft.apply(left);
 					} catch (Exception e) {
+						Probes.captured("Either.tryFlatMapLeft", e);
 						return onException.apply((X) e);
 					}
 				}, Either::right
@@ -114,6 +165,7 @@ public abstract class Either<TLeft, TRight> {
 					try {
 						return onRight.apply(right);
 					} catch (Exception e) {
+						Probes.captured("Either.tryFlatMapRight", e);
 						return onException.apply((X) e);
 					}
 				}
@@ -135,7 +187,11 @@ public abstract class Either<TLeft, TRight> {
 	}
 
 	public TLeft getLeft () {
-		return either(identity(), __ -> {throw new UnionTypeException(this);});
+		return getLeft(FailureMode.global());
+	}
+
+	public TLeft getLeft (FailureMode mode) {
+		return either(identity(), __ -> {throw mode.wrongType("Either", this);});
 	}
 
 	public TLeft getLeftOr (TLeft otherLeft) {
@@ -151,7 +207,11 @@ public abstract class Either<TLeft, TRight> {
 	}
 
 	public TRight getRight () {
-		return either(__ -> {throw new UnionTypeException(this);}, identity());
+		return getRight(FailureMode.global());
+	}
+
+	public TRight getRight (FailureMode mode) {
+		return either(__ -> {throw mode.wrongType("Either", this);}, identity());
 	}
 
 	public TRight getRightOr (TRight otherRight) {
@@ -229,6 +289,163 @@ public abstract class Either<TLeft, TRight> {
 			return onLeft.apply(value);
 		}
 
+		@Override public <LO> Either<LO, TRight> mapLeft (SuperFunction<TLeft, LO> onLeft) {
+			return left(onLeft.apply(value));
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <RO> Either<TLeft, RO> mapRight (SuperFunction<TRight, RO> onRight) {
+			return (Either<TLeft, RO>) this;
+		}
+
+		@Override public <LO> Either<LO, TRight> flatMapLeft (SuperFunction<TLeft, Either<LO, TRight>> onLeft) {
+			return onLeft.apply(value);
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <RO> Either<TLeft, RO> flatMapRight (SuperFunction<TRight, Either<TLeft, RO>> onRight) {
+			return (Either<TLeft, RO>) this;
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <LO, X extends Exception> Either<LO, TRight> tryMapLeft (
+				CheckedFunction<TLeft, LO, X> onLeft,
+				SuperFunction<X, LO> onException
+		) {
+			try {
+				return left(onLeft.apply(value));
+			} catch (Exception e) {
+				Probes.captured("Either.tryMapLeft", e);
+				return left(onException.apply((X) e));
+			}
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <RO, X extends Exception> Either<TLeft, RO> tryMapRight (
+				CheckedFunction<TRight, RO, X> onRight,
+				SuperFunction<X, RO> onException
+		) {
+			return (Either<TLeft, RO>) this;
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <LO, X extends Exception> Either<LO, TRight> tryFlatMapLeft (
+				CheckedFunction<TLeft, Either<LO, TRight>, X> onLeft,
+				SuperFunction<X, Either<LO, TRight>> onException
+		) {
+			try {
+				return onLeft.apply(value);
+			} catch (Exception e) {
+				Probes.captured("Either.tryFlatMapLeft", e);
+				return onException.apply((X) e);
+			}
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <RO, X extends Exception> Either<TLeft, RO> tryFlatMapRight (
+				CheckedFunction<TRight, Either<TLeft, RO>, X> onRight,
+				SuperFunction<X, Either<TLeft, RO>> onException
+		) {
+			return (Either<TLeft, RO>) this;
+		}
+
+		@Override public Either<TLeft, TRight> recoverToLeft (SuperFunction<TRight, TLeft> recovery) {
+			return this;
+		}
+
+		@Override public Either<TLeft, TRight> recoverToRight (SuperFunction<TLeft, TRight> recovery) {
+			return right(recovery.apply(value));
+		}
+
+		@Override public Either<TLeft, TRight> onEitherPeek (
+				SuperConsumer<TLeft> leftConsumer,
+				SuperConsumer<TRight> rightConsumer
+		) {
+			leftConsumer.accept(value);
+			return this;
+		}
+
+		@Override public Either<TLeft, TRight> onLeftPeek (SuperConsumer<TLeft> leftConsumer) {
+			leftConsumer.accept(value);
+			return this;
+		}
+
+		@Override public Either<TLeft, TRight> onRightPeek (SuperConsumer<TRight> rightConsumer) {
+			return this;
+		}
+
+		@Override public boolean isLeft () {
+			return true;
+		}
+
+		@Override public boolean isRight () {
+			return false;
+		}
+
+		@Override public TLeft getLeft () {
+			return value;
+		}
+
+		@Override public TLeft getLeft (FailureMode mode) {
+			return value;
+		}
+
+		@Override public TLeft getLeftOr (TLeft otherLeft) {
+			return value;
+		}
+
+		@Override public TLeft getLeftOrFrom (SuperSupplier<TLeft> otherLeftSupplier) {
+			return value;
+		}
+
+		@Override public TLeft getLeftOrRecover (SuperFunction<TRight, TLeft> mergingFunction) {
+			return value;
+		}
+
+		@Override public TRight getRight () {
+			throw FailureMode.global().wrongType("Either", this);
+		}
+
+		@Override public TRight getRight (FailureMode mode) {
+			throw mode.wrongType("Either", this);
+		}
+
+		@Override public TRight getRightOr (TRight otherRight) {
+			return otherRight;
+		}
+
+		@Override public TRight getRightOrFrom (SuperSupplier<TRight> otherRightSupplier) {
+			return otherRightSupplier.get();
+		}
+
+		@Override public TRight getRightOrRecover (SuperFunction<TLeft, TRight> mergingFunction) {
+			return mergingFunction.apply(value);
+		}
+
+		@Override public void onEitherDo (SuperConsumer<TLeft> leftConsumer, SuperConsumer<TRight> rightConsumer) {
+			leftConsumer.apply(value);
+		}
+
+		@Override public void onLeftDo (SuperConsumer<TLeft> leftConsumer) {
+			leftConsumer.apply(value);
+		}
+
+		@Override public void onRightDo (SuperConsumer<TRight> rightConsumer) {}
+
+		@Override public Either<TLeft, TRight> filterLeft (
+				Predicate<TLeft> predicate,
+				SuperFunction<TLeft, TRight> onFalse
+		) {
+			return predicate.test(value) ? this : right(onFalse.apply(value));
+		}
+
+		@Override public Either<TLeft, TRight> filterRight (
+				Predicate<TRight> predicate,
+				SuperFunction<TRight, TLeft> onFalse
+		) {
+			return this;
+		}
+
 		@Override public String toString () {
 			return String.format("Left(%s)", value);
 		}
@@ -259,6 +476,163 @@ public abstract class Either<TLeft, TRight> {
 			return onRight.apply(value);
 		}
 
+		@SuppressWarnings ("unchecked")
+		@Override public <LO> Either<LO, TRight> mapLeft (SuperFunction<TLeft, LO> onLeft) {
+			return (Either<LO, TRight>) this;
+		}
+
+		@Override public <RO> Either<TLeft, RO> mapRight (SuperFunction<TRight, RO> onRight) {
+			return right(onRight.apply(value));
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <LO> Either<LO, TRight> flatMapLeft (SuperFunction<TLeft, Either<LO, TRight>> onLeft) {
+			return (Either<LO, TRight>) this;
+		}
+
+		@Override public <RO> Either<TLeft, RO> flatMapRight (SuperFunction<TRight, Either<TLeft, RO>> onRight) {
+			return onRight.apply(value);
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <LO, X extends Exception> Either<LO, TRight> tryMapLeft (
+				CheckedFunction<TLeft, LO, X> onLeft,
+				SuperFunction<X, LO> onException
+		) {
+			return (Either<LO, TRight>) this;
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <RO, X extends Exception> Either<TLeft, RO> tryMapRight (
+				CheckedFunction<TRight, RO, X> onRight,
+				SuperFunction<X, RO> onException
+		) {
+			try {
+				return right(onRight.apply(value));
+			} catch (Exception e) {
+				Probes.captured("Either.tryMapRight", e);
+				return right(onException.apply((X) e));
+			}
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <LO, X extends Exception> Either<LO, TRight> tryFlatMapLeft (
+				CheckedFunction<TLeft, Either<LO, TRight>, X> onLeft,
+				SuperFunction<X, Either<LO, TRight>> onException
+		) {
+			return (Either<LO, TRight>) this;
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <RO, X extends Exception> Either<TLeft, RO> tryFlatMapRight (
+				CheckedFunction<TRight, Either<TLeft, RO>, X> onRight,
+				SuperFunction<X, Either<TLeft, RO>> onException
+		) {
+			try {
+				return onRight.apply(value);
+			} catch (Exception e) {
+				Probes.captured("Either.tryFlatMapRight", e);
+				return onException.apply((X) e);
+			}
+		}
+
+		@Override public Either<TLeft, TRight> recoverToLeft (SuperFunction<TRight, TLeft> recovery) {
+			return left(recovery.apply(value));
+		}
+
+		@Override public Either<TLeft, TRight> recoverToRight (SuperFunction<TLeft, TRight> recovery) {
+			return this;
+		}
+
+		@Override public Either<TLeft, TRight> onEitherPeek (
+				SuperConsumer<TLeft> leftConsumer,
+				SuperConsumer<TRight> rightConsumer
+		) {
+			rightConsumer.accept(value);
+			return this;
+		}
+
+		@Override public Either<TLeft, TRight> onLeftPeek (SuperConsumer<TLeft> leftConsumer) {
+			return this;
+		}
+
+		@Override public Either<TLeft, TRight> onRightPeek (SuperConsumer<TRight> rightConsumer) {
+			rightConsumer.accept(value);
+			return this;
+		}
+
+		@Override public boolean isLeft () {
+			return false;
+		}
+
+		@Override public boolean isRight () {
+			return true;
+		}
+
+		@Override public TLeft getLeft () {
+			throw FailureMode.global().wrongType("Either", this);
+		}
+
+		@Override public TLeft getLeft (FailureMode mode) {
+			throw mode.wrongType("Either", this);
+		}
+
+		@Override public TLeft getLeftOr (TLeft otherLeft) {
+			return otherLeft;
+		}
+
+		@Override public TLeft getLeftOrFrom (SuperSupplier<TLeft> otherLeftSupplier) {
+			return otherLeftSupplier.get();
+		}
+
+		@Override public TLeft getLeftOrRecover (SuperFunction<TRight, TLeft> mergingFunction) {
+			return mergingFunction.apply(value);
+		}
+
+		@Override public TRight getRight () {
+			return value;
+		}
+
+		@Override public TRight getRight (FailureMode mode) {
+			return value;
+		}
+
+		@Override public TRight getRightOr (TRight otherRight) {
+			return value;
+		}
+
+		@Override public TRight getRightOrFrom (SuperSupplier<TRight> otherRightSupplier) {
+			return value;
+		}
+
+		@Override public TRight getRightOrRecover (SuperFunction<TLeft, TRight> mergingFunction) {
+			return value;
+		}
+
+		@Override public void onEitherDo (SuperConsumer<TLeft> leftConsumer, SuperConsumer<TRight> rightConsumer) {
+			rightConsumer.apply(value);
+		}
+
+		@Override public void onLeftDo (SuperConsumer<TLeft> leftConsumer) {}
+
+		@Override public void onRightDo (SuperConsumer<TRight> rightConsumer) {
+			rightConsumer.apply(value);
+		}
+
+		@Override public Either<TLeft, TRight> filterLeft (
+				Predicate<TLeft> predicate,
+				SuperFunction<TLeft, TRight> onFalse
+		) {
+			return this;
+		}
+
+		@Override public Either<TLeft, TRight> filterRight (
+				Predicate<TRight> predicate,
+				SuperFunction<TRight, TLeft> onFalse
+		) {
+			return predicate.test(value) ? this : left(onFalse.apply(value));
+		}
+
 		@Override public String toString () {
 			return String.format("Right(%s)", value);
 		}
@@ -0,0 +1,75 @@
+package pianissimo.jflowty.unions;
+
+/**
+ * How the union types build the exceptions they throw: the {@link UnionTypeException} of a {@code get} on the wrong
+ * variant and the RuntimeException {@code getOrThrow} wraps a failure in. Either way messages are only formatted
+ * when somebody reads them, so a large payload is never turned into a string just to be thrown away.
+ * <p>
+ * {@link #TRACED}, the default, fills in stack traces as usual. {@link #STACKLESS} skips them, the dominant cost of
+ * throwing under error storms; exceptions for the fixed-message empty options are then even preallocated. The mode
+ * is chosen for the whole application with {@link #setGlobal}, or for a single call through the overloads taking a
+ * FailureMode such as {@link Attempt#getOrThrow(FailureMode)}.
+ */
+public enum FailureMode {
+	TRACED,
+	STACKLESS;
+
+	private static volatile FailureMode global = TRACED;
+
+	public static FailureMode global () {
+		return global;
+	}
+
+	public static void setGlobal (FailureMode mode) {
+		if (mode == null) throw new NullPointerException("mode");
+		global = mode;
+	}
+
+	UnionTypeException wrongType (String kind, Object union) {
+		return new UnionTypeException(kind, union, this == TRACED);
+	}
+
+	/**
+	 * For a variant whose message never changes; stackless exceptions are shared, so they must also refuse
+	 * suppressed exceptions to stay immutable.
+	 */
+	UnionTypeException wrongType (UnionTypeException shared, String message) {
+		return this == TRACED ? new UnionTypeException(message) : shared;
+	}
+
+	RuntimeException wrap (Throwable cause) {
+		return Probes.thrown(cause, this == TRACED ? new RuntimeException(cause) : new StacklessFailure(cause, null));
+	}
+
+	RuntimeException describe (Object failure) {
+		return Probes.thrown(
+				failure,
+				this == TRACED ? new RuntimeException(failure.toString()) : new StacklessFailure(null, failure)
+		);
+	}
+
+	static UnionTypeException stackless (String message) {
+		return new UnionTypeException(message, null, false, false);
+	}
+
+	/**
+	 * What {@code getOrThrow} throws in {@link #STACKLESS} mode: either wraps a cause, with the cause's description
+	 * as message like {@code new RuntimeException(cause)}, or describes a failure that is not a Throwable.
+	 */
+	private static final class StacklessFailure extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		private final transient Object failure;
+		private String message;
+
+		private StacklessFailure (Throwable cause, Object failure) {
+			super(null, cause, true, false);
+			this.failure = failure;
+		}
+
+		@Override public String getMessage () {
+			if (message == null) message = getCause() != null ? getCause().toString() : String.valueOf(failure);
+			return message;
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package pianissimo.jflowty.unions;
+
+import pianissimo.jflowty.functions.checked.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Runs a group of suppliers concurrently and waits for all of them, or for the first failure, in which case every
+ * sibling still queued or running is cancelled with an interrupt. An Error thrown by a supplier is rethrown to the
+ * caller; an executor rejecting a supplier or the caller being interrupted while waiting is not the suppliers'
+ * failure, so those cancel the group and surface unchecked instead of as an X.
+ */
+final class FanOut {
+
+	private FanOut () {}
+
+	@SuppressWarnings ("unchecked")
+	static <TSuccess, X extends Exception> Attempt<List<TSuccess>, X> all (
+			Collection<? extends CheckedSupplier<TSuccess, X>> suppliers,
+			Executor executor
+	) {
+		int size = suppliers.size();
+		Object[] results = new Object[size];
+		FutureTask<?>[] tasks = new FutureTask<?>[size];
+		AtomicInteger remaining = new AtomicInteger(size);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		CountDownLatch done = new CountDownLatch(size == 0 ? 0 : 1);
+
+		int index = 0;
+		for (CheckedSupplier<TSuccess, X> supplier : suppliers) {
+			int slot = index++;
+			tasks[slot] = new FutureTask<>(() -> {
+				try {
+					results[slot] = supplier.get();
+					if (remaining.decrementAndGet() == 0) done.countDown();
+				} catch (Throwable e) {
+					if (failure.compareAndSet(null, e)) done.countDown();
+				}
+			}, null);
+		}
+
+		try {
+			for (FutureTask<?> task : tasks) executor.execute(task);
+			done.await();
+		} catch (InterruptedException e) {
+			cancel(tasks);
+			Thread.currentThread().interrupt();
+			CancellationException cancelled = new CancellationException("Interrupted while waiting for suppliers");
+			cancelled.initCause(e);
+			throw cancelled;
+		} catch (RejectedExecutionException e) {
+			cancel(tasks);
+			throw e;
+		}
+
+		Throwable first = failure.get();
+		if (first == null) return Attempt.success(ArrayView.of(results, size));
+		cancel(tasks);
+		if (first instanceof Error) throw (Error) first;
+		return Attempt.failure((X) first);
+	}
+
+	private static void cancel (FutureTask<?>[] tasks) {
+		for (FutureTask<?> task : tasks) task.cancel(true);
+	}
+}
@@ -0,0 +1,26 @@
+package pianissimo.jflowty.unions;
+
+import java.util.concurrent.*;
+
+/**
+ * Default executor for blocking suppliers run off the calling thread, shared by {@link Attempt#all},
+ * {@link Attempt#zip}, timed {@link Attempt#of} and the resilience decorators: a cached pool of daemon threads, since
+ * such suppliers usually block on I/O. On JDK 21+ the multi-release jar replaces this class with a
+ * virtual-thread-per-task executor.
+ */
+public final class FanOutExecutor {
+
+	private FanOutExecutor () {}
+
+	public static Executor defaultExecutor () {
+		return Holder.EXECUTOR;
+	}
+
+	private static final class Holder {
+		private static final Executor EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "jflowty-fan-out");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+}
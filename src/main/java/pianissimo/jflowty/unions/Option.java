@@ -22,7 +22,7 @@ public abstract class Option<T> {
 		if (Objects.nonNull(value)) {
 			return new Option.Some<>(value);
 		}
-		return new Option.Empty<>();
+		return empty();
 	}
 
 	@SuppressWarnings ("OptionalUsedAsFieldOrParameterType")
@@ -39,6 +39,7 @@ public abstract class Option<T> {
 		try {
 			return of(supplier.get());
 		} catch (Exception e) {
+			Probes.captured("Option.ofTry", e);
 			return empty();
 		}
 	}
@@ -47,10 +48,48 @@ public abstract class Option<T> {
 		try {
 			return of(supplier.get());
 		} catch (Exception e) {
+			Probes.captured("Option.ofOptimisticTry", e);
 			return empty();
 		}
 	}
 
+	public static <T> Option<List<T>> sequence (Collection<? extends Option<T>> options) {
+		return traverse(options, identity());
+	}
+
+	public static <Input, O> Option<List<O>> traverse (
+			Collection<? extends Input> inputs,
+			SuperFunction<Input, Option<O>> mapper
+	) {
+		Object[] values = new Object[inputs.size()];
+		int size = 0;
+		for (Input input : inputs) {
+			Option<O> option = mapper.apply(input);
+			if (option.isEmpty()) return empty();
+			values[size++] = option.get();
+		}
+		return new Option.Some<>(ArrayView.of(values, size));
+	}
+
+	public static <Input, O, X extends Exception> Option<List<O>> tryTraverse (
+			Collection<? extends Input> inputs,
+			CheckedFunction<Input, O, X> function
+	) {
+		Object[] values = new Object[inputs.size()];
+		int size = 0;
+		try {
+			for (Input input : inputs) {
+				O value = function.apply(input);
+				if (value == null) return empty();
+				values[size++] = value;
+			}
+		} catch (Exception e) {
+			Probes.captured("Option.tryTraverse", e);
+			return empty();
+		}
+		return new Option.Some<>(ArrayView.of(values, size));
+	}
+
 	public boolean isPresent () {
 		return Some.class.isAssignableFrom(this.getClass());
 	}
@@ -63,6 +102,18 @@ public abstract class Option<T> {
 		return this.either(input -> Option.of(mapper.apply(input)), Option::empty);
 	}
 
+	public OptionInt mapToInt (SuperToIntFunction<T> mapper) {
+		return this.either(input -> OptionInt.of(mapper.applyAsInt(input)), OptionInt::empty);
+	}
+
+	public OptionLong mapToLong (SuperToLongFunction<T> mapper) {
+		return this.either(input -> OptionLong.of(mapper.applyAsLong(input)), OptionLong::empty);
+	}
+
+	public OptionDouble mapToDouble (SuperToDoubleFunction<T> mapper) {
+		return this.either(input -> OptionDouble.of(mapper.applyAsDouble(input)), OptionDouble::empty);
+	}
+
 	public <O> Option<O> flatMap (SuperFunction<T, Option<O>> mapper) {
 		return this.either(mapper, Option::empty);
 	}
@@ -73,12 +124,52 @@ public abstract class Option<T> {
 					try {
 						return of(function.apply(some));
 					} catch (Exception e) {
+						Probes.captured("Option.tryMap", e);
 						return empty();
 					}
 				}, Option::empty
 		);
 	}
 
+	public <X extends Exception> OptionInt tryMapToInt (CheckedToIntFunction<T, X> function) {
+		return either(
+				some -> {
+					try {
+						return OptionInt.of(function.applyAsInt(some));
+					} catch (Exception e) {
+						Probes.captured("Option.tryMapToInt", e);
+						return OptionInt.empty();
+					}
+				}, OptionInt::empty
+		);
+	}
+
+	public <X extends Exception> OptionLong tryMapToLong (CheckedToLongFunction<T, X> function) {
+		return either(
+				some -> {
+					try {
+						return OptionLong.of(function.applyAsLong(some));
+					} catch (Exception e) {
+						Probes.captured("Option.tryMapToLong", e);
+						return OptionLong.empty();
+					}
+				}, OptionLong::empty
+		);
+	}
+
+	public <X extends Exception> OptionDouble tryMapToDouble (CheckedToDoubleFunction<T, X> function) {
+		return either(
+				some -> {
+					try {
+						return OptionDouble.of(function.applyAsDouble(some));
+					} catch (Exception e) {
+						Probes.captured("Option.tryMapToDouble", e);
+						return OptionDouble.empty();
+					}
+				}, OptionDouble::empty
+		);
+	}
+
 	@SuppressWarnings ("unchecked")
 	public <O, X extends Exception> Option<O> tryMap (CheckedFunction<T, O, X> function, SuperFunction<X, O> recovery) {
 		return either(
@@ -86,6 +177,7 @@ public abstract class Option<T> {
 					try {
 						return of(function.apply(some));
 					} catch (Exception e) {
+						Probes.captured("Option.tryMap", e);
 						return of(recovery.apply((X) e));
 					}
 				}, Option::empty
@@ -98,6 +190,7 @@ public abstract class Option<T> {
 					try {
 						return function.apply(some);
 					} catch (Exception e) {
+						Probes.captured("Option.tryFlatMap", e);
 						return empty();
 					}
 				}, Option::empty
@@ -114,6 +207,7 @@ public abstract class Option<T> {
 					try {
 						return function.apply(some);
 					} catch (Exception e) {
+						Probes.captured("Option.tryFlatMap", e);
 						return recovery.apply((X) e);
 					}
 				}, Option::empty
@@ -121,16 +215,21 @@ public abstract class Option<T> {
 	}
 
 	public Option<T> recover (SuperSupplier<T> recovery) {
-		return either(Option::of, () -> of(recovery.get()));
+		return either(Option::of, () -> {
+			Probes.recovered("Option.recover", null);
+			return of(recovery.get());
+		});
 	}
 
 	public <X extends Exception> Option<T> tryRecover (CheckedSupplier<T, X> recovery) {
 		return either(
 				Option::of,
 				() -> {
+					Probes.recovered("Option.tryRecover", null);
 					try {
 						return of(recovery.get());
 					} catch (Exception e) {
+						Probes.captured("Option.tryRecover", e);
 						return empty();
 					}
 				}
@@ -145,9 +244,11 @@ public abstract class Option<T> {
 		return either(
 				Option::of,
 				() -> {
+					Probes.recovered("Option.tryRecover", null);
 					try {
 						return of(recovery.get());
 					} catch (Exception e) {
+						Probes.captured("Option.tryRecover", e);
 						return of(onException.apply((X) e));
 					}
 				}
@@ -155,7 +256,11 @@ public abstract class Option<T> {
 	}
 
 	public T get () {
-		return either(identity(), () -> {throw new UnionTypeException(this);});
+		return get(FailureMode.global());
+	}
+
+	public T get (FailureMode mode) {
+		return either(identity(), () -> {throw mode.wrongType("Option", this);});
 	}
 
 	public T getOr (T other) {
@@ -167,11 +272,11 @@ public abstract class Option<T> {
 	}
 
 	public <X extends Exception> T getOrThrow (X exception) {
-		return either(identity(), () -> {throw new RuntimeException(exception);});
+		return either(identity(), () -> {throw FailureMode.global().wrap(exception);});
 	}
 
 	public <X extends Exception> T getOrThrow (SuperSupplier<X> exceptionSupplier) {
-		return either(identity(), () -> {throw new RuntimeException(exceptionSupplier.get());});
+		return either(identity(), () -> {throw FailureMode.global().wrap(exceptionSupplier.get());});
 	}
 
 	public Option<T> filter (SuperPredicate<T> predicate) {
@@ -215,6 +320,163 @@ public abstract class Option<T> {
 			return onSome.apply(value);
 		}
 
+		@Override public <O> Option<O> map (SuperFunction<T, O> mapper) {
+			return of(mapper.apply(value));
+		}
+
+		@Override public <O> Option<O> flatMap (SuperFunction<T, Option<O>> mapper) {
+			return mapper.apply(value);
+		}
+
+		@Override public OptionInt mapToInt (SuperToIntFunction<T> mapper) {
+			return OptionInt.of(mapper.applyAsInt(value));
+		}
+
+		@Override public OptionLong mapToLong (SuperToLongFunction<T> mapper) {
+			return OptionLong.of(mapper.applyAsLong(value));
+		}
+
+		@Override public OptionDouble mapToDouble (SuperToDoubleFunction<T> mapper) {
+			return OptionDouble.of(mapper.applyAsDouble(value));
+		}
+
+		@Override public <X extends Exception> OptionInt tryMapToInt (CheckedToIntFunction<T, X> function) {
+			try {
+				return OptionInt.of(function.applyAsInt(value));
+			} catch (Exception e) {
+				Probes.captured("Option.tryMapToInt", e);
+				return OptionInt.empty();
+			}
+		}
+
+		@Override public <X extends Exception> OptionLong tryMapToLong (CheckedToLongFunction<T, X> function) {
+			try {
+				return OptionLong.of(function.applyAsLong(value));
+			} catch (Exception e) {
+				Probes.captured("Option.tryMapToLong", e);
+				return OptionLong.empty();
+			}
+		}
+
+		@Override public <X extends Exception> OptionDouble tryMapToDouble (CheckedToDoubleFunction<T, X> function) {
+			try {
+				return OptionDouble.of(function.applyAsDouble(value));
+			} catch (Exception e) {
+				Probes.captured("Option.tryMapToDouble", e);
+				return OptionDouble.empty();
+			}
+		}
+
+		@Override public <O, X extends Exception> Option<O> tryMap (CheckedFunction<T, O, X> function) {
+			try {
+				return of(function.apply(value));
+			} catch (Exception e) {
+				Probes.captured("Option.tryMap", e);
+				return empty();
+			}
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <O, X extends Exception> Option<O> tryMap (
+				CheckedFunction<T, O, X> function,
+				SuperFunction<X, O> recovery
+		) {
+			try {
+				return of(function.apply(value));
+			} catch (Exception e) {
+				Probes.captured("Option.tryMap", e);
+				return of(recovery.apply((X) e));
+			}
+		}
+
+		@Override public <O, X extends Exception> Option<O> tryFlatMap (CheckedFunction<T, Option<O>, X> function) {
+			try {
+				return function.apply(value);
+			} catch (Exception e) {
+				Probes.captured("Option.tryFlatMap", e);
+				return empty();
+			}
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <O, X extends Exception> Option<O> tryFlatMap (
+				CheckedFunction<T, Option<O>, X> function,
+				SuperFunction<X, Option<O>> recovery
+		) {
+			try {
+				return function.apply(value);
+			} catch (Exception e) {
+				Probes.captured("Option.tryFlatMap", e);
+				return recovery.apply((X) e);
+			}
+		}
+
+		@Override public Option<T> recover (SuperSupplier<T> recovery) {
+			return this;
+		}
+
+		@Override public <X extends Exception> Option<T> tryRecover (CheckedSupplier<T, X> recovery) {
+			return this;
+		}
+
+		@Override public <X extends Exception> Option<T> tryRecover (
+				CheckedSupplier<T, X> recovery,
+				SuperFunction<X, T> onException
+		) {
+			return this;
+		}
+
+		@Override public Option<T> ifPresentPeek (SuperConsumer<T> consumer) {
+			consumer.accept(value);
+			return this;
+		}
+
+		@Override public Option<T> ifEmptyPeek (SuperRunnable runnable) {
+			return this;
+		}
+
+		@Override public boolean isPresent () {
+			return true;
+		}
+
+		@Override public boolean isEmpty () {
+			return false;
+		}
+
+		@Override public T get () {
+			return value;
+		}
+
+		@Override public T get (FailureMode mode) {
+			return value;
+		}
+
+		@Override public T getOr (T other) {
+			return value;
+		}
+
+		@Override public T getOrFrom (SuperSupplier<T> otherSupplier) {
+			return value;
+		}
+
+		@Override public <X extends Exception> T getOrThrow (X exception) {
+			return value;
+		}
+
+		@Override public <X extends Exception> T getOrThrow (SuperSupplier<X> exceptionSupplier) {
+			return value;
+		}
+
+		@Override public Option<T> filter (SuperPredicate<T> predicate) {
+			return predicate.test(value) ? this : empty();
+		}
+
+		@Override public void ifPresentDo (SuperConsumer<T> consumer) {
+			consumer.apply(value);
+		}
+
+		@Override public void ifEmptyDo (SuperRunnable runnable) {}
+
 		@Override public String toString () {
 			return "Some[" + value + ']';
 		}
@@ -232,6 +494,8 @@ public abstract class Option<T> {
 
 	private static class Empty<T> extends Option<T> {
 		private static final Empty<?> EMPTY = new Empty<>();
+		private static final UnionTypeException WRONG_TYPE =
+				FailureMode.stackless("Option is of the wrong type: Empty");
 
 		private Empty () {}
 
@@ -240,6 +504,140 @@ public abstract class Option<T> {
 			return onEmpty.get();
 		}
 
+		@Override public <O> Option<O> map (SuperFunction<T, O> mapper) {
+			return empty();
+		}
+
+		@Override public <O> Option<O> flatMap (SuperFunction<T, Option<O>> mapper) {
+			return empty();
+		}
+
+		@Override public OptionInt mapToInt (SuperToIntFunction<T> mapper) {
+			return OptionInt.empty();
+		}
+
+		@Override public OptionLong mapToLong (SuperToLongFunction<T> mapper) {
+			return OptionLong.empty();
+		}
+
+		@Override public OptionDouble mapToDouble (SuperToDoubleFunction<T> mapper) {
+			return OptionDouble.empty();
+		}
+
+		@Override public <X extends Exception> OptionInt tryMapToInt (CheckedToIntFunction<T, X> function) {
+			return OptionInt.empty();
+		}
+
+		@Override public <X extends Exception> OptionLong tryMapToLong (CheckedToLongFunction<T, X> function) {
+			return OptionLong.empty();
+		}
+
+		@Override public <X extends Exception> OptionDouble tryMapToDouble (CheckedToDoubleFunction<T, X> function) {
+			return OptionDouble.empty();
+		}
+
+		@Override public <O, X extends Exception> Option<O> tryMap (CheckedFunction<T, O, X> function) {
+			return empty();
+		}
+
+		@Override public <O, X extends Exception> Option<O> tryMap (
+				CheckedFunction<T, O, X> function,
+				SuperFunction<X, O> recovery
+		) {
+			return empty();
+		}
+
+		@Override public <O, X extends Exception> Option<O> tryFlatMap (CheckedFunction<T, Option<O>, X> function) {
+			return empty();
+		}
+
+		@Override public <O, X extends Exception> Option<O> tryFlatMap (
+				CheckedFunction<T, Option<O>, X> function,
+				SuperFunction<X, Option<O>> recovery
+		) {
+			return empty();
+		}
+
+		@Override public Option<T> recover (SuperSupplier<T> recovery) {
+			Probes.recovered("Option.recover", null);
+			return of(recovery.get());
+		}
+
+		@Override public <X extends Exception> Option<T> tryRecover (CheckedSupplier<T, X> recovery) {
+			Probes.recovered("Option.tryRecover", null);
+			try {
+				return of(recovery.get());
+			} catch (Exception e) {
+				Probes.captured("Option.tryRecover", e);
+				return this;
+			}
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <X extends Exception> Option<T> tryRecover (
+				CheckedSupplier<T, X> recovery,
+				SuperFunction<X, T> onException
+		) {
+			Probes.recovered("Option.tryRecover", null);
+			try {
+				return of(recovery.get());
+			} catch (Exception e) {
+				Probes.captured("Option.tryRecover", e);
+				return of(onException.apply((X) e));
+			}
+		}
+
+		@Override public Option<T> ifPresentPeek (SuperConsumer<T> consumer) {
+			return this;
+		}
+
+		@Override public Option<T> ifEmptyPeek (SuperRunnable runnable) {
+			runnable.run();
+			return this;
+		}
+
+		@Override public boolean isPresent () {
+			return false;
+		}
+
+		@Override public boolean isEmpty () {
+			return true;
+		}
+
+		@Override public T get () {
+			return get(FailureMode.global());
+		}
+
+		@Override public T get (FailureMode mode) {
+			throw mode.wrongType(WRONG_TYPE, "Option is of the wrong type: Empty");
+		}
+
+		@Override public T getOr (T other) {
+			return other;
+		}
+
+		@Override public T getOrFrom (SuperSupplier<T> otherSupplier) {
+			return otherSupplier.get();
+		}
+
+		@Override public <X extends Exception> T getOrThrow (X exception) {
+			throw FailureMode.global().wrap(exception);
+		}
+
+		@Override public <X extends Exception> T getOrThrow (SuperSupplier<X> exceptionSupplier) {
+			throw FailureMode.global().wrap(exceptionSupplier.get());
+		}
+
+		@Override public Option<T> filter (SuperPredicate<T> predicate) {
+			return this;
+		}
+
+		@Override public void ifPresentDo (SuperConsumer<T> consumer) {}
+
+		@Override public void ifEmptyDo (SuperRunnable runnable) {
+			runnable.run();
+		}
+
 		@Override public String toString () {
 			return "Empty";
 		}
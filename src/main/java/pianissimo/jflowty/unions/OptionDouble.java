@@ -0,0 +1,402 @@
+package pianissimo.jflowty.unions;
+
+import pianissimo.jflowty.functions.checked.*;
+import pianissimo.jflowty.functions.conversions.*;
+
+import java.util.*;
+import java.util.function.*;
+
+public abstract class OptionDouble {
+
+	private OptionDouble () {}
+
+	public abstract <U, U1 extends U, U2 extends U> U either (DoubleFunction<U1> onSome, SuperSupplier<U2> onEmpty);
+
+	public <U, U2 extends U> U then (SuperFunction<OptionDouble, U2> mapper) {
+		return mapper.apply(this);
+	}
+
+	public static OptionDouble of (double value) {
+		return new OptionDouble.Some(value);
+	}
+
+	@SuppressWarnings ("OptionalUsedAsFieldOrParameterType")
+	public static OptionDouble of (OptionalDouble optional) {
+		return optional.isPresent() ? of(optional.getAsDouble()) : empty();
+	}
+
+	public static OptionDouble of (Option<Double> option) {
+		return option.isPresent() ? of(option.get()) : empty();
+	}
+
+	public static OptionDouble empty () {
+		return Empty.EMPTY;
+	}
+
+	public static <X extends Exception> OptionDouble ofTry (CheckedDoubleSupplier<X> supplier) {
+		try {
+			return of(supplier.getAsDouble());
+		} catch (Exception e) {
+			Probes.captured("OptionDouble.ofTry", e);
+			return empty();
+		}
+	}
+
+	public abstract boolean isPresent ();
+
+	public abstract boolean isEmpty ();
+
+	public abstract OptionDouble map (DoubleUnaryOperator mapper);
+
+	public abstract <O> Option<O> mapToObj (DoubleFunction<O> mapper);
+
+	public abstract OptionInt mapToInt (DoubleToIntFunction mapper);
+
+	public abstract OptionLong mapToLong (DoubleToLongFunction mapper);
+
+	public abstract OptionDouble flatMap (DoubleFunction<OptionDouble> mapper);
+
+	public abstract <X extends Exception> OptionDouble tryMap (CheckedDoubleUnaryOperator<X> function);
+
+	public abstract <X extends Exception> OptionDouble tryMap (
+			CheckedDoubleUnaryOperator<X> function,
+			ToDoubleFunction<X> recovery
+	);
+
+	public abstract <O, X extends Exception> Option<O> tryMapToObj (CheckedDoubleFunction<O, X> function);
+
+	public abstract OptionDouble recover (DoubleSupplier recovery);
+
+	public abstract <X extends Exception> OptionDouble tryRecover (CheckedDoubleSupplier<X> recovery);
+
+	public abstract <X extends Exception> OptionDouble tryRecover (
+			CheckedDoubleSupplier<X> recovery,
+			ToDoubleFunction<X> onException
+	);
+
+	public abstract double get ();
+
+	public abstract double get (FailureMode mode);
+
+	public abstract double getOr (double other);
+
+	public abstract double getOrFrom (DoubleSupplier otherSupplier);
+
+	public abstract <X extends Exception> double getOrThrow (X exception);
+
+	public abstract <X extends Exception> double getOrThrow (SuperSupplier<X> exceptionSupplier);
+
+	public abstract OptionDouble filter (DoublePredicate predicate);
+
+	public abstract OptionDouble ifPresentPeek (DoubleConsumer consumer);
+
+	public abstract OptionDouble ifEmptyPeek (SuperRunnable runnable);
+
+	public abstract void ifPresentDo (DoubleConsumer consumer);
+
+	public abstract void ifEmptyDo (SuperRunnable runnable);
+
+	public abstract Option<Double> toOption ();
+
+	public abstract OptionalDouble toOptional ();
+
+	private static final class Some extends OptionDouble {
+		private final double value;
+
+		private Some (double value) {
+			this.value = value;
+		}
+
+		@Override
+		public <U, U1 extends U, U2 extends U> U either (DoubleFunction<U1> onSome, SuperSupplier<U2> onEmpty) {
+			return onSome.apply(value);
+		}
+
+		@Override public boolean isPresent () {
+			return true;
+		}
+
+		@Override public boolean isEmpty () {
+			return false;
+		}
+
+		@Override public OptionDouble map (DoubleUnaryOperator mapper) {
+			return of(mapper.applyAsDouble(value));
+		}
+
+		@Override public <O> Option<O> mapToObj (DoubleFunction<O> mapper) {
+			return Option.of(mapper.apply(value));
+		}
+
+		@Override public OptionInt mapToInt (DoubleToIntFunction mapper) {
+			return OptionInt.of(mapper.applyAsInt(value));
+		}
+
+		@Override public OptionLong mapToLong (DoubleToLongFunction mapper) {
+			return OptionLong.of(mapper.applyAsLong(value));
+		}
+
+		@Override public OptionDouble flatMap (DoubleFunction<OptionDouble> mapper) {
+			return mapper.apply(value);
+		}
+
+		@Override public <X extends Exception> OptionDouble tryMap (CheckedDoubleUnaryOperator<X> function) {
+			try {
+				return of(function.applyAsDouble(value));
+			} catch (Exception e) {
+				Probes.captured("OptionDouble.tryMap", e);
+				return empty();
+			}
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <X extends Exception> OptionDouble tryMap (
+				CheckedDoubleUnaryOperator<X> function,
+				ToDoubleFunction<X> recovery
+		) {
+			try {
+				return of(function.applyAsDouble(value));
+			} catch (Exception e) {
+				Probes.captured("OptionDouble.tryMap", e);
+				return of(recovery.applyAsDouble((X) e));
+			}
+		}
+
+		@Override public <O, X extends Exception> Option<O> tryMapToObj (CheckedDoubleFunction<O, X> function) {
+			try {
+				return Option.of(function.apply(value));
+			} catch (Exception e) {
+				Probes.captured("OptionDouble.tryMapToObj", e);
+				return Option.empty();
+			}
+		}
+
+		@Override public OptionDouble recover (DoubleSupplier recovery) {
+			return this;
+		}
+
+		@Override public <X extends Exception> OptionDouble tryRecover (CheckedDoubleSupplier<X> recovery) {
+			return this;
+		}
+
+		@Override public <X extends Exception> OptionDouble tryRecover (
+				CheckedDoubleSupplier<X> recovery,
+				ToDoubleFunction<X> onException
+		) {
+			return this;
+		}
+
+		@Override public double get () {
+			return value;
+		}
+
+		@Override public double get (FailureMode mode) {
+			return value;
+		}
+
+		@Override public double getOr (double other) {
+			return value;
+		}
+
+		@Override public double getOrFrom (DoubleSupplier otherSupplier) {
+			return value;
+		}
+
+		@Override public <X extends Exception> double getOrThrow (X exception) {
+			return value;
+		}
+
+		@Override public <X extends Exception> double getOrThrow (SuperSupplier<X> exceptionSupplier) {
+			return value;
+		}
+
+		@Override public OptionDouble filter (DoublePredicate predicate) {
+			return predicate.test(value) ? this : empty();
+		}
+
+		@Override public OptionDouble ifPresentPeek (DoubleConsumer consumer) {
+			consumer.accept(value);
+			return this;
+		}
+
+		@Override public OptionDouble ifEmptyPeek (SuperRunnable runnable) {
+			return this;
+		}
+
+		@Override public void ifPresentDo (DoubleConsumer consumer) {
+			consumer.accept(value);
+		}
+
+		@Override public void ifEmptyDo (SuperRunnable runnable) {}
+
+		@Override public Option<Double> toOption () {
+			return Option.of((Double) value);
+		}
+
+		@Override public OptionalDouble toOptional () {
+			return OptionalDouble.of(value);
+		}
+
+		@Override public String toString () {
+			return "Some[" + value + ']';
+		}
+
+		@Override public boolean equals (Object o) {
+			if (o == null || getClass() != o.getClass()) return false;
+			Some some = (Some) o;
+			return Double.compare(value, some.value) == 0;
+		}
+
+		@Override public int hashCode () {
+			return Double.hashCode(value);
+		}
+	}
+
+	private static final class Empty extends OptionDouble {
+		private static final Empty EMPTY = new Empty();
+		private static final UnionTypeException WRONG_TYPE =
+				FailureMode.stackless("OptionDouble is of the wrong type: Empty");
+
+		private Empty () {}
+
+		@Override
+		public <U, U1 extends U, U2 extends U> U either (DoubleFunction<U1> onSome, SuperSupplier<U2> onEmpty) {
+			return onEmpty.get();
+		}
+
+		@Override public boolean isPresent () {
+			return false;
+		}
+
+		@Override public boolean isEmpty () {
+			return true;
+		}
+
+		@Override public OptionDouble map (DoubleUnaryOperator mapper) {
+			return this;
+		}
+
+		@Override public <O> Option<O> mapToObj (DoubleFunction<O> mapper) {
+			return Option.empty();
+		}
+
+		@Override public OptionInt mapToInt (DoubleToIntFunction mapper) {
+			return OptionInt.empty();
+		}
+
+		@Override public OptionLong mapToLong (DoubleToLongFunction mapper) {
+			return OptionLong.empty();
+		}
+
+		@Override public OptionDouble flatMap (DoubleFunction<OptionDouble> mapper) {
+			return this;
+		}
+
+		@Override public <X extends Exception> OptionDouble tryMap (CheckedDoubleUnaryOperator<X> function) {
+			return this;
+		}
+
+		@Override public <X extends Exception> OptionDouble tryMap (
+				CheckedDoubleUnaryOperator<X> function,
+				ToDoubleFunction<X> recovery
+		) {
+			return this;
+		}
+
+		@Override public <O, X extends Exception> Option<O> tryMapToObj (CheckedDoubleFunction<O, X> function) {
+			return Option.empty();
+		}
+
+		@Override public OptionDouble recover (DoubleSupplier recovery) {
+			Probes.recovered("OptionDouble.recover", null);
+			return of(recovery.getAsDouble());
+		}
+
+		@Override public <X extends Exception> OptionDouble tryRecover (CheckedDoubleSupplier<X> recovery) {
+			Probes.recovered("OptionDouble.tryRecover", null);
+			try {
+				return of(recovery.getAsDouble());
+			} catch (Exception e) {
+				Probes.captured("OptionDouble.tryRecover", e);
+				return empty();
+			}
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <X extends Exception> OptionDouble tryRecover (
+				CheckedDoubleSupplier<X> recovery,
+				ToDoubleFunction<X> onException
+		) {
+			Probes.recovered("OptionDouble.tryRecover", null);
+			try {
+				return of(recovery.getAsDouble());
+			} catch (Exception e) {
+				Probes.captured("OptionDouble.tryRecover", e);
+				return of(onException.applyAsDouble((X) e));
+			}
+		}
+
+		@Override public double get () {
+			return get(FailureMode.global());
+		}
+
+		@Override public double get (FailureMode mode) {
+			throw mode.wrongType(WRONG_TYPE, "OptionDouble is of the wrong type: Empty");
+		}
+
+		@Override public double getOr (double other) {
+			return other;
+		}
+
+		@Override public double getOrFrom (DoubleSupplier otherSupplier) {
+			return otherSupplier.getAsDouble();
+		}
+
+		@Override public <X extends Exception> double getOrThrow (X exception) {
+			throw FailureMode.global().wrap(exception);
+		}
+
+		@Override public <X extends Exception> double getOrThrow (SuperSupplier<X> exceptionSupplier) {
+			throw FailureMode.global().wrap(exceptionSupplier.get());
+		}
+
+		@Override public OptionDouble filter (DoublePredicate predicate) {
+			return this;
+		}
+
+		@Override public OptionDouble ifPresentPeek (DoubleConsumer consumer) {
+			return this;
+		}
+
+		@Override public OptionDouble ifEmptyPeek (SuperRunnable runnable) {
+			runnable.run();
+			return this;
+		}
+
+		@Override public void ifPresentDo (DoubleConsumer consumer) {}
+
+		@Override public void ifEmptyDo (SuperRunnable runnable) {
+			runnable.run();
+		}
+
+		@Override public Option<Double> toOption () {
+			return Option.empty();
+		}
+
+		@Override public OptionalDouble toOptional () {
+			return OptionalDouble.empty();
+		}
+
+		@Override public String toString () {
+			return "Empty";
+		}
+
+		@Override public boolean equals (Object o) {
+			return o == this;
+		}
+
+		@Override public int hashCode () {
+			return 0;
+		}
+	}
+}
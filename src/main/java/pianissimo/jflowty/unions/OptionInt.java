@@ -0,0 +1,402 @@
+package pianissimo.jflowty.unions;
+
+import pianissimo.jflowty.functions.checked.*;
+import pianissimo.jflowty.functions.conversions.*;
+
+import java.util.*;
+import java.util.function.*;
+
+public abstract class OptionInt {
+
+	private OptionInt () {}
+
+	public abstract <U, U1 extends U, U2 extends U> U either (IntFunction<U1> onSome, SuperSupplier<U2> onEmpty);
+
+	public <U, U2 extends U> U then (SuperFunction<OptionInt, U2> mapper) {
+		return mapper.apply(this);
+	}
+
+	public static OptionInt of (int value) {
+		return new OptionInt.Some(value);
+	}
+
+	@SuppressWarnings ("OptionalUsedAsFieldOrParameterType")
+	public static OptionInt of (OptionalInt optional) {
+		return optional.isPresent() ? of(optional.getAsInt()) : empty();
+	}
+
+	public static OptionInt of (Option<Integer> option) {
+		return option.isPresent() ? of(option.get()) : empty();
+	}
+
+	public static OptionInt empty () {
+		return Empty.EMPTY;
+	}
+
+	public static <X extends Exception> OptionInt ofTry (CheckedIntSupplier<X> supplier) {
+		try {
+			return of(supplier.getAsInt());
+		} catch (Exception e) {
+			Probes.captured("OptionInt.ofTry", e);
+			return empty();
+		}
+	}
+
+	public abstract boolean isPresent ();
+
+	public abstract boolean isEmpty ();
+
+	public abstract OptionInt map (IntUnaryOperator mapper);
+
+	public abstract <O> Option<O> mapToObj (IntFunction<O> mapper);
+
+	public abstract OptionLong mapToLong (IntToLongFunction mapper);
+
+	public abstract OptionDouble mapToDouble (IntToDoubleFunction mapper);
+
+	public abstract OptionInt flatMap (IntFunction<OptionInt> mapper);
+
+	public abstract <X extends Exception> OptionInt tryMap (CheckedIntUnaryOperator<X> function);
+
+	public abstract <X extends Exception> OptionInt tryMap (
+			CheckedIntUnaryOperator<X> function,
+			ToIntFunction<X> recovery
+	);
+
+	public abstract <O, X extends Exception> Option<O> tryMapToObj (CheckedIntFunction<O, X> function);
+
+	public abstract OptionInt recover (IntSupplier recovery);
+
+	public abstract <X extends Exception> OptionInt tryRecover (CheckedIntSupplier<X> recovery);
+
+	public abstract <X extends Exception> OptionInt tryRecover (
+			CheckedIntSupplier<X> recovery,
+			ToIntFunction<X> onException
+	);
+
+	public abstract int get ();
+
+	public abstract int get (FailureMode mode);
+
+	public abstract int getOr (int other);
+
+	public abstract int getOrFrom (IntSupplier otherSupplier);
+
+	public abstract <X extends Exception> int getOrThrow (X exception);
+
+	public abstract <X extends Exception> int getOrThrow (SuperSupplier<X> exceptionSupplier);
+
+	public abstract OptionInt filter (IntPredicate predicate);
+
+	public abstract OptionInt ifPresentPeek (IntConsumer consumer);
+
+	public abstract OptionInt ifEmptyPeek (SuperRunnable runnable);
+
+	public abstract void ifPresentDo (IntConsumer consumer);
+
+	public abstract void ifEmptyDo (SuperRunnable runnable);
+
+	public abstract Option<Integer> toOption ();
+
+	public abstract OptionalInt toOptional ();
+
+	private static final class Some extends OptionInt {
+		private final int value;
+
+		private Some (int value) {
+			this.value = value;
+		}
+
+		@Override
+		public <U, U1 extends U, U2 extends U> U either (IntFunction<U1> onSome, SuperSupplier<U2> onEmpty) {
+			return onSome.apply(value);
+		}
+
+		@Override public boolean isPresent () {
+			return true;
+		}
+
+		@Override public boolean isEmpty () {
+			return false;
+		}
+
+		@Override public OptionInt map (IntUnaryOperator mapper) {
+			return of(mapper.applyAsInt(value));
+		}
+
+		@Override public <O> Option<O> mapToObj (IntFunction<O> mapper) {
+			return Option.of(mapper.apply(value));
+		}
+
+		@Override public OptionLong mapToLong (IntToLongFunction mapper) {
+			return OptionLong.of(mapper.applyAsLong(value));
+		}
+
+		@Override public OptionDouble mapToDouble (IntToDoubleFunction mapper) {
+			return OptionDouble.of(mapper.applyAsDouble(value));
+		}
+
+		@Override public OptionInt flatMap (IntFunction<OptionInt> mapper) {
+			return mapper.apply(value);
+		}
+
+		@Override public <X extends Exception> OptionInt tryMap (CheckedIntUnaryOperator<X> function) {
+			try {
+				return of(function.applyAsInt(value));
+			} catch (Exception e) {
+				Probes.captured("OptionInt.tryMap", e);
+				return empty();
+			}
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <X extends Exception> OptionInt tryMap (
+				CheckedIntUnaryOperator<X> function,
+				ToIntFunction<X> recovery
+		) {
+			try {
+				return of(function.applyAsInt(value));
+			} catch (Exception e) {
+				Probes.captured("OptionInt.tryMap", e);
+				return of(recovery.applyAsInt((X) e));
+			}
+		}
+
+		@Override public <O, X extends Exception> Option<O> tryMapToObj (CheckedIntFunction<O, X> function) {
+			try {
+				return Option.of(function.apply(value));
+			} catch (Exception e) {
+				Probes.captured("OptionInt.tryMapToObj", e);
+				return Option.empty();
+			}
+		}
+
+		@Override public OptionInt recover (IntSupplier recovery) {
+			return this;
+		}
+
+		@Override public <X extends Exception> OptionInt tryRecover (CheckedIntSupplier<X> recovery) {
+			return this;
+		}
+
+		@Override public <X extends Exception> OptionInt tryRecover (
+				CheckedIntSupplier<X> recovery,
+				ToIntFunction<X> onException
+		) {
+			return this;
+		}
+
+		@Override public int get () {
+			return value;
+		}
+
+		@Override public int get (FailureMode mode) {
+			return value;
+		}
+
+		@Override public int getOr (int other) {
+			return value;
+		}
+
+		@Override public int getOrFrom (IntSupplier otherSupplier) {
+			return value;
+		}
+
+		@Override public <X extends Exception> int getOrThrow (X exception) {
+			return value;
+		}
+
+		@Override public <X extends Exception> int getOrThrow (SuperSupplier<X> exceptionSupplier) {
+			return value;
+		}
+
+		@Override public OptionInt filter (IntPredicate predicate) {
+			return predicate.test(value) ? this : empty();
+		}
+
+		@Override public OptionInt ifPresentPeek (IntConsumer consumer) {
+			consumer.accept(value);
+			return this;
+		}
+
+		@Override public OptionInt ifEmptyPeek (SuperRunnable runnable) {
+			return this;
+		}
+
+		@Override public void ifPresentDo (IntConsumer consumer) {
+			consumer.accept(value);
+		}
+
+		@Override public void ifEmptyDo (SuperRunnable runnable) {}
+
+		@Override public Option<Integer> toOption () {
+			return Option.of((Integer) value);
+		}
+
+		@Override public OptionalInt toOptional () {
+			return OptionalInt.of(value);
+		}
+
+		@Override public String toString () {
+			return "Some[" + value + ']';
+		}
+
+		@Override public boolean equals (Object o) {
+			if (o == null || getClass() != o.getClass()) return false;
+			Some some = (Some) o;
+			return value == some.value;
+		}
+
+		@Override public int hashCode () {
+			return Integer.hashCode(value);
+		}
+	}
+
+	private static final class Empty extends OptionInt {
+		private static final Empty EMPTY = new Empty();
+		private static final UnionTypeException WRONG_TYPE =
+				FailureMode.stackless("OptionInt is of the wrong type: Empty");
+
+		private Empty () {}
+
+		@Override
+		public <U, U1 extends U, U2 extends U> U either (IntFunction<U1> onSome, SuperSupplier<U2> onEmpty) {
+			return onEmpty.get();
+		}
+
+		@Override public boolean isPresent () {
+			return false;
+		}
+
+		@Override public boolean isEmpty () {
+			return true;
+		}
+
+		@Override public OptionInt map (IntUnaryOperator mapper) {
+			return this;
+		}
+
+		@Override public <O> Option<O> mapToObj (IntFunction<O> mapper) {
+			return Option.empty();
+		}
+
+		@Override public OptionLong mapToLong (IntToLongFunction mapper) {
+			return OptionLong.empty();
+		}
+
+		@Override public OptionDouble mapToDouble (IntToDoubleFunction mapper) {
+			return OptionDouble.empty();
+		}
+
+		@Override public OptionInt flatMap (IntFunction<OptionInt> mapper) {
+			return this;
+		}
+
+		@Override public <X extends Exception> OptionInt tryMap (CheckedIntUnaryOperator<X> function) {
+			return this;
+		}
+
+		@Override public <X extends Exception> OptionInt tryMap (
+				CheckedIntUnaryOperator<X> function,
+				ToIntFunction<X> recovery
+		) {
+			return this;
+		}
+
+		@Override public <O, X extends Exception> Option<O> tryMapToObj (CheckedIntFunction<O, X> function) {
+			return Option.empty();
+		}
+
+		@Override public OptionInt recover (IntSupplier recovery) {
+			Probes.recovered("OptionInt.recover", null);
+			return of(recovery.getAsInt());
+		}
+
+		@Override public <X extends Exception> OptionInt tryRecover (CheckedIntSupplier<X> recovery) {
+			Probes.recovered("OptionInt.tryRecover", null);
+			try {
+				return of(recovery.getAsInt());
+			} catch (Exception e) {
+				Probes.captured("OptionInt.tryRecover", e);
+				return empty();
+			}
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <X extends Exception> OptionInt tryRecover (
+				CheckedIntSupplier<X> recovery,
+				ToIntFunction<X> onException
+		) {
+			Probes.recovered("OptionInt.tryRecover", null);
+			try {
+				return of(recovery.getAsInt());
+			} catch (Exception e) {
+				Probes.captured("OptionInt.tryRecover", e);
+				return of(onException.applyAsInt((X) e));
+			}
+		}
+
+		@Override public int get () {
+			return get(FailureMode.global());
+		}
+
+		@Override public int get (FailureMode mode) {
+			throw mode.wrongType(WRONG_TYPE, "OptionInt is of the wrong type: Empty");
+		}
+
+		@Override public int getOr (int other) {
+			return other;
+		}
+
+		@Override public int getOrFrom (IntSupplier otherSupplier) {
+			return otherSupplier.getAsInt();
+		}
+
+		@Override public <X extends Exception> int getOrThrow (X exception) {
+			throw FailureMode.global().wrap(exception);
+		}
+
+		@Override public <X extends Exception> int getOrThrow (SuperSupplier<X> exceptionSupplier) {
+			throw FailureMode.global().wrap(exceptionSupplier.get());
+		}
+
+		@Override public OptionInt filter (IntPredicate predicate) {
+			return this;
+		}
+
+		@Override public OptionInt ifPresentPeek (IntConsumer consumer) {
+			return this;
+		}
+
+		@Override public OptionInt ifEmptyPeek (SuperRunnable runnable) {
+			runnable.run();
+			return this;
+		}
+
+		@Override public void ifPresentDo (IntConsumer consumer) {}
+
+		@Override public void ifEmptyDo (SuperRunnable runnable) {
+			runnable.run();
+		}
+
+		@Override public Option<Integer> toOption () {
+			return Option.empty();
+		}
+
+		@Override public OptionalInt toOptional () {
+			return OptionalInt.empty();
+		}
+
+		@Override public String toString () {
+			return "Empty";
+		}
+
+		@Override public boolean equals (Object o) {
+			return o == this;
+		}
+
+		@Override public int hashCode () {
+			return 0;
+		}
+	}
+}
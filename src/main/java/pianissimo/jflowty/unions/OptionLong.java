@@ -0,0 +1,402 @@
+package pianissimo.jflowty.unions;
+
+import pianissimo.jflowty.functions.checked.*;
+import pianissimo.jflowty.functions.conversions.*;
+
+import java.util.*;
+import java.util.function.*;
+
+public abstract class OptionLong {
+
+	private OptionLong () {}
+
+	public abstract <U, U1 extends U, U2 extends U> U either (LongFunction<U1> onSome, SuperSupplier<U2> onEmpty);
+
+	public <U, U2 extends U> U then (SuperFunction<OptionLong, U2> mapper) {
+		return mapper.apply(this);
+	}
+
+	public static OptionLong of (long value) {
+		return new OptionLong.Some(value);
+	}
+
+	@SuppressWarnings ("OptionalUsedAsFieldOrParameterType")
+	public static OptionLong of (OptionalLong optional) {
+		return optional.isPresent() ? of(optional.getAsLong()) : empty();
+	}
+
+	public static OptionLong of (Option<Long> option) {
+		return option.isPresent() ? of(option.get()) : empty();
+	}
+
+	public static OptionLong empty () {
+		return Empty.EMPTY;
+	}
+
+	public static <X extends Exception> OptionLong ofTry (CheckedLongSupplier<X> supplier) {
+		try {
+			return of(supplier.getAsLong());
+		} catch (Exception e) {
+			Probes.captured("OptionLong.ofTry", e);
+			return empty();
+		}
+	}
+
+	public abstract boolean isPresent ();
+
+	public abstract boolean isEmpty ();
+
+	public abstract OptionLong map (LongUnaryOperator mapper);
+
+	public abstract <O> Option<O> mapToObj (LongFunction<O> mapper);
+
+	public abstract OptionInt mapToInt (LongToIntFunction mapper);
+
+	public abstract OptionDouble mapToDouble (LongToDoubleFunction mapper);
+
+	public abstract OptionLong flatMap (LongFunction<OptionLong> mapper);
+
+	public abstract <X extends Exception> OptionLong tryMap (CheckedLongUnaryOperator<X> function);
+
+	public abstract <X extends Exception> OptionLong tryMap (
+			CheckedLongUnaryOperator<X> function,
+			ToLongFunction<X> recovery
+	);
+
+	public abstract <O, X extends Exception> Option<O> tryMapToObj (CheckedLongFunction<O, X> function);
+
+	public abstract OptionLong recover (LongSupplier recovery);
+
+	public abstract <X extends Exception> OptionLong tryRecover (CheckedLongSupplier<X> recovery);
+
+	public abstract <X extends Exception> OptionLong tryRecover (
+			CheckedLongSupplier<X> recovery,
+			ToLongFunction<X> onException
+	);
+
+	public abstract long get ();
+
+	public abstract long get (FailureMode mode);
+
+	public abstract long getOr (long other);
+
+	public abstract long getOrFrom (LongSupplier otherSupplier);
+
+	public abstract <X extends Exception> long getOrThrow (X exception);
+
+	public abstract <X extends Exception> long getOrThrow (SuperSupplier<X> exceptionSupplier);
+
+	public abstract OptionLong filter (LongPredicate predicate);
+
+	public abstract OptionLong ifPresentPeek (LongConsumer consumer);
+
+	public abstract OptionLong ifEmptyPeek (SuperRunnable runnable);
+
+	public abstract void ifPresentDo (LongConsumer consumer);
+
+	public abstract void ifEmptyDo (SuperRunnable runnable);
+
+	public abstract Option<Long> toOption ();
+
+	public abstract OptionalLong toOptional ();
+
+	private static final class Some extends OptionLong {
+		private final long value;
+
+		private Some (long value) {
+			this.value = value;
+		}
+
+		@Override
+		public <U, U1 extends U, U2 extends U> U either (LongFunction<U1> onSome, SuperSupplier<U2> onEmpty) {
+			return onSome.apply(value);
+		}
+
+		@Override public boolean isPresent () {
+			return true;
+		}
+
+		@Override public boolean isEmpty () {
+			return false;
+		}
+
+		@Override public OptionLong map (LongUnaryOperator mapper) {
+			return of(mapper.applyAsLong(value));
+		}
+
+		@Override public <O> Option<O> mapToObj (LongFunction<O> mapper) {
+			return Option.of(mapper.apply(value));
+		}
+
+		@Override public OptionInt mapToInt (LongToIntFunction mapper) {
+			return OptionInt.of(mapper.applyAsInt(value));
+		}
+
+		@Override public OptionDouble mapToDouble (LongToDoubleFunction mapper) {
+			return OptionDouble.of(mapper.applyAsDouble(value));
+		}
+
+		@Override public OptionLong flatMap (LongFunction<OptionLong> mapper) {
+			return mapper.apply(value);
+		}
+
+		@Override public <X extends Exception> OptionLong tryMap (CheckedLongUnaryOperator<X> function) {
+			try {
+				return of(function.applyAsLong(value));
+			} catch (Exception e) {
+				Probes.captured("OptionLong.tryMap", e);
+				return empty();
+			}
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <X extends Exception> OptionLong tryMap (
+				CheckedLongUnaryOperator<X> function,
+				ToLongFunction<X> recovery
+		) {
+			try {
+				return of(function.applyAsLong(value));
+			} catch (Exception e) {
+				Probes.captured("OptionLong.tryMap", e);
+				return of(recovery.applyAsLong((X) e));
+			}
+		}
+
+		@Override public <O, X extends Exception> Option<O> tryMapToObj (CheckedLongFunction<O, X> function) {
+			try {
+				return Option.of(function.apply(value));
+			} catch (Exception e) {
+				Probes.captured("OptionLong.tryMapToObj", e);
+				return Option.empty();
+			}
+		}
+
+		@Override public OptionLong recover (LongSupplier recovery) {
+			return this;
+		}
+
+		@Override public <X extends Exception> OptionLong tryRecover (CheckedLongSupplier<X> recovery) {
+			return this;
+		}
+
+		@Override public <X extends Exception> OptionLong tryRecover (
+				CheckedLongSupplier<X> recovery,
+				ToLongFunction<X> onException
+		) {
+			return this;
+		}
+
+		@Override public long get () {
+			return value;
+		}
+
+		@Override public long get (FailureMode mode) {
+			return value;
+		}
+
+		@Override public long getOr (long other) {
+			return value;
+		}
+
+		@Override public long getOrFrom (LongSupplier otherSupplier) {
+			return value;
+		}
+
+		@Override public <X extends Exception> long getOrThrow (X exception) {
+			return value;
+		}
+
+		@Override public <X extends Exception> long getOrThrow (SuperSupplier<X> exceptionSupplier) {
+			return value;
+		}
+
+		@Override public OptionLong filter (LongPredicate predicate) {
+			return predicate.test(value) ? this : empty();
+		}
+
+		@Override public OptionLong ifPresentPeek (LongConsumer consumer) {
+			consumer.accept(value);
+			return this;
+		}
+
+		@Override public OptionLong ifEmptyPeek (SuperRunnable runnable) {
+			return this;
+		}
+
+		@Override public void ifPresentDo (LongConsumer consumer) {
+			consumer.accept(value);
+		}
+
+		@Override public void ifEmptyDo (SuperRunnable runnable) {}
+
+		@Override public Option<Long> toOption () {
+			return Option.of((Long) value);
+		}
+
+		@Override public OptionalLong toOptional () {
+			return OptionalLong.of(value);
+		}
+
+		@Override public String toString () {
+			return "Some[" + value + ']';
+		}
+
+		@Override public boolean equals (Object o) {
+			if (o == null || getClass() != o.getClass()) return false;
+			Some some = (Some) o;
+			return value == some.value;
+		}
+
+		@Override public int hashCode () {
+			return Long.hashCode(value);
+		}
+	}
+
+	private static final class Empty extends OptionLong {
+		private static final Empty EMPTY = new Empty();
+		private static final UnionTypeException WRONG_TYPE =
+				FailureMode.stackless("OptionLong is of the wrong type: Empty");
+
+		private Empty () {}
+
+		@Override
+		public <U, U1 extends U, U2 extends U> U either (LongFunction<U1> onSome, SuperSupplier<U2> onEmpty) {
+			return onEmpty.get();
+		}
+
+		@Override public boolean isPresent () {
+			return false;
+		}
+
+		@Override public boolean isEmpty () {
+			return true;
+		}
+
+		@Override public OptionLong map (LongUnaryOperator mapper) {
+			return this;
+		}
+
+		@Override public <O> Option<O> mapToObj (LongFunction<O> mapper) {
+			return Option.empty();
+		}
+
+		@Override public OptionInt mapToInt (LongToIntFunction mapper) {
+			return OptionInt.empty();
+		}
+
+		@Override public OptionDouble mapToDouble (LongToDoubleFunction mapper) {
+			return OptionDouble.empty();
+		}
+
+		@Override public OptionLong flatMap (LongFunction<OptionLong> mapper) {
+			return this;
+		}
+
+		@Override public <X extends Exception> OptionLong tryMap (CheckedLongUnaryOperator<X> function) {
+			return this;
+		}
+
+		@Override public <X extends Exception> OptionLong tryMap (
+				CheckedLongUnaryOperator<X> function,
+				ToLongFunction<X> recovery
+		) {
+			return this;
+		}
+
+		@Override public <O, X extends Exception> Option<O> tryMapToObj (CheckedLongFunction<O, X> function) {
+			return Option.empty();
+		}
+
+		@Override public OptionLong recover (LongSupplier recovery) {
+			Probes.recovered("OptionLong.recover", null);
+			return of(recovery.getAsLong());
+		}
+
+		@Override public <X extends Exception> OptionLong tryRecover (CheckedLongSupplier<X> recovery) {
+			Probes.recovered("OptionLong.tryRecover", null);
+			try {
+				return of(recovery.getAsLong());
+			} catch (Exception e) {
+				Probes.captured("OptionLong.tryRecover", e);
+				return empty();
+			}
+		}
+
+		@SuppressWarnings ("unchecked")
+		@Override public <X extends Exception> OptionLong tryRecover (
+				CheckedLongSupplier<X> recovery,
+				ToLongFunction<X> onException
+		) {
+			Probes.recovered("OptionLong.tryRecover", null);
+			try {
+				return of(recovery.getAsLong());
+			} catch (Exception e) {
+				Probes.captured("OptionLong.tryRecover", e);
+				return of(onException.applyAsLong((X) e));
+			}
+		}
+
+		@Override public long get () {
+			return get(FailureMode.global());
+		}
+
+		@Override public long get (FailureMode mode) {
+			throw mode.wrongType(WRONG_TYPE, "OptionLong is of the wrong type: Empty");
+		}
+
+		@Override public long getOr (long other) {
+			return other;
+		}
+
+		@Override public long getOrFrom (LongSupplier otherSupplier) {
+			return otherSupplier.getAsLong();
+		}
+
+		@Override public <X extends Exception> long getOrThrow (X exception) {
+			throw FailureMode.global().wrap(exception);
+		}
+
+		@Override public <X extends Exception> long getOrThrow (SuperSupplier<X> exceptionSupplier) {
+			throw FailureMode.global().wrap(exceptionSupplier.get());
+		}
+
+		@Override public OptionLong filter (LongPredicate predicate) {
+			return this;
+		}
+
+		@Override public OptionLong ifPresentPeek (LongConsumer consumer) {
+			return this;
+		}
+
+		@Override public OptionLong ifEmptyPeek (SuperRunnable runnable) {
+			runnable.run();
+			return this;
+		}
+
+		@Override public void ifPresentDo (LongConsumer consumer) {}
+
+		@Override public void ifEmptyDo (SuperRunnable runnable) {
+			runnable.run();
+		}
+
+		@Override public Option<Long> toOption () {
+			return Option.empty();
+		}
+
+		@Override public OptionalLong toOptional () {
+			return OptionalLong.empty();
+		}
+
+		@Override public String toString () {
+			return "Empty";
+		}
+
+		@Override public boolean equals (Object o) {
+			return o == this;
+		}
+
+		@Override public int hashCode () {
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package pianissimo.jflowty.unions;
+
+import pianissimo.jflowty.functions.checked.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Fork/join task behind {@link Attempt#parallelTryTraverse} and {@link Attempt#parallelTryTraverseAll}. The input
+ * range is split in halves down to a leaf size derived from the pool's parallelism; every leaf writes straight into
+ * the shared result array at the element's own index, so input order is kept without any merging step.
+ */
+final class ParallelTraverse<Input, TSuccess, X extends Exception> extends RecursiveAction {
+	private static final long serialVersionUID = 1L;
+
+	private final Job<Input, TSuccess, X> job;
+	private final int from;
+	private final int to;
+
+	private ParallelTraverse (Job<Input, TSuccess, X> job, int from, int to) {
+		this.job = job;
+		this.from = from;
+		this.to = to;
+	}
+
+	@SuppressWarnings ("unchecked")
+	static <Input, TSuccess, X extends Exception> Attempt<List<TSuccess>, X> failFast (
+			List<? extends Input> inputs,
+			CheckedFunction<Input, TSuccess, X> function,
+			ForkJoinPool pool
+	) {
+		Job<Input, TSuccess, X> job = run(inputs, function, pool, true);
+		Exception failure = job.firstFailure.get();
+		if (failure != null) return Attempt.failure((X) failure);
+		return Attempt.success(ArrayView.of(job.results, job.results.length));
+	}
+
+	@SuppressWarnings ("unchecked")
+	static <Input, TSuccess, X extends Exception> Attempt<List<TSuccess>, List<X>> collectAll (
+			List<? extends Input> inputs,
+			CheckedFunction<Input, TSuccess, X> function,
+			ForkJoinPool pool
+	) {
+		Job<Input, TSuccess, X> job = run(inputs, function, pool, false);
+		Object[] results = job.results;
+		if (job.firstFailure.get() == null) return Attempt.success(ArrayView.of(results, results.length));
+
+		int size = 0;
+		for (Object result : results) {
+			if (result instanceof Failed) results[size++] = ((Failed) result).exception;
+		}
+		return Attempt.failure(ArrayView.of(results, size));
+	}
+
+	private static <Input, TSuccess, X extends Exception> Job<Input, TSuccess, X> run (
+			List<? extends Input> inputs,
+			CheckedFunction<Input, TSuccess, X> function,
+			ForkJoinPool pool,
+			boolean failFast
+	) {
+		List<? extends Input> indexed = inputs instanceof RandomAccess ? inputs : new ArrayList<>(inputs);
+		int leafSize = Math.max(1, indexed.size() / (pool.getParallelism() << 3));
+		Job<Input, TSuccess, X> job = new Job<>(indexed, function, failFast, leafSize);
+		if (!indexed.isEmpty()) pool.invoke(new ParallelTraverse<>(job, 0, indexed.size()));
+		return job;
+	}
+
+	@Override
+	protected void compute () {
+		if (job.cancelled()) return;
+		if (to - from <= job.leafSize) {
+			computeLeaf();
+			return;
+		}
+		int middle = (from + to) >>> 1;
+		invokeAll(new ParallelTraverse<>(job, from, middle), new ParallelTraverse<>(job, middle, to));
+	}
+
+	private void computeLeaf () {
+		Object[] results = job.results;
+		for (int i = from; i < to; i++) {
+			if (job.cancelled()) return;
+			try {
+				results[i] = job.function.apply(job.inputs.get(i));
+			} catch (Exception e) {
+				job.firstFailure.compareAndSet(null, e);
+				if (!job.failFast) results[i] = new Failed(e);
+			}
+		}
+	}
+
+	private static final class Job<Input, TSuccess, X extends Exception> {
+		private final List<? extends Input> inputs;
+		private final CheckedFunction<Input, TSuccess, X> function;
+		private final boolean failFast;
+		private final int leafSize;
+		private final Object[] results;
+		private final AtomicReference<Exception> firstFailure = new AtomicReference<>();
+
+		private Job (
+				List<? extends Input> inputs,
+				CheckedFunction<Input, TSuccess, X> function,
+				boolean failFast,
+				int leafSize
+		) {
+			this.inputs = inputs;
+			this.function = function;
+			this.failFast = failFast;
+			this.leafSize = leafSize;
+			this.results = new Object[inputs.size()];
+		}
+
+		private boolean cancelled () {
+			return failFast && firstFailure.get() != null;
+		}
+	}
+
+	private static final class Failed {
+		private final Exception exception;
+
+		private Failed (Exception exception) {
+			this.exception = exception;
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package pianissimo.jflowty.unions;
+
+import pianissimo.jflowty.instrumentation.*;
+
+/**
+ * Forwards to the installed {@link Instrumentation}; with none installed each probe is one volatile read and one
+ * reference comparison.
+ */
+final class Probes {
+
+	private Probes () {}
+
+	static void captured (String operation, Exception exception) {
+		Instrumentation instrumentation = Instrumentation.current();
+		if (instrumentation != Instrumentation.noop()) instrumentation.failureCaptured(operation, exception);
+	}
+
+	static void recovered (String operation, Object failure) {
+		Instrumentation instrumentation = Instrumentation.current();
+		if (instrumentation != Instrumentation.noop()) instrumentation.recovered(operation, failure);
+	}
+
+	static RuntimeException thrown (Object failure, RuntimeException exception) {
+		Instrumentation instrumentation = Instrumentation.current();
+		if (instrumentation != Instrumentation.noop()) instrumentation.thrown(failure, exception);
+		return exception;
+	}
+}
@@ -0,0 +1,122 @@
+package pianissimo.jflowty.unions;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
+
+/**
+ * Hashed timing wheel shared by every timeout in the library. Scheduling is a lock-free queue offer and cancelling a
+ * compare-and-set, so a timeout that is almost always cancelled before it fires costs next to nothing; the single
+ * daemon worker moves new timeouts into their buckets, fires the expired ones and drops the cancelled ones once per
+ * tick, and parks indefinitely while nothing is pending. Tasks run on the worker thread and must be short.
+ */
+final class TimerWheel {
+	private static final long TICK = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final int BUCKETS = 512;
+
+	private final Queue<Timeout> incoming = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pending = new AtomicInteger();
+	private final List<ArrayDeque<Timeout>> wheel = new ArrayList<>(BUCKETS);
+	private final long start = System.nanoTime();
+	private final Thread worker;
+	private long lastTick;
+
+	private TimerWheel () {
+		for (int i = 0; i < BUCKETS; i++) wheel.add(new ArrayDeque<>());
+		worker = new Thread(this::work, "jflowty-timer");
+		worker.setDaemon(true);
+	}
+
+	static TimerWheel shared () {
+		return Holder.WHEEL;
+	}
+
+	Timeout schedule (Runnable task, long delayNanos) {
+		long due = System.nanoTime() - start + Math.max(0, delayNanos);
+		Timeout timeout = new Timeout(task, (due + TICK - 1) / TICK);
+		incoming.add(timeout);
+		if (pending.getAndIncrement() == 0) LockSupport.unpark(worker);
+		return timeout;
+	}
+
+	private void work () {
+		while (true) {
+			if (pending.get() == 0) LockSupport.park(this);
+			long elapsed = System.nanoTime() - start;
+			long tick = elapsed / TICK;
+			transferIncoming(tick);
+			// after a long park every bucket is visited once, entries remember their own due tick
+			for (long visit = Math.max(lastTick + 1, tick - BUCKETS + 1); visit <= tick; visit++) expire(visit, tick);
+			lastTick = tick;
+			if (pending.get() > 0) LockSupport.parkNanos(this, (tick + 1) * TICK - elapsed);
+		}
+	}
+
+	private void transferIncoming (long tick) {
+		Timeout timeout;
+		while ((timeout = incoming.poll()) != null) {
+			if (timeout.state.get() == Timeout.CANCELLED) {
+				pending.decrementAndGet();
+			} else if (timeout.dueTick <= tick) {
+				fire(timeout);
+			} else {
+				wheel.get((int) (timeout.dueTick % BUCKETS)).add(timeout);
+			}
+		}
+	}
+
+	private void expire (long visit, long tick) {
+		Iterator<Timeout> bucket = wheel.get((int) (visit % BUCKETS)).iterator();
+		while (bucket.hasNext()) {
+			Timeout timeout = bucket.next();
+			if (timeout.state.get() == Timeout.CANCELLED) {
+				bucket.remove();
+				pending.decrementAndGet();
+			} else if (timeout.dueTick <= tick) {
+				bucket.remove();
+				fire(timeout);
+			}
+		}
+	}
+
+	private void fire (Timeout timeout) {
+		pending.decrementAndGet();
+		if (!timeout.state.compareAndSet(Timeout.WAITING, Timeout.FIRED)) return;
+		try {
+			timeout.task.run();
+		} catch (RuntimeException | Error ignored) {
+			// a failing task must not stop the wheel
+		}
+	}
+
+	static final class Timeout {
+		private static final int WAITING = 0;
+		private static final int CANCELLED = 1;
+		private static final int FIRED = 2;
+
+		private final Runnable task;
+		private final long dueTick;
+		private final AtomicInteger state = new AtomicInteger(WAITING);
+
+		private Timeout (Runnable task, long dueTick) {
+			this.task = task;
+			this.dueTick = dueTick;
+		}
+
+		/**
+		 * Returns whether the task was prevented from running.
+		 */
+		boolean cancel () {
+			return state.compareAndSet(WAITING, CANCELLED);
+		}
+	}
+
+	private static final class Holder {
+		private static final TimerWheel WHEEL = new TimerWheel();
+
+		static {
+			WHEEL.worker.start();
+		}
+	}
+}
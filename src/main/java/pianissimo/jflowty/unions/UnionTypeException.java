@@ -1,29 +1,58 @@
 package pianissimo.jflowty.unions;
 
 public class UnionTypeException extends RuntimeException {
+	private final String kind;
+	private final transient Object union;
+	private String message;
+
 	public UnionTypeException (String message) {
 		super(message);
+		this.kind = null;
+		this.union = null;
 	}
 
 	public UnionTypeException (Throwable cause) {
 		super(cause);
+		this.kind = null;
+		this.union = null;
 	}
 
-	public UnionTypeException (String message, Throwable cause) {super(message, cause);}
+	public UnionTypeException (String message, Throwable cause) {
+		super(message, cause);
+		this.kind = null;
+		this.union = null;
+	}
 
 	public UnionTypeException (String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
 		super(message, cause, enableSuppression, writableStackTrace);
+		this.kind = null;
+		this.union = null;
 	}
 
 	public UnionTypeException (Attempt attempt) {
-		super(String.format("Attempt is of the wrong type: %s", attempt));
+		this("Attempt", attempt, true);
 	}
 
 	public UnionTypeException (Either either) {
-		super(String.format("Either is of the wrong type: %s", either));
+		this("Either", either, true);
 	}
 
 	public UnionTypeException (Option option) {
-		super(String.format("Option is of the wrong type: %s", option));
+		this("Option", option, true);
+	}
+
+	UnionTypeException (String kind, Object union, boolean writableStackTrace) {
+		super(null, null, true, writableStackTrace);
+		this.kind = kind;
+		this.union = union;
+	}
+
+	/**
+	 * Formats the message on first use only, since the union's payload may be a large object graph.
+	 */
+	@Override public String getMessage () {
+		if (kind == null) return super.getMessage();
+		if (message == null) message = String.format("%s is of the wrong type: %s", kind, union);
+		return message;
 	}
 }
@@ -0,0 +1,124 @@
+package pianissimo.jflowty.instrumentation;
+
+import jdk.jfr.*;
+import pianissimo.jflowty.functions.checked.*;
+
+/**
+ * JDK 11+ version of the Flight Recorder events. Every emission first asks the event's {@link EventType}, looked up
+ * once, whether it is enabled, so with no recording running a hook costs a branch and the event objects are never
+ * allocated.
+ */
+public final class FlightRecorderEvents {
+	private static final EventType FAILURE_CAPTURED = EventType.getEventType(FailureCaptured.class);
+	private static final EventType RECOVERY_APPLIED = EventType.getEventType(RecoveryApplied.class);
+	private static final EventType EXCEPTION_WRAPPED = EventType.getEventType(ExceptionWrapped.class);
+	private static final EventType SLOW_STAGE = EventType.getEventType(SlowStage.class);
+
+	private FlightRecorderEvents () {}
+
+	public static boolean isAvailable () {
+		return true;
+	}
+
+	public static void install () {
+		Instrumentation current = Instrumentation.current();
+		if (current instanceof Emitter) return;
+		Instrumentation.install(new Emitter(current));
+	}
+
+	public static <Input, Output, X extends Exception> CheckedFunction<Input, Output, X> timed (
+			String stage,
+			CheckedFunction<Input, Output, X> function
+	) {
+		return input -> {
+			if (!SLOW_STAGE.isEnabled()) return function.apply(input);
+			SlowStage event = new SlowStage();
+			event.begin();
+			try {
+				return function.apply(input);
+			} finally {
+				event.end();
+				if (event.shouldCommit()) {
+					event.stage = stage;
+					event.commit();
+				}
+			}
+		};
+	}
+
+	private static final class Emitter implements Instrumentation {
+		private final Instrumentation delegate;
+
+		private Emitter (Instrumentation delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override public void failureCaptured (String operation, Exception exception) {
+			delegate.failureCaptured(operation, exception);
+			if (!FAILURE_CAPTURED.isEnabled()) return;
+			FailureCaptured event = new FailureCaptured();
+			event.operation = operation;
+			event.exceptionClass = exception.getClass();
+			event.message = exception.getMessage();
+			event.commit();
+		}
+
+		@Override public void recovered (String operation, Object failure) {
+			delegate.recovered(operation, failure);
+			if (!RECOVERY_APPLIED.isEnabled()) return;
+			RecoveryApplied event = new RecoveryApplied();
+			event.operation = operation;
+			event.failureClass = failure == null ? null : failure.getClass();
+			event.commit();
+		}
+
+		@Override public void thrown (Object failure, RuntimeException exception) {
+			delegate.thrown(failure, exception);
+			if (!EXCEPTION_WRAPPED.isEnabled()) return;
+			ExceptionWrapped event = new ExceptionWrapped();
+			event.failureClass = failure == null ? null : failure.getClass();
+			event.exceptionClass = exception.getClass();
+			event.commit();
+		}
+	}
+
+	@Name ("pianissimo.jflowty.FailureCaptured")
+	@Label ("Failure Captured")
+	@Category ("JFlowty")
+	@Description ("An exception was captured into a Failure, Empty or Left")
+	@StackTrace (false)
+	static final class FailureCaptured extends Event {
+		@Label ("Operation") String operation;
+		@Label ("Exception Class") Class<?> exceptionClass;
+		@Label ("Message") String message;
+	}
+
+	@Name ("pianissimo.jflowty.RecoveryApplied")
+	@Label ("Recovery Applied")
+	@Category ("JFlowty")
+	@Description ("A failure or an empty Option was recovered from")
+	@StackTrace (false)
+	static final class RecoveryApplied extends Event {
+		@Label ("Operation") String operation;
+		@Label ("Failure Class") Class<?> failureClass;
+	}
+
+	@Name ("pianissimo.jflowty.ExceptionWrapped")
+	@Label ("Exception Wrapped")
+	@Category ("JFlowty")
+	@Description ("getOrThrow wrapped a failure in a RuntimeException")
+	static final class ExceptionWrapped extends Event {
+		@Label ("Failure Class") Class<?> failureClass;
+		@Label ("Exception Class") Class<?> exceptionClass;
+	}
+
+	@Name ("pianissimo.jflowty.SlowStage")
+	@Label ("Slow Stage")
+	@Category ("JFlowty")
+	@Description ("A timed pipeline stage took longer than the threshold")
+	@Threshold ("10 ms")
+	@StackTrace (false)
+	static final class SlowStage extends Event {
+		@Label ("Stage") String stage;
+	}
+}
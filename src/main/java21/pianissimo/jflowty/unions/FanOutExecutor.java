@@ -0,0 +1,17 @@
+package pianissimo.jflowty.unions;
+
+import java.util.concurrent.*;
+
+/**
+ * JDK 21+ version of the default executor: one virtual thread per supplier, so blocking suppliers never tie up
+ * platform threads.
+ */
+public final class FanOutExecutor {
+	private static final Executor EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+	private FanOutExecutor () {}
+
+	public static Executor defaultExecutor () {
+		return EXECUTOR;
+	}
+}
@@ -0,0 +1,163 @@
+package pianissimo.jflowty.cache;
+
+import org.junit.jupiter.api.*;
+import pianissimo.jflowty.unions.*;
+
+import java.io.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchLoaderTest {
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+	private static final Duration LONG_WINDOW = Duration.ofMinutes(1);
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+	private final List<List<String>> calls = new CopyOnWriteArrayList<>();
+
+	@AfterEach
+	void shutdown () {
+		executor.shutdownNow();
+		scheduler.shutdownNow();
+	}
+
+	@Test
+	void fullBatchIsSentAtOnceAndDeduplicated () {
+		BatchLoader<String, Integer, IOException> loader = builder(3).build(this::lengths, IOException::new);
+
+		AsyncAttempt<Integer, IOException> first = loader.applyAsync("a");
+		AsyncAttempt<Integer, IOException> again = loader.applyAsync("a");
+		AsyncAttempt<Integer, IOException> second = loader.applyAsync("bb");
+		AsyncAttempt<Integer, IOException> third = loader.applyAsync("ccc");
+
+		assertEquals(1, first.join().get());
+		assertEquals(1, again.join().get());
+		assertEquals(2, second.join().get());
+		assertEquals(3, third.join().get());
+		assertEquals(Collections.singletonList(Arrays.asList("a", "bb", "ccc")), calls);
+		assertEquals(1, loader.batches());
+		assertEquals(3, loader.loadedInputs());
+	}
+
+	@Test
+	void windowClosesPartialBatch () {
+		BatchLoader<String, Integer, IOException> loader = BatchLoader.builder()
+				.window(Duration.ofMillis(10))
+				.executor(executor)
+				.scheduler(scheduler)
+				.build(this::lengths, IOException::new);
+
+		assertTimeoutPreemptively(TIMEOUT, () -> assertEquals(7, loader.apply("jflowty").get()));
+	}
+
+	@Test
+	void missingInputFailsWithOnMissing () {
+		BatchLoader<String, Integer, IOException> loader = builder(2).build(
+				inputs -> Collections.singletonMap("present", 1),
+				input -> new IOException("missing " + input)
+		);
+
+		AsyncAttempt<Integer, IOException> present = loader.applyAsync("present");
+		AsyncAttempt<Integer, IOException> absent = loader.applyAsync("absent");
+
+		assertEquals(1, present.join().get());
+		assertEquals("missing absent", absent.join().getFailure().getMessage());
+	}
+
+	@Test
+	void failingBatchFailsEveryInput () {
+		IOException down = new IOException("down");
+		BatchLoader<String, Integer, IOException> loader = builder(2).build(inputs -> {
+			throw down;
+		}, IOException::new);
+
+		AsyncAttempt<Integer, IOException> first = loader.applyAsync("a");
+		AsyncAttempt<Integer, IOException> second = loader.applyAsync("b");
+
+		assertSame(down, first.join().getFailure());
+		assertSame(down, second.join().getFailure());
+	}
+
+	@Test
+	void perKeyFailuresAreKept () {
+		IOException broken = new IOException("broken");
+		BatchLoader<String, Integer, IOException> loader = builder(2).buildWithFailures(inputs -> {
+			Map<String, Attempt<Integer, IOException>> outputs = new HashMap<>();
+			outputs.put("good", Attempt.success(4));
+			outputs.put("bad", Attempt.failure(broken));
+			return outputs;
+		}, IOException::new);
+
+		AsyncAttempt<Integer, IOException> good = loader.applyAsync("good");
+		AsyncAttempt<Integer, IOException> bad = loader.applyAsync("bad");
+
+		assertEquals(4, good.join().get());
+		assertSame(broken, bad.join().getFailure());
+	}
+
+	@Test
+	void perKeyNullCountsAsMissing () {
+		BatchLoader<String, Integer, IOException> loader = builder(1).buildWithFailures(
+				inputs -> Collections.singletonMap("null", null),
+				input -> new IOException("missing " + input)
+		);
+
+		assertEquals("missing null", loader.apply("null").getFailure().getMessage());
+	}
+
+	@Test
+	void throwingOnMissingDoesNotStrandOtherInputs () {
+		BatchLoader<String, Integer, IOException> loader = builder(2).build(inputs -> Collections.emptyMap(), input -> {
+			throw new IllegalStateException("no failure for " + input);
+		});
+
+		AsyncAttempt<Integer, IOException> first = loader.applyAsync("a");
+		AsyncAttempt<Integer, IOException> second = loader.applyAsync("b");
+
+		assertTimeoutPreemptively(TIMEOUT, () -> {
+			assertInstanceOf(IllegalStateException.class, assertThrows(CompletionException.class, first::join).getCause());
+			assertInstanceOf(IllegalStateException.class, assertThrows(CompletionException.class, second::join).getCause());
+		});
+	}
+
+	@Test
+	@SuppressWarnings ({"unchecked", "rawtypes"})
+	void plainValueWhereAttemptWasDueDoesNotHang () {
+		Map plain = Collections.singletonMap("a", 1);
+		BatchLoader<String, Integer, IOException> loader = builder(1).buildWithFailures(inputs -> plain, IOException::new);
+
+		assertTimeoutPreemptively(TIMEOUT, () -> assertThrows(ClassCastException.class, () -> loader.apply("a")));
+	}
+
+	@Test
+	void rejectionCompletesExceptionally () {
+		ExecutorService closed = Executors.newSingleThreadExecutor();
+		closed.shutdown();
+		BatchLoader<String, Integer, IOException> loader = BatchLoader.builder()
+				.maxBatchSize(1)
+				.window(LONG_WINDOW)
+				.executor(closed)
+				.scheduler(scheduler)
+				.build(this::lengths, IOException::new);
+
+		assertThrows(RejectedExecutionException.class, () -> loader.apply("a"));
+	}
+
+	private BatchLoader.Builder builder (int maxBatchSize) {
+		return BatchLoader.builder()
+				.maxBatchSize(maxBatchSize)
+				.window(LONG_WINDOW)
+				.executor(executor)
+				.scheduler(scheduler);
+	}
+
+	private Map<String, Integer> lengths (List<String> inputs) {
+		calls.add(inputs);
+		Map<String, Integer> lengths = new HashMap<>();
+		for (String input : inputs) lengths.put(input, input.length());
+		return lengths;
+	}
+}
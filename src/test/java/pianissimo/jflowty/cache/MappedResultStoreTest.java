@@ -0,0 +1,108 @@
+package pianissimo.jflowty.cache;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.*;
+import pianissimo.jflowty.functions.conversions.*;
+import pianissimo.jflowty.unions.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedResultStoreTest {
+	@TempDir
+	Path directory;
+
+	@Test
+	void survivesReopening () throws IOException {
+		Path path = directory.resolve("results");
+		try (MappedResultStore<String, Long> store = MappedResultStore.open(path, Codec.utf8(), Codec.longs())) {
+			store.put("a", 1L);
+			store.put("b", 2L);
+			store.put("a", 3L);
+		}
+		try (MappedResultStore<String, Long> store = MappedResultStore.open(path, Codec.utf8(), Codec.longs())) {
+			assertEquals(Option.of(3L), store.get("a"));
+			assertEquals(Option.of(2L), store.get("b"));
+			assertEquals(2, store.size());
+		}
+	}
+
+	@Test
+	void undecodableEntryIsAMiss () throws IOException {
+		Codec<Long> broken = new Codec<Long>() {
+			@Override public byte[] encode (Long value) {
+				return Codec.longs().encode(value);
+			}
+
+			@Override public Long decode (byte[] bytes) {
+				throw new IllegalStateException("corrupt");
+			}
+		};
+		AtomicInteger calls = new AtomicInteger();
+		try (MappedResultStore<String, Long> store = open(broken)) {
+			SuperFunction<String, Attempt<Long, RuntimeException>> length = store.memoize(key -> {
+				calls.incrementAndGet();
+				return (long) key.length();
+			});
+
+			assertEquals(7L, length.apply("jflowty").get());
+			assertEquals(7L, length.apply("jflowty").get());
+			assertEquals(2, calls.get());
+		}
+	}
+
+	@Test
+	void unwritableResultIsStillReturned () throws IOException {
+		Codec<Long> broken = new Codec<Long>() {
+			@Override public byte[] encode (Long value) {
+				throw new IllegalStateException("Result store is full");
+			}
+
+			@Override public Long decode (byte[] bytes) {
+				return Codec.longs().decode(bytes);
+			}
+		};
+		try (MappedResultStore<String, Long> store = open(broken)) {
+			SuperFunction<String, Attempt<Long, RuntimeException>> length = store.memoize(key -> (long) key.length());
+
+			assertEquals(7L, length.apply("jflowty").get());
+			assertFalse(store.contains("jflowty"));
+		}
+	}
+
+	@Test
+	void indexingStopsAtFirstBadRecord () throws IOException {
+		Path path = directory.resolve("results");
+		int second = 16 + 8 + 1 + 8; // file header, then the record of "a"
+		try (MappedResultStore<String, Long> store = MappedResultStore.open(path, Codec.utf8(), Codec.longs())) {
+			store.put("a", 1L);
+			store.put("b", 2L);
+			store.put("c", 3L);
+		}
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+			ByteBuffer length = ByteBuffer.allocate(4).putInt(Integer.MAX_VALUE);
+			length.flip();
+			channel.write(length, second);
+		}
+		try (MappedResultStore<String, Long> store = MappedResultStore.open(path, Codec.utf8(), Codec.longs())) {
+			assertEquals(Option.of(1L), store.get("a"));
+			assertFalse(store.contains("b"));
+			assertFalse(store.contains("c"));
+			store.put("d", 4L);
+		}
+		try (MappedResultStore<String, Long> store = MappedResultStore.open(path, Codec.utf8(), Codec.longs())) {
+			assertEquals(Option.of(1L), store.get("a"));
+			assertEquals(Option.of(4L), store.get("d"));
+			assertEquals(2, store.size());
+		}
+	}
+
+	private MappedResultStore<String, Long> open (Codec<Long> valueCodec) throws IOException {
+		return MappedResultStore.open(directory.resolve("results"), Codec.utf8(), valueCodec);
+	}
+}
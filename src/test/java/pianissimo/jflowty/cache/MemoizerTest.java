@@ -0,0 +1,184 @@
+package pianissimo.jflowty.cache;
+
+import org.junit.jupiter.api.*;
+import pianissimo.jflowty.unions.*;
+
+import java.io.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoizerTest {
+	private final AtomicLong now = new AtomicLong();
+	private final List<String> loads = new ArrayList<>();
+	private final Set<String> failing = new HashSet<>();
+
+	@Test
+	void cachesAndCountsHitsAndMisses () {
+		Memoizer<String, Integer, IOException> memoizer = builder().build(this::load);
+
+		assertEquals(1, memoizer.apply("a").get());
+		assertEquals(1, memoizer.apply("a").get());
+		assertEquals(2, memoizer.apply("bb").get());
+
+		assertEquals(Arrays.asList("a", "bb"), loads);
+		Memoizer.Stats stats = memoizer.stats();
+		assertEquals(1, stats.hits());
+		assertEquals(2, stats.misses());
+		assertEquals(1.0 / 3, stats.hitRate(), 1e-9);
+	}
+
+	@Test
+	void nullInputIsCached () {
+		Memoizer<String, Integer, IOException> memoizer = builder().build(input -> {
+			loads.add(String.valueOf(input));
+			return 0;
+		});
+
+		memoizer.apply(null);
+		memoizer.apply(null);
+
+		assertEquals(Collections.singletonList("null"), loads);
+	}
+
+	@Test
+	void successesExpireAfterWrite () {
+		Memoizer<String, Integer, IOException> memoizer = builder()
+				.expireAfterWrite(Duration.ofMinutes(1))
+				.build(this::load);
+
+		memoizer.apply("a");
+		now.addAndGet(Duration.ofSeconds(59).toNanos());
+		memoizer.apply("a");
+		now.addAndGet(Duration.ofSeconds(1).toNanos());
+		memoizer.apply("a");
+
+		assertEquals(Arrays.asList("a", "a"), loads);
+	}
+
+	@Test
+	void failuresExpireAfterOneSecondByDefault () {
+		Memoizer<String, Integer, IOException> memoizer = builder().build(this::load);
+		failing.add("a");
+
+		assertTrue(memoizer.apply("a").isFailure());
+		now.addAndGet(Duration.ofMillis(999).toNanos());
+		assertTrue(memoizer.apply("a").isFailure());
+		assertEquals(1, loads.size());
+
+		now.addAndGet(Duration.ofMillis(1).toNanos());
+		failing.clear();
+		assertEquals(1, memoizer.apply("a").get());
+		now.addAndGet(Duration.ofDays(1).toNanos());
+		assertEquals(1, memoizer.apply("a").get());
+		assertEquals(2, loads.size());
+	}
+
+	@Test
+	void failureTtlOverridesDefault () {
+		Memoizer<String, Integer, IOException> memoizer = builder()
+				.failureTtl(Duration.ofSeconds(10))
+				.build(this::load);
+		failing.add("a");
+
+		memoizer.apply("a");
+		now.addAndGet(Duration.ofSeconds(5).toNanos());
+		memoizer.apply("a");
+
+		assertEquals(1, loads.size());
+	}
+
+	@Test
+	void zeroFailureTtlNeverCachesFailures () {
+		Memoizer<String, Integer, IOException> memoizer = builder().failureTtl(Duration.ZERO).build(this::load);
+		failing.add("a");
+
+		memoizer.apply("a");
+		memoizer.apply("a");
+
+		assertEquals(2, loads.size());
+		assertEquals(0, memoizer.size());
+	}
+
+	@Test
+	void fifoEvictsOldestFirst () {
+		Memoizer<String, Integer, IOException> memoizer = builder()
+				.maximumSize(2)
+				.eviction(Memoizer.Eviction.FIFO)
+				.build(this::load);
+
+		memoizer.apply("a");
+		memoizer.apply("b");
+		memoizer.apply("a");
+		memoizer.apply("c");
+		loads.clear();
+		memoizer.apply("b");
+		memoizer.apply("c");
+		memoizer.apply("a");
+
+		assertEquals(Collections.singletonList("a"), loads);
+		assertEquals(2, memoizer.stats().evictions());
+	}
+
+	@Test
+	void lruGivesReadEntriesSecondChance () {
+		Memoizer<String, Integer, IOException> memoizer = builder().maximumSize(2).build(this::load);
+
+		memoizer.apply("a");
+		memoizer.apply("b");
+		memoizer.apply("a");
+		memoizer.apply("c");
+		loads.clear();
+		memoizer.apply("a");
+		memoizer.apply("c");
+
+		assertEquals(Collections.emptyList(), loads);
+		assertEquals(1, memoizer.stats().evictions());
+		assertEquals(2, memoizer.size());
+	}
+
+	@Test
+	void invalidatedEntriesDoNotCountTowardSize () {
+		Memoizer<String, Integer, IOException> memoizer = builder().maximumSize(2).build(this::load);
+
+		memoizer.apply("a");
+		memoizer.apply("b");
+		memoizer.invalidate("b");
+		memoizer.apply("c");
+		loads.clear();
+		memoizer.apply("a");
+		memoizer.apply("c");
+
+		assertEquals(Collections.emptyList(), loads);
+		assertEquals(0, memoizer.stats().evictions());
+	}
+
+	@Test
+	void staleSlotsAreSweptWithoutEvictingLiveEntries () {
+		Memoizer<String, Integer, IOException> memoizer = builder().maximumSize(4).build(this::load);
+
+		memoizer.apply("kept");
+		for (int i = 0; i < 100; i++) {
+			memoizer.apply("temporary");
+			memoizer.invalidate("temporary");
+		}
+		loads.clear();
+		memoizer.apply("kept");
+
+		assertEquals(Collections.emptyList(), loads);
+		assertEquals(1, memoizer.size());
+		assertEquals(0, memoizer.stats().evictions());
+	}
+
+	private Memoizer.Builder builder () {
+		return Memoizer.builder().clock(now::get);
+	}
+
+	private Integer load (String input) throws IOException {
+		loads.add(input);
+		if (failing.contains(input)) throw new IOException("cannot load " + input);
+		return input.length();
+	}
+}
@@ -0,0 +1,64 @@
+package pianissimo.jflowty.cache;
+
+import org.junit.jupiter.api.*;
+import pianissimo.jflowty.unions.*;
+
+import java.io.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void shutdown () {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void concurrentCallersShareOneCall () throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger runs = new AtomicInteger();
+		SingleFlight<String, Integer, InterruptedException> flight = SingleFlight.of(key -> {
+			runs.incrementAndGet();
+			release.await();
+			return key.length();
+		});
+
+		AsyncAttempt<Integer, InterruptedException> leader = flight.applyAsync("jflowty", executor);
+		AsyncAttempt<Integer, InterruptedException> follower = flight.applyAsync("jflowty", executor);
+		release.countDown();
+
+		assertEquals(7, leader.join().get());
+		assertEquals(7, follower.join().get());
+		assertEquals(1, runs.get());
+		assertEquals(1, flight.calls());
+		assertEquals(1, flight.shared());
+		assertEquals(0, flight.inFlight());
+	}
+
+	@Test
+	void nextCallRunsAgain () {
+		AtomicInteger runs = new AtomicInteger();
+		SingleFlight<String, Integer, IOException> flight = SingleFlight.of(key -> runs.incrementAndGet());
+
+		assertEquals(1, flight.apply("key").get());
+		assertEquals(2, flight.apply("key").get());
+	}
+
+	@Test
+	void rejectionCompletesExceptionally () {
+		ExecutorService closed = Executors.newSingleThreadExecutor();
+		closed.shutdown();
+		SingleFlight<String, Integer, IOException> flight = SingleFlight.of(String::length);
+
+		AsyncAttempt<Integer, IOException> rejected = flight.applyAsync("jflowty", closed);
+
+		CompletionException failure = assertThrows(CompletionException.class, rejected::join);
+		assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+		assertEquals(0, flight.inFlight());
+		assertEquals(7, flight.apply("jflowty").get());
+	}
+}
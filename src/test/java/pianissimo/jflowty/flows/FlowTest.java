@@ -0,0 +1,47 @@
+package pianissimo.jflowty.flows;
+
+import org.junit.jupiter.api.*;
+import pianissimo.jflowty.functions.conversions.*;
+import pianissimo.jflowty.unions.*;
+
+import java.io.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlowTest {
+
+	@Test
+	void fusedStagesMatchTheOptionChain () {
+		SuperFunction<String, Option<Integer>> flow = Flow.<String>of()
+				.map(String::trim)
+				.filter(value -> !value.isEmpty())
+				.map(String::length)
+				.toOption();
+
+		assertEquals(Option.of(7), flow.apply(" jflowty "));
+		assertTrue(flow.apply("   ").isEmpty());
+		assertTrue(flow.apply(null).isEmpty());
+	}
+
+	@Test
+	void tryMapExceptionsAreCaptured () {
+		IOException failure = new IOException("unreadable");
+		Flow<String, String> flow = Flow.<String>of().tryMap(value -> {
+			throw failure;
+		});
+
+		assertTrue(flow.toOption().apply("jflowty").isEmpty());
+		assertSame(failure, flow.toAttempt(IllegalStateException::new).apply("jflowty").getFailure());
+	}
+
+	@Test
+	void mapAndFilterExceptionsPropagate () {
+		Flow<String, Integer> flow = Flow.<String>of()
+				.map(value -> value.equals("bug") ? null : value)
+				.map(String::length)
+				.filter(length -> 10 / (length - 7) > 0);
+
+		assertThrows(ArithmeticException.class, () -> flow.toOption().apply("jflowty"));
+		assertThrows(NullPointerException.class, () -> flow.toAttempt(IllegalStateException::new).apply("bug"));
+	}
+}
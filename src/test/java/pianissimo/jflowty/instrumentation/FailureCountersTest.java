@@ -0,0 +1,148 @@
+package pianissimo.jflowty.instrumentation;
+
+import org.junit.jupiter.api.*;
+import pianissimo.jflowty.flows.*;
+import pianissimo.jflowty.unions.*;
+
+import java.io.*;
+import java.net.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FailureCountersTest {
+	private static final String SERVICE = "META-INF/services/" + Instrumentation.class.getName();
+
+	private final Instrumentation previous = Instrumentation.current();
+	private final FailureCounters counters = new FailureCounters();
+
+	@BeforeEach
+	void install () {
+		Instrumentation.install(counters);
+	}
+
+	@AfterEach
+	void restore () {
+		Instrumentation.install(previous);
+	}
+
+	@Test
+	void countsCapturedFailuresByClassAndOperation () {
+		Attempt.of(() -> {
+			throw new IOException("down");
+		});
+		Option.of("jflowty").tryMap(value -> {
+			throw new FileNotFoundException(value);
+		});
+		OptionInt.ofTry(() -> {
+			throw new IOException("down");
+		});
+		Flow.<String>of().tryMap(value -> {
+			throw new IOException(value);
+		}).toOption().apply("jflowty");
+
+		assertEquals(4, counters.getCaptured());
+		assertEquals(3, counters.captured(IOException.class));
+		assertEquals(1, counters.captured(FileNotFoundException.class));
+		Map<String, Long> byOperation = new TreeMap<>();
+		byOperation.put("Attempt.of", 1L);
+		byOperation.put("Flow.tryMap", 1L);
+		byOperation.put("Option.tryMap", 1L);
+		byOperation.put("OptionInt.ofTry", 1L);
+		assertEquals(byOperation, counters.getCapturedByOperation());
+		assertEquals(3L, counters.getCapturedByExceptionClass().get(IOException.class.getName()));
+	}
+
+	@Test
+	void countsRecoveriesOfEveryOptionFlavour () {
+		Option.<String>empty().recover(() -> "fallback");
+		OptionInt.empty().recover(() -> 1);
+		OptionInt.empty().tryRecover(() -> 1);
+		OptionLong.empty().recover(() -> 1L);
+		OptionLong.empty().tryRecover(() -> 1L, e -> 0L);
+		OptionDouble.empty().recover(() -> 1.0);
+		OptionDouble.empty().tryRecover(() -> 1.0);
+		OptionInt.of(1).recover(() -> 2);
+
+		Map<String, Long> byOperation = new TreeMap<>();
+		byOperation.put("Option.recover", 1L);
+		byOperation.put("OptionDouble.recover", 1L);
+		byOperation.put("OptionDouble.tryRecover", 1L);
+		byOperation.put("OptionInt.recover", 1L);
+		byOperation.put("OptionInt.tryRecover", 1L);
+		byOperation.put("OptionLong.recover", 1L);
+		byOperation.put("OptionLong.tryRecover", 1L);
+		assertEquals(byOperation, counters.getRecoveredByOperation());
+		assertEquals(7, counters.getRecovered());
+	}
+
+	@Test
+	void countsThrownAndResets () {
+		Attempt<String, IOException> failure = Attempt.failure(new IOException("down"));
+		assertThrows(RuntimeException.class, failure::getOrThrow);
+		failure.getOrRecover(e -> "fallback");
+
+		assertEquals(1, counters.getThrown());
+		assertEquals(1, counters.getRecovered());
+
+		counters.reset();
+		assertEquals(0, counters.getThrown());
+		assertEquals(0, counters.getRecovered());
+		assertEquals(Collections.emptyMap(), counters.getRecoveredByOperation());
+	}
+
+	@Test
+	void uninstalledHooksAreSkipped () {
+		Instrumentation.uninstall();
+		assertSame(Instrumentation.noop(), Instrumentation.current());
+
+		Attempt.of(() -> {
+			throw new IOException("down");
+		});
+
+		assertEquals(0, counters.getCaptured());
+	}
+
+	@Test
+	void serviceLoaderDiscoversInstrumentation () throws Exception {
+		assertEquals(Discovered.class.getName(), discover(Discovered.class.getName()));
+	}
+
+	@Test
+	void brokenServiceFileFallsBackToNoop () throws Exception {
+		String noop = Installed.NOOP.getClass().getName();
+
+		assertEquals(noop, discover("pianissimo.jflowty.instrumentation.Missing"));
+	}
+
+	/**
+	 * Initializes Instrumentation in a fresh class loader seeing a service file naming {@code provider}, and returns
+	 * the class name of the instrumentation it found.
+	 */
+	private static String discover (String provider) throws Exception {
+		Path services = Files.createTempDirectory("services");
+		Path file = services.resolve(SERVICE);
+		Files.createDirectories(file.getParent());
+		Files.write(file, Collections.singletonList(provider), StandardCharsets.UTF_8);
+		URL[] classpath = {
+				services.toUri().toURL(),
+				Instrumentation.class.getProtectionDomain().getCodeSource().getLocation(),
+				Discovered.class.getProtectionDomain().getCodeSource().getLocation()
+		};
+		Thread thread = Thread.currentThread();
+		ClassLoader context = thread.getContextClassLoader();
+		try (URLClassLoader loader = new URLClassLoader(classpath, ClassLoader.getSystemClassLoader().getParent())) {
+			thread.setContextClassLoader(loader);
+			Class<?> type = Class.forName(Instrumentation.class.getName(), true, loader);
+			Object current = type.getMethod("current").invoke(null);
+			assertNotSame(Instrumentation.class, type);
+			return current.getClass().getName();
+		} finally {
+			thread.setContextClassLoader(context);
+		}
+	}
+
+	public static final class Discovered implements Instrumentation {}
+}
@@ -0,0 +1,78 @@
+package pianissimo.jflowty.instrumentation;
+
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FailureLogTest {
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+	private final AtomicLong now = new AtomicLong();
+	private final List<FailureLog.Report> reports = new CopyOnWriteArrayList<>();
+
+	@Test
+	void samplesThenSummarizesByFingerprint () {
+		FailureLog log = builder().samplesPerWindow(1).build();
+
+		log.record("orders", new IOException("timed out after 1503 ms"));
+		log.record("orders", new IOException("timed out after 998 ms"));
+		log.record("orders", new IOException("timed out after 12 ms"));
+		log.record("users", null);
+		now.addAndGet(Duration.ofSeconds(30).toNanos());
+		log.close();
+
+		assertEquals(2, log.fingerprints());
+		assertEquals(3, reports.size(), reports::toString);
+		FailureLog.Report sample = reports.get(0);
+		assertFalse(sample.isSummary());
+		assertEquals("timed out after 1503 ms", sample.message());
+		assertEquals("Option.empty", reports.get(1).type());
+		FailureLog.Report summary = reports.get(2);
+		assertTrue(summary.isSummary());
+		assertEquals(3, summary.count());
+		assertEquals(2, summary.suppressed());
+		assertEquals(Duration.ofSeconds(30), summary.window());
+	}
+
+	@Test
+	void summaryOfEmptyWindowIsStillSummary () {
+		FailureLog log = builder().samplesPerWindow(0).build();
+
+		log.flush();
+		log.record("orders", new IOException("down"));
+		log.flush();
+		log.close();
+
+		assertEquals(1, reports.size(), reports::toString);
+		assertTrue(reports.get(0).isSummary());
+		assertEquals(Duration.ZERO, reports.get(0).window());
+	}
+
+	@Test
+	void failingOutputDoesNotBlockClose () {
+		FailureLog log = FailureLog.builder()
+				.queueCapacity(1)
+				.clock(now::get)
+				.output(report -> {
+					throw new AssertionError("broken output");
+				})
+				.build();
+
+		assertTimeoutPreemptively(TIMEOUT, () -> {
+			for (int i = 0; i < 10; i++) log.record("source " + i, new IOException("down"));
+			log.close();
+		});
+		assertEquals(10, log.recorded());
+		assertTrue(log.dropped() > 0);
+	}
+
+	private FailureLog.Builder builder () {
+		return FailureLog.builder().clock(now::get).output(reports::add);
+	}
+}
@@ -0,0 +1,144 @@
+package pianissimo.jflowty.instrumentation;
+
+import org.junit.jupiter.api.*;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+	private static final Duration TIMEOUT = Duration.ofSeconds(10);
+	private static final long MAX_VALUE = (1L << 42) - 1;
+
+	@Test
+	void valuesBelowThirtyTwoAreExact () {
+		assertEquals(31, only(31));
+		assertEquals(0, only(0));
+	}
+
+	@Test
+	void bucketWidthDoublesAtEachPowerOfTwo () {
+		assertEquals(32, only(32));
+		assertEquals(63, only(63));
+		assertEquals(65, only(64));
+		assertEquals(65, only(65));
+		assertEquals(67, only(66));
+	}
+
+	@Test
+	void outOfRangeValuesAreClamped () {
+		assertEquals(MAX_VALUE, only(Long.MAX_VALUE));
+		assertEquals(MAX_VALUE, only(MAX_VALUE));
+		assertEquals(0, only(-1));
+		assertEquals(0, only(Long.MIN_VALUE));
+	}
+
+	@Test
+	void reportedValuesNeverUnderstateAndStayWithinThreePercent () {
+		for (long value = 1; value < MAX_VALUE; value = value * 3 / 2 + 1) {
+			long reported = only(value);
+			assertTrue(reported >= value && reported <= value + value / 32, value + " reported as " + reported);
+		}
+	}
+
+	@Test
+	void percentilesMinMaxAndMean () {
+		LatencyHistogram histogram = LatencyHistogram.create();
+		for (long value = 1; value <= 30; value++) histogram.record(value);
+
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+		assertEquals(30, snapshot.count());
+		assertEquals(1, snapshot.min());
+		assertEquals(30, snapshot.max());
+		assertEquals(1, snapshot.percentile(0));
+		assertEquals(15, snapshot.p50());
+		assertEquals(27, snapshot.p90());
+		assertEquals(30, snapshot.p99());
+		assertEquals(30, snapshot.percentile(1));
+		assertEquals(15.5, snapshot.mean(), 1e-9);
+		assertThrows(IllegalArgumentException.class, () -> snapshot.percentile(1.5));
+		assertThrows(IllegalArgumentException.class, () -> snapshot.percentile(Double.NaN));
+	}
+
+	@Test
+	void emptySnapshotReportsZero () {
+		LatencyHistogram.Snapshot snapshot = LatencyHistogram.create().snapshot();
+
+		assertEquals(0, snapshot.count());
+		assertEquals(0, snapshot.p99());
+		assertEquals(0, snapshot.min());
+		assertEquals(0, snapshot.max());
+		assertEquals(0, snapshot.mean());
+	}
+
+	@Test
+	void mergeAddsCounts () {
+		LatencyHistogram fast = LatencyHistogram.create();
+		LatencyHistogram slow = LatencyHistogram.create();
+		for (int i = 0; i < 9; i++) fast.record(10);
+		slow.record(20);
+
+		LatencyHistogram.Snapshot merged = fast.snapshot().merge(slow.snapshot());
+
+		assertEquals(10, merged.count());
+		assertEquals(10, merged.min());
+		assertEquals(10, merged.p90());
+		assertEquals(20, merged.max());
+		assertEquals(9, fast.snapshot().count());
+	}
+
+	@Test
+	void snapshotAndResetDrainsCounts () {
+		LatencyHistogram histogram = LatencyHistogram.striped(3);
+		histogram.record(5);
+		histogram.record(7);
+
+		assertEquals(2, histogram.snapshotAndReset().count());
+		assertEquals(0, histogram.snapshot().count());
+		assertThrows(IllegalArgumentException.class, () -> LatencyHistogram.striped(0));
+	}
+
+	@Test
+	void concurrentRecordsAreNeverLostByReset () throws Exception {
+		LatencyHistogram histogram = LatencyHistogram.striped(4);
+		int threads = 4;
+		int perThread = 200_000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<?>> writers = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				long value = 1L << (t * 4);
+				writers.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < perThread; i++) histogram.record(value + i % 100);
+					return null;
+				}));
+			}
+
+			long drained = assertTimeoutPreemptively(TIMEOUT, () -> {
+				long total = 0;
+				start.countDown();
+				while (!writers.stream().allMatch(Future::isDone)) total += histogram.snapshotAndReset().count();
+				for (Future<?> writer : writers) writer.get();
+				return total + histogram.snapshotAndReset().count();
+			});
+
+			assertEquals((long) threads * perThread, drained);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static long only (long value) {
+		LatencyHistogram histogram = LatencyHistogram.create();
+		histogram.record(value);
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+		assertEquals(1, snapshot.count());
+		assertEquals(snapshot.min(), snapshot.max());
+		return snapshot.max();
+	}
+}
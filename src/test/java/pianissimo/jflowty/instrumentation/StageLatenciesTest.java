@@ -0,0 +1,72 @@
+package pianissimo.jflowty.instrumentation;
+
+import org.junit.jupiter.api.*;
+import pianissimo.jflowty.functions.checked.*;
+import pianissimo.jflowty.functions.conversions.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StageLatenciesTest {
+	private final AtomicLong now = new AtomicLong();
+	private final StageLatencies stages = StageLatencies.builder().clock(now::get).build();
+
+	@Test
+	void timedStagesRecordIntoTheirOwnHistogram () {
+		SuperFunction<String, Integer> parse = stages.timed("parse", input -> {
+			now.addAndGet(20);
+			return input.length();
+		});
+		SuperSupplier<String> load = stages.timed("load", () -> {
+			now.addAndGet(10);
+			return "jflowty";
+		});
+
+		assertEquals(7, parse.apply(load.get()));
+		assertEquals(7, parse.apply("flowing"));
+
+		Map<String, LatencyHistogram.Snapshot> snapshots = stages.snapshot();
+		assertEquals(Arrays.asList("load", "parse"), new ArrayList<>(snapshots.keySet()));
+		assertEquals(1, snapshots.get("load").count());
+		assertEquals(10, snapshots.get("load").max());
+		assertEquals(2, snapshots.get("parse").count());
+		assertEquals(20, snapshots.get("parse").p50());
+	}
+
+	@Test
+	void throwingStageIsStillRecorded () {
+		SuperFunction<String, Integer> broken = stages.timed("broken", input -> {
+			now.addAndGet(5);
+			throw new IllegalStateException("broken");
+		});
+		CheckedFunction<String, Integer, IOException> failing = stages.tryTimed("failing", input -> {
+			now.addAndGet(7);
+			throw new IOException("down");
+		});
+		SuperSupplier<String> empty = stages.timed("empty", () -> {
+			now.addAndGet(9);
+			throw new NoSuchElementException();
+		});
+
+		assertThrows(IllegalStateException.class, () -> broken.apply("jflowty"));
+		assertThrows(IOException.class, () -> failing.apply("jflowty"));
+		assertThrows(NoSuchElementException.class, empty::get);
+
+		assertEquals(5, stages.histogram("broken").snapshot().max());
+		assertEquals(7, stages.histogram("failing").snapshot().max());
+		assertEquals(9, stages.histogram("empty").snapshot().max());
+	}
+
+	@Test
+	void snapshotAndResetStartsNextInterval () {
+		stages.record("decode", 3);
+		stages.record("decode", 4);
+
+		assertEquals(2, stages.snapshotAndReset().get("decode").count());
+		assertEquals(0, stages.snapshot().get("decode").count());
+		assertEquals(Collections.singleton("decode"), stages.stages());
+	}
+}
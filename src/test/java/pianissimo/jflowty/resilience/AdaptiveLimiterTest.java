@@ -0,0 +1,289 @@
+package pianissimo.jflowty.resilience;
+
+import org.junit.jupiter.api.*;
+import pianissimo.jflowty.unions.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveLimiterTest {
+	private static final IOException LIMITED = new IOException("limited");
+
+	private final AtomicLong now = new AtomicLong();
+
+	@Test
+	void rejectsBeyondLimit () {
+		AdaptiveLimiter limiter = limiter(AdaptiveLimiter.aimd(2, 10));
+
+		Option<AdaptiveLimiter.Permit> first = limiter.tryAcquire();
+		Option<AdaptiveLimiter.Permit> second = limiter.tryAcquire();
+		assertTrue(first.isPresent() && second.isPresent());
+		assertTrue(limiter.tryAcquire().isEmpty());
+		assertEquals(1, limiter.rejectedCalls());
+		assertSame(LIMITED, limiter.call(() -> "value", () -> LIMITED).getFailure());
+
+		first.get().ignore();
+		assertEquals(1, limiter.inFlightCalls());
+		assertEquals("value", limiter.call(() -> "value", () -> LIMITED).get());
+	}
+
+	@Test
+	void permitIsReleasedOnlyOnce () throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			for (int round = 0; round < 500; round++) {
+				AdaptiveLimiter limiter = limiter(AdaptiveLimiter.aimd(100, 100));
+				AdaptiveLimiter.Permit permit = limiter.tryAcquire().get();
+				limiter.tryAcquire().get();
+				CyclicBarrier start = new CyclicBarrier(4);
+				List<Future<?>> releases = new ArrayList<>();
+				for (int i = 0; i < 4; i++) {
+					releases.add(executor.submit(() -> {
+						start.await();
+						permit.success();
+						return null;
+					}));
+				}
+				for (Future<?> release : releases) release.get(5, TimeUnit.SECONDS);
+				assertEquals(1, limiter.inFlightCalls());
+				limiter.tryAcquire().get().ignore();
+				assertEquals(1, limiter.inFlightCalls());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void errorFreesPermit () {
+		AdaptiveLimiter limiter = limiter(AdaptiveLimiter.aimd(1, 1));
+
+		assertThrows(AssertionError.class, () -> limiter.call(() -> {
+			throw new AssertionError("broken");
+		}, () -> LIMITED));
+		assertEquals(0, limiter.inFlightCalls());
+		assertEquals("value", limiter.call(() -> "value", () -> LIMITED).get());
+	}
+
+	@Test
+	void throwingDropIfFreesPermit () {
+		AdaptiveLimiter limiter = AdaptiveLimiter.builder()
+				.algorithm(AdaptiveLimiter.aimd(1, 1))
+				.dropIf(failure -> {
+					throw new IllegalStateException("broken predicate");
+				})
+				.build();
+
+		assertThrows(IllegalStateException.class, () -> limiter.call(() -> {
+			throw new IOException("down");
+		}, () -> LIMITED));
+		assertEquals(0, limiter.inFlightCalls());
+	}
+
+	@Test
+	void aimdBacksOffOnDropsAndGrowsUnderLoad () {
+		AdaptiveLimiter limiter = limiter(AdaptiveLimiter.aimd(10, 20, 0.5));
+
+		limiter.tryAcquire().get().dropped();
+		assertEquals(5, limiter.limit());
+
+		for (int i = 0; i < 200; i++) {
+			List<AdaptiveLimiter.Permit> permits = new ArrayList<>();
+			for (Option<AdaptiveLimiter.Permit> permit = limiter.tryAcquire(); permit.isPresent(); ) {
+				permits.add(permit.get());
+				permit = limiter.tryAcquire();
+			}
+			permits.forEach(AdaptiveLimiter.Permit::success);
+		}
+		assertEquals(20, limiter.limit());
+	}
+
+	@Test
+	void defaultAlgorithmIsNotSharedBetweenLimiters () {
+		AdaptiveLimiter.Builder builder = AdaptiveLimiter.builder().clock(now::get);
+		AdaptiveLimiter first = builder.build();
+		AdaptiveLimiter second = builder.build();
+
+		for (int i = 0; i < 10; i++) first.tryAcquire().get().dropped();
+		assertTrue(first.limit() < 20);
+		assertEquals(20, second.limit());
+		second.tryAcquire().get().success();
+		assertEquals(20, second.limit());
+	}
+
+	@Test
+	void aimdKeepsGoodputUnderOverload () {
+		assertConverges(AdaptiveLimiter.aimd(10, 1000));
+	}
+
+	@Test
+	void gradientKeepsGoodputUnderOverload () {
+		assertConverges(AdaptiveLimiter.gradient(10, 1000));
+	}
+
+	@Test
+	void unlimitedCollapsesUnderOverload () {
+		Simulation.Result overload = new Simulation(fixed(100_000), 42).run().overload;
+
+		assertTrue(overload.dropped > overload.good, () -> "Expected the baseline to collapse: " + overload);
+	}
+
+	/**
+	 * The backend serves {@link Simulation#CAPACITY} requests per second; offered twice that, the limiter must keep
+	 * most of the capacity as goodput with few timeouts, never admitting so many calls that queueing alone outlasts the
+	 * timeout, and admit nearly everything once the overload is over.
+	 */
+	private void assertConverges (AdaptiveLimiter.Algorithm algorithm) {
+		Simulation.Results results = new Simulation(algorithm, 42).run();
+
+		Simulation.Result overload = results.overload;
+		long capacity = (long) Simulation.CAPACITY * Simulation.MEASURED_SECONDS;
+		long queueingLimit = Simulation.CAPACITY * Simulation.TIMEOUT / Simulation.SECOND;
+		assertTrue(overload.good >= 0.8 * capacity, () -> "Goodput " + overload);
+		assertTrue(overload.dropped <= 0.05 * overload.good, () -> "Timeouts " + overload);
+		assertTrue(overload.maxLimit < queueingLimit, () -> "Limit " + overload);
+
+		Simulation.Result recovery = results.recovery;
+		assertEquals(0, recovery.dropped, () -> "Timeouts after recovery " + recovery);
+		assertTrue(recovery.rejected <= 0.01 * recovery.good, () -> "Rejections after recovery " + recovery);
+	}
+
+	private AdaptiveLimiter limiter (AdaptiveLimiter.Algorithm algorithm) {
+		return AdaptiveLimiter.builder().algorithm(algorithm).clock(now::get).build();
+	}
+
+	private static AdaptiveLimiter.Algorithm fixed (int limit) {
+		return new AdaptiveLimiter.Algorithm() {
+			@Override public int initialLimit () {
+				return limit;
+			}
+
+			@Override public int update (long latencyNanos, int inFlight, boolean dropped) {
+				return limit;
+			}
+		};
+	}
+
+	/**
+	 * Seeded discrete-event model of a backend with a fixed pool of workers behind the limiter: Poisson arrivals at
+	 * 1500/s, then 4000/s, then 1500/s again, with a request answered later than the client timeout counting as
+	 * dropped. The last seconds of the overload and of the recovery phase are measured.
+	 */
+	private static final class Simulation {
+		private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+		private static final long TIMEOUT = TimeUnit.MILLISECONDS.toNanos(200);
+		private static final long SERVICE_TIME = TimeUnit.MILLISECONDS.toNanos(10);
+		private static final int WORKERS = 20;
+		private static final int CAPACITY = (int) (WORKERS * SECOND / SERVICE_TIME);
+		private static final int PHASE_SECONDS = 10;
+		private static final int MEASURED_SECONDS = 5;
+
+		private final Random random;
+		private final PriorityQueue<Event> events = new PriorityQueue<>();
+		private final PriorityQueue<Long> workers = new PriorityQueue<>();
+		private final AdaptiveLimiter limiter;
+		private final Result overload = new Result();
+		private final Result recovery = new Result();
+		private long now;
+		private long sequence;
+
+		private Simulation (AdaptiveLimiter.Algorithm algorithm, long seed) {
+			this.random = new Random(seed);
+			this.limiter = AdaptiveLimiter.builder().algorithm(algorithm).clock(() -> now).build();
+			for (int i = 0; i < WORKERS; i++) workers.add(0L);
+		}
+
+		private Results run () {
+			schedule(new Event(0, null, false));
+			while (now < 3 * PHASE_SECONDS * SECOND) {
+				Event event = events.poll();
+				now = event.time;
+				if (event.permit == null) arrive();
+				else complete(event);
+			}
+			return new Results(overload, recovery);
+		}
+
+		private void arrive () {
+			Result measured = measured();
+			Option<AdaptiveLimiter.Permit> permit = limiter.tryAcquire();
+			if (permit.isPresent()) {
+				long start = Math.max(now, workers.poll());
+				long done = start + SERVICE_TIME / 2 + (long) (random.nextDouble() * SERVICE_TIME);
+				workers.add(done);
+				schedule(new Event(done, permit.get(), done - now > TIMEOUT));
+			} else if (measured != null) {
+				measured.rejected++;
+			}
+			if (measured != null) measured.maxLimit = Math.max(measured.maxLimit, limiter.limit());
+			double rate = now / SECOND / PHASE_SECONDS == 1 ? 4000 : 1500;
+			schedule(new Event(now + (long) (-Math.log(1 - random.nextDouble()) / rate * SECOND), null, false));
+		}
+
+		private void complete (Event event) {
+			Result measured = measured();
+			if (event.timedOut) {
+				event.permit.dropped();
+				if (measured != null) measured.dropped++;
+			} else {
+				event.permit.success();
+				if (measured != null) measured.good++;
+			}
+		}
+
+		private Result measured () {
+			long second = now / SECOND;
+			if (second % PHASE_SECONDS < PHASE_SECONDS - MEASURED_SECONDS) return null;
+			long phase = second / PHASE_SECONDS;
+			return phase == 1 ? overload : phase == 2 ? recovery : null;
+		}
+
+		private void schedule (Event event) {
+			event.sequence = sequence++;
+			events.add(event);
+		}
+
+		private static final class Results {
+			private final Result overload;
+			private final Result recovery;
+
+			private Results (Result overload, Result recovery) {
+				this.overload = overload;
+				this.recovery = recovery;
+			}
+		}
+
+		private static final class Result {
+			private long good;
+			private long dropped;
+			private long rejected;
+			private int maxLimit;
+
+			@Override public String toString () {
+				return String.format("good=%d, dropped=%d, rejected=%d, maxLimit=%d", good, dropped, rejected, maxLimit);
+			}
+		}
+
+		private static final class Event implements Comparable<Event> {
+			private final long time;
+			private final AdaptiveLimiter.Permit permit;
+			private final boolean timedOut;
+			private long sequence;
+
+			private Event (long time, AdaptiveLimiter.Permit permit, boolean timedOut) {
+				this.time = time;
+				this.permit = permit;
+				this.timedOut = timedOut;
+			}
+
+			@Override public int compareTo (Event other) {
+				int byTime = Long.compare(time, other.time);
+				return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+			}
+		}
+	}
+}
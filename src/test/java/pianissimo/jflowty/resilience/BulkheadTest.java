@@ -0,0 +1,75 @@
+package pianissimo.jflowty.resilience;
+
+import org.junit.jupiter.api.*;
+import pianissimo.jflowty.unions.*;
+
+import java.io.*;
+import java.time.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadTest {
+	private static final Exception FULL = new IOException("full");
+
+	@Test
+	void rejectsCallsBeyondLimit () throws Exception {
+		Bulkhead bulkhead = Bulkhead.of(1);
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Attempt<String, Exception>> running = executor.submit(() -> bulkhead.call(() -> {
+				entered.countDown();
+				release.await();
+				return "running";
+			}, () -> FULL));
+			assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+			assertEquals(1, bulkhead.inFlightCalls());
+			assertSame(FULL, bulkhead.call(() -> "rejected", () -> FULL).getFailure());
+			assertEquals(1, bulkhead.rejectedCalls());
+
+			release.countDown();
+			assertEquals("running", running.get(5, TimeUnit.SECONDS).get());
+			assertEquals(1, bulkhead.availablePermits());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void waitsUpToMaxWaitForPermit () throws Exception {
+		Bulkhead bulkhead = Bulkhead.of(1, Duration.ofSeconds(5));
+		CountDownLatch entered = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			executor.submit(() -> bulkhead.call(() -> {
+				entered.countDown();
+				Thread.sleep(50);
+				return "first";
+			}, () -> FULL));
+			assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+			assertEquals("second", bulkhead.call(() -> "second", () -> FULL).get());
+			assertEquals(0, bulkhead.rejectedCalls());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void releasesPermitWhenSupplierThrows () {
+		Bulkhead bulkhead = Bulkhead.of(1);
+
+		assertTrue(bulkhead.call(() -> {
+			throw new IOException("down");
+		}, () -> FULL).isFailure());
+		assertThrows(AssertionError.class, () -> bulkhead.call(() -> {
+			throw new AssertionError("broken");
+		}, () -> FULL));
+
+		assertEquals(1, bulkhead.availablePermits());
+		assertEquals(0, bulkhead.inFlightCalls());
+	}
+}
@@ -0,0 +1,102 @@
+package pianissimo.jflowty.resilience;
+
+import org.junit.jupiter.api.*;
+import pianissimo.jflowty.unions.*;
+
+import java.io.*;
+import java.time.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+	private static final IOException REJECTED = new IOException("open");
+	private static final IOException FAILURE = new IOException("down");
+
+	private final AtomicLong now = new AtomicLong();
+	private final CircuitBreaker breaker = CircuitBreaker.builder()
+			.countWindow(4)
+			.minimumCalls(4)
+			.failureRateThreshold(0.5)
+			.openDuration(Duration.ofSeconds(10))
+			.halfOpenCalls(2)
+			.clock(now::get)
+			.build();
+
+	@Test
+	void opensOnceFailureRateReachesThreshold () {
+		succeed();
+		succeed();
+		fail();
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+		fail();
+		assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+		assertSame(REJECTED, breaker.call(() -> "value", () -> REJECTED).getFailure());
+		assertEquals(1, breaker.rejectedCalls());
+	}
+
+	@Test
+	void trialSuccessesClose () {
+		open();
+		now.addAndGet(Duration.ofSeconds(10).toNanos());
+		succeed();
+		assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+		succeed();
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+	}
+
+	@Test
+	void trialFailureReopens () {
+		open();
+		now.addAndGet(Duration.ofSeconds(10).toNanos());
+		fail();
+		assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+	}
+
+	@Test
+	void trialPermitsAreLimited () {
+		open();
+		now.addAndGet(Duration.ofSeconds(10).toNanos());
+		Attempt<String, IOException> first = breaker.call(() -> {
+			Attempt<String, IOException> second = breaker.call(() -> {
+				assertSame(REJECTED, breaker.call(() -> "third", () -> REJECTED).getFailure());
+				return "second";
+			}, () -> REJECTED);
+			assertEquals("second", second.get());
+			return "first";
+		}, () -> REJECTED);
+		assertEquals("first", first.get());
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+	}
+
+	@Test
+	void errorInTrialReopensInsteadOfLeakingPermit () {
+		open();
+		for (int i = 0; i < 3; i++) {
+			now.addAndGet(Duration.ofSeconds(10).toNanos());
+			assertThrows(AssertionError.class, () -> breaker.call(() -> {
+				throw new AssertionError("broken");
+			}, () -> REJECTED));
+			assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+		}
+		now.addAndGet(Duration.ofSeconds(10).toNanos());
+		succeed();
+		succeed();
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+	}
+
+	private void open () {
+		for (int i = 0; i < 4; i++) fail();
+		assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+	}
+
+	private void succeed () {
+		assertEquals("value", breaker.call(() -> "value", () -> REJECTED).get());
+	}
+
+	private void fail () {
+		assertSame(FAILURE, breaker.call(() -> {
+			throw FAILURE;
+		}, () -> REJECTED).getFailure());
+	}
+}
@@ -0,0 +1,101 @@
+package pianissimo.jflowty.resilience;
+
+import org.junit.jupiter.api.*;
+import pianissimo.jflowty.functions.checked.*;
+
+import java.io.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgeTest {
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void shutdown () {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void slowCallIsHedged () throws Exception {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		Hedge hedge = hedge(executor);
+		List<CheckedSupplier<String, IOException>> replicas = Arrays.asList(() -> {
+			try {
+				Thread.sleep(TIMEOUT.toMillis());
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+			}
+			return "slow";
+		}, () -> "fast");
+
+		assertEquals("fast", hedge.call(replicas).get());
+		// the winner is counted before the loser is cancelled, but after the caller is released
+		assertTrue(interrupted.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+		assertEquals(1, hedge.hedgesFired());
+		assertEquals(1, hedge.hedgesWon());
+	}
+
+	@Test
+	void asyncHedgeFiresWhileSlowCallBlocks () {
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		try {
+			Hedge hedge = hedge(executor);
+			List<CheckedSupplier<String, InterruptedException>> replicas = Arrays.asList(() -> {
+				Thread.sleep(2 * TIMEOUT.toMillis());
+				return "slow";
+			}, () -> "fast");
+
+			String winner = assertTimeoutPreemptively(TIMEOUT, () -> hedge.callAsync(replicas, scheduler).join().get());
+
+			assertEquals("fast", winner);
+		} finally {
+			scheduler.shutdownNow();
+		}
+	}
+
+	@Test
+	void lastFailureWinsWhenAllFail () {
+		IOException first = new IOException("first");
+		IOException second = new IOException("second");
+		List<CheckedSupplier<String, IOException>> replicas = Arrays.asList(() -> {
+			throw first;
+		}, () -> {
+			throw second;
+		});
+
+		assertSame(second, hedge(executor).call(replicas).getFailure());
+	}
+
+	@Test
+	void rejectionIsRethrown () {
+		ExecutorService closed = Executors.newSingleThreadExecutor();
+		closed.shutdown();
+
+		assertThrows(RejectedExecutionException.class, () -> hedge(closed).call(() -> "value"));
+	}
+
+	@Test
+	void interruptCancelsAndKeepsFlag () {
+		Hedge hedge = hedge(executor);
+
+		Thread.currentThread().interrupt();
+		try {
+			assertThrows(CancellationException.class, () -> hedge.call(() -> {
+				Thread.sleep(TIMEOUT.toMillis());
+				return "value";
+			}));
+			assertTrue(Thread.currentThread().isInterrupted());
+		} finally {
+			Thread.interrupted();
+		}
+	}
+
+	private static Hedge hedge (Executor executor) {
+		return Hedge.builder().delay(Duration.ofMillis(20)).maxHedges(1).executor(executor).build();
+	}
+}
@@ -0,0 +1,58 @@
+package pianissimo.jflowty.resilience;
+
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+	private static final IOException LIMITED = new IOException("limited");
+
+	private final AtomicLong now = new AtomicLong();
+	private final RateLimiter limiter = RateLimiter.builder()
+			.permitsPerSecond(10)
+			.burst(3)
+			.clock(now::get)
+			.build();
+
+	@Test
+	void allowsBurstThenRejects () {
+		for (int i = 0; i < 3; i++) assertTrue(call());
+		assertFalse(call());
+		assertEquals(3, limiter.permittedCalls());
+		assertEquals(1, limiter.rejectedCalls());
+	}
+
+	@Test
+	void refillsOnePermitPerInterval () {
+		for (int i = 0; i < 3; i++) call();
+		now.addAndGet(TimeUnit.MILLISECONDS.toNanos(99));
+		assertFalse(call());
+		now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+		assertTrue(call());
+		assertFalse(call());
+	}
+
+	@Test
+	void idleTimeRefillsUpToBurstOnly () {
+		for (int i = 0; i < 3; i++) call();
+		now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+		for (int i = 0; i < 3; i++) assertTrue(call());
+		assertFalse(call());
+	}
+
+	@Test
+	void rejectedCallsDoNotConsumePermits () {
+		for (int i = 0; i < 3; i++) call();
+		for (int i = 0; i < 10; i++) assertFalse(call());
+		now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+		assertTrue(call());
+	}
+
+	private boolean call () {
+		return limiter.call(() -> "value", () -> LIMITED).isSuccess();
+	}
+}
@@ -0,0 +1,206 @@
+package pianissimo.jflowty.resilience;
+
+import org.junit.jupiter.api.*;
+import pianissimo.jflowty.unions.*;
+
+import java.io.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryTest {
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+	private static final IOException DOWN = new IOException("down");
+
+	private final AtomicLong now = new AtomicLong();
+	private final AtomicInteger calls = new AtomicInteger();
+	private final RecordingScheduler scheduler = new RecordingScheduler();
+
+	@AfterEach
+	void shutdown () {
+		scheduler.shutdownNow();
+	}
+
+	@Test
+	void backoffGrowsUpToMaxDelay () {
+		Retry retry = retry()
+				.maxAttempts(6)
+				.backoff(Duration.ofMillis(100), 2, Duration.ofMillis(500))
+				.build();
+
+		Attempt<String, IOException> outcome = retry.runAsync(this::failing, scheduler).join();
+
+		assertSame(DOWN, outcome.getFailure());
+		assertEquals(6, calls.get());
+		assertEquals(millis(100, 200, 400, 500, 500), scheduler.delays);
+	}
+
+	@Test
+	void jitterOnlyShortensDelays () {
+		Retry retry = retry()
+				.maxAttempts(50)
+				.fixedDelay(Duration.ofMillis(100))
+				.jitter(0.5)
+				.build();
+
+		retry.runAsync(this::failing, scheduler).join();
+
+		assertEquals(49, scheduler.delays.size());
+		for (long delay : scheduler.delays) {
+			assertTrue(delay > TimeUnit.MILLISECONDS.toNanos(50) && delay <= TimeUnit.MILLISECONDS.toNanos(100));
+		}
+	}
+
+	@Test
+	void stopsAtMaxAttempts () {
+		Retry retry = retry().maxAttempts(4).fixedDelay(Duration.ofNanos(1)).build();
+
+		assertSame(DOWN, retry.run(this::failing).getFailure());
+		assertEquals(4, calls.get());
+	}
+
+	@Test
+	void returnsFirstSuccess () {
+		Retry retry = retry().maxAttempts(5).fixedDelay(Duration.ofNanos(1)).build();
+
+		Attempt<Integer, IOException> outcome = retry.run(() -> {
+			if (calls.incrementAndGet() < 3) throw DOWN;
+			return calls.get();
+		});
+
+		assertEquals(3, outcome.get());
+	}
+
+	@Test
+	void stopsBeforeDelayWouldPassMaxElapsed () {
+		Retry retry = retry()
+				.maxAttempts(10)
+				.fixedDelay(Duration.ofMillis(10))
+				.maxElapsed(Duration.ofMillis(250))
+				.build();
+
+		// every call takes 100 ms on the fake clock: the third ends at 300 ms, past the budget
+		retry.runAsync(() -> {
+			now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+			return failing();
+		}, scheduler).join();
+
+		assertEquals(3, calls.get());
+		assertEquals(millis(10, 10), scheduler.delays);
+	}
+
+	@Test
+	void retryOnFiltersFailureTypes () {
+		Retry retry = retry()
+				.maxAttempts(5)
+				.fixedDelay(Duration.ofNanos(1))
+				.retryOn(FileNotFoundException.class)
+				.build();
+
+		assertSame(DOWN, retry.run(this::failing).getFailure());
+		assertEquals(1, calls.get());
+
+		calls.set(0);
+		assertTrue(retry.run(() -> {
+			calls.incrementAndGet();
+			throw new FileNotFoundException("gone");
+		}).getFailure() instanceof FileNotFoundException);
+		assertEquals(5, calls.get());
+	}
+
+	@Test
+	void interruptIsNeverRetried () {
+		Retry retry = retry().maxAttempts(5).fixedDelay(Duration.ofNanos(1)).build();
+
+		try {
+			Attempt<String, InterruptedException> outcome = retry.run(() -> {
+				calls.incrementAndGet();
+				throw new InterruptedException();
+			});
+
+			assertTrue(outcome.getFailure() instanceof InterruptedException);
+			assertEquals(1, calls.get());
+			assertTrue(Thread.currentThread().isInterrupted());
+		} finally {
+			Thread.interrupted();
+		}
+	}
+
+	@Test
+	void interruptIsNeverRetriedAsync () {
+		Retry retry = retry().maxAttempts(5).fixedDelay(Duration.ofNanos(1)).build();
+
+		Attempt<String, InterruptedException> outcome = retry.<String, InterruptedException>runAsync(() -> {
+			calls.incrementAndGet();
+			throw new InterruptedException();
+		}, scheduler).join();
+
+		assertTrue(outcome.getFailure() instanceof InterruptedException);
+		assertEquals(1, calls.get());
+		assertTrue(scheduler.delays.isEmpty());
+	}
+
+	@Test
+	void rejectedStartCompletesExceptionally () {
+		scheduler.shutdown();
+
+		AsyncAttempt<String, IOException> outcome = retry().build().runAsync(this::failing, scheduler);
+
+		CompletionException failure = assertThrows(CompletionException.class, outcome::join);
+		assertTrue(failure.getCause() instanceof RejectedExecutionException);
+		assertEquals(0, calls.get());
+	}
+
+	@Test
+	void rejectedRetryReturnsLastOutcome () {
+		scheduler.rejectSchedule = true;
+
+		Attempt<String, IOException> outcome = assertTimeoutPreemptively(
+				TIMEOUT,
+				() -> retry().maxAttempts(5).build().runAsync(this::failing, scheduler).join()
+		);
+
+		assertSame(DOWN, outcome.getFailure());
+		assertEquals(1, calls.get());
+	}
+
+	private Retry.Builder retry () {
+		return Retry.builder().jitter(0).clock(now::get);
+	}
+
+	private String failing () throws IOException {
+		calls.incrementAndGet();
+		throw DOWN;
+	}
+
+	private static List<Long> millis (long... delays) {
+		List<Long> nanos = new ArrayList<>();
+		for (long delay : delays) nanos.add(TimeUnit.MILLISECONDS.toNanos(delay));
+		return nanos;
+	}
+
+	/**
+	 * Records the delays retries are scheduled with and runs them right away.
+	 */
+	private static final class RecordingScheduler extends ScheduledThreadPoolExecutor {
+		private final List<Long> delays = new CopyOnWriteArrayList<>();
+		private volatile boolean rejectSchedule;
+
+		private RecordingScheduler () {
+			super(1);
+		}
+
+		@Override public void execute (Runnable command) {
+			super.schedule(command, 0, TimeUnit.NANOSECONDS);
+		}
+
+		@Override public ScheduledFuture<?> schedule (Runnable command, long delay, TimeUnit unit) {
+			if (rejectSchedule) throw new RejectedExecutionException("no timers");
+			delays.add(unit.toNanos(delay));
+			return super.schedule(command, 0, unit);
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package pianissimo.jflowty.unions;
+
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.time.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncAttemptTest {
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+	private static final IOException TIMED_OUT = new IOException("timed out");
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void shutdown () {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void defaultExecutorIsNotCommonPool () {
+		AsyncAttempt<Boolean, IOException> onCommonPool = AsyncAttempt.of(
+				() -> Thread.currentThread() instanceof ForkJoinWorkerThread
+		);
+
+		assertFalse(onCommonPool.join().get());
+	}
+
+	@Test
+	void stagesRunOnOutcome () {
+		Attempt<Integer, IOException> outcome = AsyncAttempt.<String, IOException>of(() -> "jflowty", executor)
+				.map(String::length)
+				.flatMap(length -> AsyncAttempt.success(length * 2, executor))
+				.filter(length -> length > 10, TIMED_OUT)
+				.join();
+
+		assertEquals(14, outcome.get());
+	}
+
+	@Test
+	void failureTravelsAsValue () {
+		IOException down = new IOException("down");
+
+		Attempt<Integer, IOException> outcome = AsyncAttempt.<String, IOException>of(() -> {
+			throw down;
+		}, executor).map(String::length).join();
+
+		assertSame(down, outcome.getFailure());
+		assertEquals(7, AsyncAttempt.<String, IOException>failure(down, executor).recover(e -> "jflowty")
+				.map(String::length)
+				.join()
+				.get());
+	}
+
+	@Test
+	void throwingStageCompletesExceptionally () {
+		AsyncAttempt<Integer, IOException> broken = AsyncAttempt.<String, IOException>success("jflowty", executor)
+				.map(value -> {
+					throw new IllegalStateException("broken");
+				});
+
+		CompletionException failure = assertThrows(CompletionException.class, broken::join);
+		assertInstanceOf(IllegalStateException.class, failure.getCause());
+	}
+
+	@Test
+	void timeoutCompletesPendingAttempt () {
+		CompletableFuture<Attempt<String, IOException>> never = new CompletableFuture<>();
+
+		AsyncAttempt<String, IOException> bounded = AsyncAttempt.of(never, executor)
+				.timeout(Duration.ofMillis(20), () -> TIMED_OUT);
+
+		assertSame(TIMED_OUT, assertTimeoutPreemptively(TIMEOUT, bounded::join).getFailure());
+	}
+
+	@Test
+	void timeoutKeepsOutcomeCompletedInTime () {
+		CompletableFuture<Attempt<String, IOException>> pending = new CompletableFuture<>();
+		AsyncAttempt<String, IOException> bounded = AsyncAttempt.of(pending, executor)
+				.timeout(TIMEOUT, () -> TIMED_OUT);
+
+		pending.complete(Attempt.success("jflowty"));
+
+		assertEquals("jflowty", bounded.join().get());
+	}
+
+	@Test
+	void timeoutCompletesWhenExecutorRejects () {
+		Executor rejecting = runnable -> {
+			throw new RejectedExecutionException("closed");
+		};
+		CompletableFuture<Attempt<String, IOException>> never = new CompletableFuture<>();
+		AsyncAttempt<String, IOException> bounded = AsyncAttempt.of(never, rejecting)
+				.timeout(Duration.ofMillis(20), () -> TIMED_OUT);
+
+		assertSame(TIMED_OUT, assertTimeoutPreemptively(TIMEOUT, bounded::join).getFailure());
+	}
+
+	@Test
+	void throwingOnTimeoutCompletesExceptionally () {
+		CompletableFuture<Attempt<String, IOException>> never = new CompletableFuture<>();
+		AsyncAttempt<String, IOException> bounded = AsyncAttempt.of(never, executor)
+				.timeout(Duration.ofMillis(20), () -> {
+					throw new IllegalStateException("broken supplier");
+				});
+
+		CompletionException failure = assertTimeoutPreemptively(
+				TIMEOUT,
+				() -> assertThrows(CompletionException.class, bounded::join)
+		);
+		assertInstanceOf(IllegalStateException.class, failure.getCause());
+	}
+
+	@Test
+	void throwingTerminalConsumerReachesUncaughtHandler () throws Exception {
+		CompletableFuture<Throwable> uncaught = new CompletableFuture<>();
+		ExecutorService reporting = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable);
+			thread.setUncaughtExceptionHandler((t, e) -> uncaught.complete(e));
+			return thread;
+		});
+		try {
+			AsyncAttempt.<String, IOException>success("jflowty", reporting).ifSuccessDo(value -> {
+				throw new IllegalStateException("broken consumer");
+			});
+
+			Throwable reported = uncaught.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+			assertEquals("broken consumer", reported.getMessage());
+		} finally {
+			reporting.shutdownNow();
+		}
+	}
+
+	@Test
+	void toValueFutureUnwrapsFailure () {
+		IOException down = new IOException("down");
+
+		CompletableFuture<String> value = AsyncAttempt.<String, IOException>failure(down, executor).toValueFuture();
+
+		assertSame(down, assertThrows(CompletionException.class, value::join).getCause());
+		assertEquals("jflowty", AsyncAttempt.<String, IOException>success("jflowty", executor).toValueFuture().join());
+	}
+}
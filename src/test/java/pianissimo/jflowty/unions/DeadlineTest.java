@@ -0,0 +1,76 @@
+package pianissimo.jflowty.unions;
+
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.time.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineTest {
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+	private static final IOException EXPIRED = new IOException("expired");
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final AtomicLong now = new AtomicLong();
+
+	@AfterEach
+	void shutdown () {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void expiredDeadlineFailsFast () {
+		Deadline deadline = Deadline.after(Duration.ofMillis(10), now::get);
+		now.addAndGet(Duration.ofMillis(10).toNanos());
+
+		assertSame(EXPIRED, deadline.run(() -> "value", () -> EXPIRED).getFailure());
+		assertSame(EXPIRED, deadline.run(() -> "value", executor, () -> EXPIRED).getFailure());
+	}
+
+	@Test
+	void timeoutCancelsSupplier () throws Exception {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		Deadline deadline = Deadline.after(Duration.ofMillis(50));
+
+		Attempt<String, IOException> outcome = deadline.run(() -> {
+			try {
+				Thread.sleep(TIMEOUT.toMillis());
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+			}
+			return "late";
+		}, executor, () -> EXPIRED);
+
+		assertSame(EXPIRED, outcome.getFailure());
+		assertTrue(interrupted.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	void rejectionIsRethrown () {
+		ExecutorService closed = Executors.newSingleThreadExecutor();
+		closed.shutdown();
+		Deadline deadline = Deadline.after(TIMEOUT);
+
+		assertThrows(RejectedExecutionException.class, () -> deadline.run(() -> "value", closed, () -> EXPIRED));
+	}
+
+	@Test
+	void interruptCancelsAndKeepsFlag () {
+		Deadline deadline = Deadline.after(TIMEOUT);
+
+		Thread.currentThread().interrupt();
+		try {
+			CancellationException cancelled = assertThrows(CancellationException.class, () -> deadline.run(() -> {
+				Thread.sleep(TIMEOUT.toMillis());
+				return "value";
+			}, executor, InterruptedException::new));
+			assertInstanceOf(InterruptedException.class, cancelled.getCause());
+			assertTrue(Thread.currentThread().isInterrupted());
+		} finally {
+			Thread.interrupted();
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package pianissimo.jflowty.unions;
+
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static pianissimo.jflowty.unions.FailureMode.*;
+
+class FailureModeTest {
+	private final FailureMode previous = FailureMode.global();
+
+	@AfterEach
+	void restoreGlobal () {
+		FailureMode.setGlobal(previous);
+	}
+
+	@Test
+	void stacklessLeavesStackTraceEmpty () {
+		Attempt<String, IOException> failure = Attempt.failure(new IOException("down"));
+
+		UnionTypeException wrongType = assertThrows(UnionTypeException.class, () -> failure.get(STACKLESS));
+		RuntimeException wrapped = assertThrows(RuntimeException.class, () -> failure.getOrThrow(STACKLESS));
+
+		assertEquals(0, wrongType.getStackTrace().length);
+		assertEquals(0, wrapped.getStackTrace().length);
+		assertSame(failure.getFailure(), wrapped.getCause());
+		assertEquals("java.io.IOException: down", wrapped.getMessage());
+		assertNotEquals(0, assertThrows(UnionTypeException.class, () -> failure.get(TRACED)).getStackTrace().length);
+	}
+
+	@Test
+	void sharedEmptyOptionExceptionRefusesSuppressed () {
+		UnionTypeException first = assertThrows(UnionTypeException.class, () -> Option.empty().get(STACKLESS));
+		UnionTypeException second = assertThrows(UnionTypeException.class, () -> Option.empty().get(STACKLESS));
+
+		assertSame(first, second);
+		first.addSuppressed(new IllegalStateException("cleanup failed"));
+		assertEquals(0, second.getSuppressed().length);
+		assertEquals("Option is of the wrong type: Empty", second.getMessage());
+		assertNotSame(first, assertThrows(UnionTypeException.class, () -> Option.empty().get(TRACED)));
+	}
+
+	@Test
+	void messageIsFormattedOnFirstRead () {
+		AtomicInteger formatted = new AtomicInteger();
+		Object payload = new Object() {
+			@Override public String toString () {
+				formatted.incrementAndGet();
+				return "payload";
+			}
+		};
+		Attempt<String, Object> failure = Attempt.failure(payload);
+
+		UnionTypeException wrongType = assertThrows(UnionTypeException.class, failure::get);
+		RuntimeException described = assertThrows(RuntimeException.class, () -> failure.getOrThrow(STACKLESS));
+		assertEquals(0, formatted.get());
+
+		assertEquals("Attempt is of the wrong type: Failure(payload)", wrongType.getMessage());
+		assertEquals("Attempt is of the wrong type: Failure(payload)", wrongType.getMessage());
+		assertEquals(1, formatted.get());
+		assertEquals("payload", described.getMessage());
+		assertEquals("payload", described.getMessage());
+		assertEquals(2, formatted.get());
+	}
+
+	@Test
+	void explicitModeIgnoresGlobal () {
+		Attempt<String, IOException> failure = Attempt.failure(new IOException("down"));
+
+		FailureMode.setGlobal(STACKLESS);
+		RuntimeException traced = assertThrows(RuntimeException.class, () -> failure.getOrThrow(TRACED));
+		assertNotEquals(0, traced.getStackTrace().length);
+		assertEquals(0, assertThrows(RuntimeException.class, failure::getOrThrow).getStackTrace().length);
+
+		FailureMode.setGlobal(TRACED);
+		RuntimeException stackless = assertThrows(RuntimeException.class, () -> failure.getOrThrow(STACKLESS));
+		assertEquals(0, stackless.getStackTrace().length);
+		assertNotEquals(0, assertThrows(RuntimeException.class, failure::getOrThrow).getStackTrace().length);
+	}
+
+	@Test
+	void globalModeRejectsNull () {
+		assertThrows(NullPointerException.class, () -> FailureMode.setGlobal(null));
+		assertSame(previous, FailureMode.global());
+	}
+}
@@ -0,0 +1,99 @@
+package pianissimo.jflowty.unions;
+
+import org.junit.jupiter.api.*;
+import pianissimo.jflowty.functions.checked.*;
+
+import java.io.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FanOutTest {
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void shutdown () {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void keepsInputOrder () {
+		List<CheckedSupplier<Integer, IOException>> suppliers = Arrays.asList(() -> 1, () -> 2, () -> 3);
+
+		assertEquals(Arrays.asList(1, 2, 3), Attempt.all(suppliers, executor).get());
+	}
+
+	@Test
+	void firstFailureCancelsSiblings () throws Exception {
+		IOException failure = new IOException("down");
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(1);
+		List<CheckedSupplier<Integer, IOException>> suppliers = Arrays.asList(
+				() -> {
+					started.countDown();
+					try {
+						Thread.sleep(TIMEOUT.toMillis());
+					} catch (InterruptedException e) {
+						interrupted.countDown();
+					}
+					return 1;
+				},
+				() -> {
+					awaitUninterruptibly(started);
+					throw failure;
+				}
+		);
+
+		assertSame(failure, Attempt.all(suppliers, executor).getFailure());
+		assertTrue(interrupted.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	void errorIsRethrownInsteadOfHanging () {
+		List<CheckedSupplier<Integer, IOException>> suppliers = Arrays.asList(() -> 1, () -> {
+			throw new AssertionError("broken");
+		});
+
+		assertTimeoutPreemptively(TIMEOUT, () -> {
+			AssertionError error = assertThrows(AssertionError.class, () -> Attempt.all(suppliers, executor));
+			assertEquals("broken", error.getMessage());
+		});
+	}
+
+	@Test
+	void rejectionIsRethrown () {
+		ExecutorService closed = Executors.newSingleThreadExecutor();
+		closed.shutdown();
+		List<CheckedSupplier<Integer, IOException>> suppliers = Arrays.asList(() -> 1, () -> 2);
+
+		assertThrows(RejectedExecutionException.class, () -> Attempt.all(suppliers, closed));
+	}
+
+	@Test
+	void interruptCancelsAndKeepsFlag () {
+		List<CheckedSupplier<Integer, InterruptedException>> suppliers = Collections.singletonList(() -> {
+			Thread.sleep(TIMEOUT.toMillis());
+			return 1;
+		});
+
+		Thread.currentThread().interrupt();
+		try {
+			assertThrows(CancellationException.class, () -> Attempt.all(suppliers, executor));
+			assertTrue(Thread.currentThread().isInterrupted());
+		} finally {
+			Thread.interrupted();
+		}
+	}
+
+	private static void awaitUninterruptibly (CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package pianissimo.jflowty.unions;
+
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
+import java.util.stream.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelTraverseTest {
+	private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+	private final ForkJoinPool pool = new ForkJoinPool(4);
+	private final AtomicInteger calls = new AtomicInteger();
+
+	@AfterEach
+	void shutdown () {
+		pool.shutdownNow();
+	}
+
+	@Test
+	void keepsInputOrderBelowAndAboveLeafSize () {
+		// with a parallelism of 4 leaves hold size / 32 elements, so 31 and below are split into single elements
+		for (int size : new int[] {0, 1, 2, 31, 32, 33, 1_000, 100_000}) {
+			List<Integer> inputs = range(size);
+			calls.set(0);
+
+			Attempt<List<Integer>, IOException> outcome = Attempt.parallelTryTraverse(inputs, this::doubled, pool);
+
+			assertEquals(doubled(inputs), outcome.get(), "size " + size);
+			assertEquals(size, calls.get(), "every input mapped once at size " + size);
+		}
+	}
+
+	@Test
+	void acceptsListsWithoutRandomAccess () {
+		List<Integer> inputs = new LinkedList<>(range(500));
+
+		assertEquals(doubled(inputs), Attempt.parallelTryTraverse(inputs, this::doubled, pool).get());
+		assertEquals(doubled(inputs), Attempt.parallelTryTraverseAll(inputs, this::doubled, pool).get());
+		assertEquals(doubled(inputs), Attempt.parallelTryTraverse(inputs, this::doubled).get());
+	}
+
+	@Test
+	void failFastCancelsRemainingSubtasks () {
+		int size = 100_000;
+		IOException first = new IOException("first");
+
+		Attempt<List<Integer>, IOException> outcome = assertTimeoutPreemptively(
+				TIMEOUT,
+				() -> Attempt.parallelTryTraverse(range(size), input -> {
+					calls.incrementAndGet();
+					if (input == 0) throw first;
+					LockSupport.parkNanos(100_000);
+					return input;
+				}, pool)
+		);
+
+		assertSame(first, outcome.getFailure());
+		assertTrue(calls.get() < size / 4, calls + " calls");
+	}
+
+	@Test
+	void collectAllRunsEveryInputAndKeepsFailureOrder () {
+		int size = 10_000;
+
+		Attempt<List<Integer>, List<IOException>> outcome = Attempt.parallelTryTraverseAll(range(size), input -> {
+			calls.incrementAndGet();
+			if (input % 1_000 == 999) throw new IOException(String.valueOf(input));
+			return input;
+		}, pool);
+
+		assertEquals(size, calls.get());
+		List<String> failures = outcome.getFailure().stream().map(Throwable::getMessage).collect(Collectors.toList());
+		assertEquals(
+				IntStream.range(0, 10).mapToObj(i -> String.valueOf(i * 1_000 + 999)).collect(Collectors.toList()),
+				failures
+		);
+	}
+
+	private Integer doubled (Integer input) throws IOException {
+		calls.incrementAndGet();
+		return input * 2;
+	}
+
+	private static List<Integer> doubled (List<Integer> inputs) {
+		return inputs.stream().map(input -> input * 2).collect(Collectors.toList());
+	}
+
+	private static List<Integer> range (int size) {
+		return IntStream.range(0, size).boxed().collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,183 @@
+package pianissimo.jflowty.unions;
+
+import org.junit.jupiter.api.*;
+import pianissimo.jflowty.instrumentation.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveOptionTest {
+	private final Instrumentation previous = Instrumentation.current();
+	private final List<String> captured = new CopyOnWriteArrayList<>();
+
+	@BeforeEach
+	void install () {
+		Instrumentation.install(new Instrumentation() {
+			@Override public void failureCaptured (String operation, Exception exception) {
+				captured.add(operation);
+			}
+		});
+	}
+
+	@AfterEach
+	void restore () {
+		Instrumentation.install(previous);
+	}
+
+	@Test
+	void emptyIntSkipsEveryStage () {
+		OptionInt empty = OptionInt.empty();
+
+		assertSame(empty, empty.map(value -> fail("mapped")));
+		assertSame(empty, empty.flatMap(value -> fail("flat-mapped")));
+		assertSame(empty, empty.tryMap(value -> fail("tried")));
+		assertSame(empty, empty.filter(value -> fail("filtered")));
+		assertTrue(empty.mapToObj(String::valueOf).isEmpty());
+		assertTrue(empty.tryMapToObj(String::valueOf).isEmpty());
+		assertEquals(3, empty.getOr(3));
+		assertEquals(4, empty.getOrFrom(() -> 4));
+		assertEquals(OptionInt.of(5), empty.recover(() -> 5));
+	}
+
+	@Test
+	void emptyGetThrowsPerFailureMode () {
+		assertSame(
+				assertThrows(UnionTypeException.class, () -> OptionInt.empty().get(FailureMode.STACKLESS)),
+				assertThrows(UnionTypeException.class, () -> OptionInt.empty().get(FailureMode.STACKLESS))
+		);
+		assertNotEquals(0, assertThrows(UnionTypeException.class, () -> OptionLong.empty().get(FailureMode.TRACED))
+				.getStackTrace().length);
+		UnionTypeException wrongType = assertThrows(
+				UnionTypeException.class,
+				() -> OptionDouble.empty().get(FailureMode.STACKLESS)
+		);
+		assertEquals("OptionDouble is of the wrong type: Empty", wrongType.getMessage());
+		IOException down = new IOException("down");
+		assertSame(down, assertThrows(RuntimeException.class, () -> OptionInt.empty().getOrThrow(down)).getCause());
+	}
+
+	@Test
+	void presentValuesFlowThroughStages () {
+		assertEquals(OptionInt.of(14), OptionInt.of(7).map(value -> value * 2).filter(value -> value > 10));
+		assertTrue(OptionInt.of(7).filter(value -> value > 10).isEmpty());
+		assertEquals(OptionLong.of(8), OptionLong.of(7).flatMap(value -> OptionLong.of(value + 1)));
+		assertEquals(OptionDouble.of(3.5), OptionDouble.of(7).map(value -> value / 2));
+		assertEquals(7, OptionInt.of(7).recover(() -> fail("recovered")).get());
+	}
+
+	@Test
+	void tryMapCapturesExceptionsToEmpty () {
+		assertTrue(OptionInt.of(7).tryMap(value -> {
+			throw new IOException("down");
+		}).isEmpty());
+		assertEquals(OptionLong.of(-1), OptionLong.of(7).tryMap(value -> {
+			throw new IOException("down");
+		}, e -> -1));
+		assertTrue(OptionDouble.of(7).tryMapToObj(value -> {
+			throw new IOException("down");
+		}).isEmpty());
+
+		assertEquals(Arrays.asList("OptionInt.tryMap", "OptionLong.tryMap", "OptionDouble.tryMapToObj"), captured);
+	}
+
+	@Test
+	void failedTryRecoverIsLabelledTryRecover () {
+		assertTrue(OptionInt.empty().tryRecover(() -> {
+			throw new IOException("down");
+		}).isEmpty());
+		assertTrue(OptionLong.empty().tryRecover(() -> {
+			throw new IOException("down");
+		}).isEmpty());
+		assertTrue(OptionDouble.empty().tryRecover(() -> {
+			throw new IOException("down");
+		}).isEmpty());
+		assertEquals(OptionInt.of(-1), OptionInt.empty().tryRecover(() -> {
+			throw new IOException("down");
+		}, e -> -1));
+		assertEquals(OptionInt.of(1), OptionInt.empty().tryRecover(() -> 1));
+
+		assertEquals(
+				Arrays.asList(
+						"OptionInt.tryRecover",
+						"OptionLong.tryRecover",
+						"OptionDouble.tryRecover",
+						"OptionInt.tryRecover"
+				),
+				captured
+		);
+	}
+
+	@Test
+	void optionMapsToPrimitiveOptions () {
+		Option<String> some = Option.of("jflowty");
+		Option<String> empty = Option.empty();
+
+		assertEquals(OptionInt.of(7), some.mapToInt(String::length));
+		assertEquals(OptionLong.of(7), some.mapToLong(String::length));
+		assertEquals(OptionDouble.of(3.5), some.mapToDouble(value -> value.length() / 2.0));
+		assertSame(OptionInt.empty(), empty.mapToInt(value -> fail("mapped")));
+		assertSame(OptionLong.empty(), empty.mapToLong(value -> fail("mapped")));
+		assertSame(OptionDouble.empty(), empty.mapToDouble(value -> fail("mapped")));
+	}
+
+	@Test
+	void optionTryMapsToPrimitiveOptionsCapturingExceptions () {
+		Option<String> some = Option.of("7");
+
+		assertEquals(OptionInt.of(7), some.tryMapToInt(this::parse));
+		assertEquals(OptionLong.of(7), some.tryMapToLong(this::parse));
+		assertEquals(OptionDouble.of(7), some.tryMapToDouble(this::parse));
+		assertTrue(captured.isEmpty());
+
+		Option<String> unparsable = Option.of("seven");
+		assertTrue(unparsable.tryMapToInt(this::parse).isEmpty());
+		assertTrue(unparsable.tryMapToLong(this::parse).isEmpty());
+		assertTrue(unparsable.tryMapToDouble(this::parse).isEmpty());
+		assertTrue(Option.<String>empty().tryMapToInt(value -> fail("tried")).isEmpty());
+
+		assertEquals(Arrays.asList("Option.tryMapToInt", "Option.tryMapToLong", "Option.tryMapToDouble"), captured);
+	}
+
+	@Test
+	void primitiveTryMapToObjCapturesExceptions () {
+		assertEquals(Option.of("7"), OptionInt.of(7).tryMapToObj(String::valueOf));
+		assertTrue(OptionInt.of(7).tryMapToObj(value -> null).isEmpty());
+		assertTrue(OptionInt.of(7).tryMapToObj(value -> {
+			throw new IOException("down");
+		}).isEmpty());
+		assertEquals(Option.of(8L), OptionLong.of(7).tryMapToObj(value -> value + 1));
+		assertTrue(OptionInt.empty().tryMapToObj(value -> fail("tried")).isEmpty());
+
+		assertEquals(Collections.singletonList("OptionInt.tryMapToObj"), captured);
+	}
+
+	@Test
+	void convertsToAndFromOptionAndOptional () {
+		assertEquals(OptionInt.of(7), OptionInt.of(Option.of(7)));
+		assertEquals(OptionInt.empty(), OptionInt.of(Option.<Integer>empty()));
+		assertEquals(OptionInt.of(7), OptionInt.of(OptionalInt.of(7)));
+		assertEquals(OptionLong.empty(), OptionLong.of(OptionalLong.empty()));
+		assertEquals(OptionDouble.of(0.5), OptionDouble.of(Option.of(0.5)));
+
+		assertEquals(Option.of(7), OptionInt.of(7).toOption());
+		assertEquals(OptionalLong.of(7), OptionLong.of(7).toOptional());
+		assertEquals(OptionalDouble.empty(), OptionDouble.empty().toOptional());
+		assertTrue(OptionInt.empty().toOption().isEmpty());
+
+		assertEquals(OptionLong.of(7), OptionInt.of(7).mapToLong(value -> value));
+		assertEquals(OptionDouble.of(7), OptionLong.of(7).mapToDouble(value -> value));
+		assertEquals(OptionInt.of(3), OptionDouble.of(3.9).mapToInt(value -> (int) value));
+		assertEquals(Option.of("7"), OptionInt.of(7).mapToObj(String::valueOf));
+	}
+
+	private int parse (String value) throws IOException {
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			throw new IOException(e);
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package pianissimo.jflowty.unions;
+
+import org.junit.jupiter.api.*;
+
+import java.lang.management.*;
+import java.util.function.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+class PropagationTest {
+	private static final int WARMUP = 20_000;
+	private static final int ITERATIONS = 100_000;
+
+	private final Option<String> some = Option.of("jflowty");
+	private final Option<String> empty = Option.empty();
+	private final Attempt<String, Exception> failure = Attempt.failure(new Exception("failure"));
+	private final Either<String, String> left = Either.left("jflowty");
+
+	private Object sink;
+
+	@Test
+	void emptyIsSingleton () {
+		assertSame(Option.empty(), Option.of((String) null));
+		assertSame(empty, empty.map(String::length));
+		assertSame(empty, empty.filter(value -> true));
+		assertSame(empty, empty.flatMap(Option::of));
+		assertSame(empty, Option.of("jflowty").filter(value -> false));
+	}
+
+	@Test
+	void passThroughBranchesReturnThis () {
+		assertSame(some, some.filter(value -> true));
+		assertSame(some, some.ifPresentPeek(value -> {}));
+		assertSame(some, some.recover(() -> "fallback"));
+		assertSame(failure, failure.map(String::length));
+		assertSame(failure, failure.flatMap(Attempt::success));
+		assertSame(failure, failure.ifSuccessPeek(value -> {}));
+		assertSame(left, left.mapRight(String::length));
+		assertSame(left, left.flatMapRight(Either::right));
+		assertSame(left, left.onRightPeek(value -> {}));
+	}
+
+	@Test
+	void emptyPropagationAllocatesNothing () {
+		assertNoAllocation(() -> empty
+				.map(String::length)
+				.filter(length -> length > 3)
+				.flatMap(length -> Option.of(length + 1)));
+	}
+
+	@Test
+	void someFilterAndPeekAllocatesNothing () {
+		assertNoAllocation(() -> some
+				.filter(value -> !value.isEmpty())
+				.ifPresentPeek(value -> {})
+				.recover(() -> "fallback"));
+	}
+
+	@Test
+	void failurePropagationAllocatesNothing () {
+		assertNoAllocation(() -> failure
+				.map(String::length)
+				.flatMap(length -> Attempt.success(length + 1))
+				.ifSuccessPeek(value -> {}));
+	}
+
+	@Test
+	void leftPropagationAllocatesNothing () {
+		assertNoAllocation(() -> left
+				.mapRight(String::length)
+				.flatMapRight(length -> Either.right(length + 1))
+				.onRightPeek(value -> {}));
+	}
+
+	@Test
+	void someGetOrAllocatesNothing () {
+		assertNoAllocation(() -> some.getOr("fallback"));
+	}
+
+	/**
+	 * Runs the chain in the interpreter and after warm-up, allowing less than one byte per call on average for the
+	 * counter's own noise.
+	 */
+	private void assertNoAllocation (Supplier<?> chain) {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		assumeTrue(threads instanceof com.sun.management.ThreadMXBean, "Allocation counters not available");
+		com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+		assumeTrue(allocations.isThreadAllocatedMemorySupported(), "Allocation counters not supported");
+		allocations.setThreadAllocatedMemoryEnabled(true);
+		long thread = Thread.currentThread().getId();
+
+		for (int i = 0; i < WARMUP; i++) sink = chain.get();
+		long before = allocations.getThreadAllocatedBytes(thread);
+		for (int i = 0; i < ITERATIONS; i++) sink = chain.get();
+		long allocated = allocations.getThreadAllocatedBytes(thread) - before;
+
+		assertNotNull(sink);
+		assertTrue(allocated < ITERATIONS, () -> allocated + " bytes allocated in " + ITERATIONS + " calls");
+	}
+}
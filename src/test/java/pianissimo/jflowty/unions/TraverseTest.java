@@ -0,0 +1,132 @@
+package pianissimo.jflowty.unions;
+
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraverseTest {
+	private static final List<String> INPUTS = Arrays.asList("a", "bb", "", "dddd", "");
+
+	private final List<String> visited = new ArrayList<>();
+
+	@Test
+	void attemptTraverseStopsAtFirstFailure () {
+		Attempt<List<Integer>, String> outcome = Attempt.traverse(INPUTS, this::attempt);
+
+		assertEquals("empty at 2", outcome.getFailure());
+		assertEquals(Arrays.asList("a", "bb", ""), visited);
+		assertEquals(Arrays.asList(1, 2, 4), Attempt.traverse(Arrays.asList("a", "bb", "dddd"), this::attempt).get());
+	}
+
+	@Test
+	void attemptTraverseAllCollectsEveryFailureInOrder () {
+		Attempt<List<Integer>, List<String>> outcome = Attempt.traverseAll(INPUTS, this::attempt);
+
+		assertEquals(Arrays.asList("empty at 2", "empty at 4"), outcome.getFailure());
+		assertEquals(INPUTS, visited);
+		assertEquals(Arrays.asList(1, 2), Attempt.traverseAll(Arrays.asList("a", "bb"), this::attempt).get());
+	}
+
+	@Test
+	void attemptSequenceKeepsOrder () {
+		List<Attempt<Integer, String>> attempts = Arrays.asList(
+				Attempt.success(3),
+				Attempt.success(1),
+				Attempt.success(2)
+		);
+		List<Attempt<Integer, String>> failing = Arrays.asList(
+				Attempt.success(3),
+				Attempt.failure("first"),
+				Attempt.failure("second")
+		);
+
+		assertEquals(Arrays.asList(3, 1, 2), Attempt.sequence(attempts).get());
+		assertEquals("first", Attempt.sequence(failing).getFailure());
+		assertEquals(Arrays.asList("first", "second"), Attempt.sequenceAll(failing).getFailure());
+	}
+
+	@Test
+	void tryTraverseCapturesExceptions () {
+		Attempt<List<Integer>, IOException> first = Attempt.tryTraverse(INPUTS, this::length);
+		visited.clear();
+		Attempt<List<Integer>, List<IOException>> all = Attempt.tryTraverseAll(INPUTS, this::length);
+
+		assertEquals("empty at 2", first.getFailure().getMessage());
+		assertEquals(2, all.getFailure().size());
+		assertEquals("empty at 4", all.getFailure().get(1).getMessage());
+		assertEquals(Arrays.asList(1, 2), Attempt.tryTraverse(Arrays.asList("a", "bb"), this::length).get());
+	}
+
+	@Test
+	void optionTraverseStopsAtFirstEmpty () {
+		Option<List<Integer>> outcome = Option.traverse(INPUTS, input -> {
+			visited.add(input);
+			return input.isEmpty() ? Option.empty() : Option.of(input.length());
+		});
+
+		assertTrue(outcome.isEmpty());
+		assertEquals(Arrays.asList("a", "bb", ""), visited);
+		assertEquals(Arrays.asList(1, 2), Option.sequence(Arrays.asList(Option.of(1), Option.of(2))).get());
+		assertTrue(Option.sequence(Arrays.asList(Option.of(1), Option.<Integer>empty())).isEmpty());
+		assertTrue(Option.tryTraverse(INPUTS, this::length).isEmpty());
+	}
+
+	@Test
+	void eitherTraverseStopsAtFirstLeftAndAllCollectsLefts () {
+		Either<String, List<Integer>> first = Either.traverse(INPUTS, this::either);
+		visited.clear();
+		Either<List<String>, List<Integer>> all = Either.traverseAll(INPUTS, this::either);
+
+		assertEquals("empty at 2", first.getLeft());
+		assertEquals(Arrays.asList("empty at 2", "empty at 4"), all.getLeft());
+		assertEquals(INPUTS, visited);
+		List<Either<String, Integer>> rights = Arrays.asList(Either.right(2), Either.right(1));
+		assertEquals(Arrays.asList(2, 1), Either.sequence(rights).getRight());
+		assertEquals(Arrays.asList(2, 1), Either.sequenceAll(rights).getRight());
+	}
+
+	@Test
+	void emptyInputsGiveEmptyLists () {
+		List<String> none = Collections.emptyList();
+
+		assertEquals(Collections.emptyList(), Attempt.traverse(none, this::attempt).get());
+		assertEquals(Collections.emptyList(), Attempt.traverseAll(none, this::attempt).get());
+		assertEquals(Collections.emptyList(), Attempt.tryTraverseAll(none, this::length).get());
+		assertEquals(Collections.emptyList(), Option.traverse(none, Option::of).get());
+		assertEquals(Collections.emptyList(), Either.traverseAll(none, this::either).getRight());
+		assertTrue(visited.isEmpty());
+	}
+
+	@Test
+	void arrayViewExposesOnlyItsSize () {
+		List<String> view = ArrayView.of(new Object[] {"a", "b", "unused"}, 2);
+
+		assertEquals(Arrays.asList("a", "b"), view);
+		assertEquals(Arrays.asList("a", "b").hashCode(), view.hashCode());
+		assertArrayEquals(new Object[] {"a", "b"}, view.toArray());
+		assertThrows(IndexOutOfBoundsException.class, () -> view.get(2));
+		assertThrows(IndexOutOfBoundsException.class, () -> view.get(-1));
+		assertThrows(UnsupportedOperationException.class, () -> view.add("c"));
+		assertThrows(UnsupportedOperationException.class, () -> view.set(0, "c"));
+		assertSame(ArrayView.of(new Object[4], 0), ArrayView.of(new Object[0], 0));
+	}
+
+	private Attempt<Integer, String> attempt (String input) {
+		visited.add(input);
+		return input.isEmpty() ? Attempt.failure("empty at " + (visited.size() - 1)) : Attempt.success(input.length());
+	}
+
+	private Either<String, Integer> either (String input) {
+		visited.add(input);
+		return input.isEmpty() ? Either.left("empty at " + (visited.size() - 1)) : Either.right(input.length());
+	}
+
+	private Integer length (String input) throws IOException {
+		visited.add(input);
+		if (input.isEmpty()) throw new IOException("empty at " + (visited.size() - 1));
+		return input.length();
+	}
+}
@@ -0,0 +1,105 @@
+package pianissimo.jflowty.instrumentation;
+
+import jdk.jfr.*;
+import jdk.jfr.consumer.*;
+import org.junit.jupiter.api.*;
+import pianissimo.jflowty.functions.checked.*;
+import pianissimo.jflowty.unions.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.time.*;
+import java.util.*;
+import java.util.stream.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against the packaged multi-release jar, where the JDK 11+ FlightRecorderEvents replaces the Java 8 one.
+ */
+class FlightRecorderEventsIT {
+	private final Instrumentation previous = Instrumentation.current();
+
+	@AfterEach
+	void restore () {
+		Instrumentation.install(previous);
+	}
+
+	@Test
+	void versionedClassIsLoaded () {
+		assertTrue(FlightRecorderEvents.isAvailable());
+	}
+
+	@Test
+	void installChainsToPreviousInstrumentation () throws Exception {
+		FailureCounters counters = new FailureCounters();
+		Instrumentation.install(counters);
+
+		FlightRecorderEvents.install();
+		Instrumentation emitter = Instrumentation.current();
+		FlightRecorderEvents.install();
+
+		assertNotSame(counters, emitter);
+		assertSame(emitter, Instrumentation.current());
+
+		List<RecordedEvent> events = record(
+				Arrays.asList("pianissimo.jflowty.FailureCaptured", "pianissimo.jflowty.RecoveryApplied"),
+				() -> Attempt.of(() -> {
+					throw new IOException("down");
+				}).recover(e -> "fallback")
+		);
+
+		assertEquals(1, counters.getCaptured());
+		assertEquals(1, counters.getRecovered());
+		RecordedEvent captured = only(events, "pianissimo.jflowty.FailureCaptured");
+		assertEquals("Attempt.of", captured.getString("operation"));
+		assertEquals("down", captured.getString("message"));
+		assertEquals(IOException.class.getName(), captured.getClass("exceptionClass").getName());
+		assertEquals("Attempt.recover", only(events, "pianissimo.jflowty.RecoveryApplied").getString("operation"));
+	}
+
+	@Test
+	void timedEmitsSlowStageAboveThreshold () throws Exception {
+		CheckedFunction<Long, Long, InterruptedException> slow = FlightRecorderEvents.timed("slow", millis -> {
+			Thread.sleep(millis);
+			return millis;
+		});
+		CheckedFunction<Long, Long, InterruptedException> fast = FlightRecorderEvents.timed("fast", millis -> millis);
+
+		List<RecordedEvent> events = record(Collections.singletonList("pianissimo.jflowty.SlowStage"), () -> {
+			assertEquals(30, slow.apply(30L));
+			assertEquals(1, fast.apply(1L));
+		});
+
+		RecordedEvent event = only(events, "pianissimo.jflowty.SlowStage");
+		assertEquals("slow", event.getString("stage"));
+		assertTrue(event.getDuration().compareTo(Duration.ofMillis(30)) >= 0, event::toString);
+	}
+
+	/**
+	 * Runs the action under a recording of the given events, with their default settings, and returns what was
+	 * recorded.
+	 */
+	private static List<RecordedEvent> record (List<String> eventNames, CheckedRunnable<Exception> action)
+			throws Exception {
+		Path file = Files.createTempFile("jflowty", ".jfr");
+		try (Recording recording = new Recording()) {
+			for (String name : eventNames) recording.enable(name);
+			recording.start();
+			action.run();
+			recording.stop();
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file);
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	private static RecordedEvent only (List<RecordedEvent> events, String name) {
+		List<RecordedEvent> named = events.stream()
+				.filter(event -> event.getEventType().getName().equals(name))
+				.collect(Collectors.toList());
+		assertEquals(1, named.size(), named::toString);
+		return named.get(0);
+	}
+}